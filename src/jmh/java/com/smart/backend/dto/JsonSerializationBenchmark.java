@@ -0,0 +1,70 @@
+package com.smart.backend.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.smart.backend.support.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 응답의 Jackson 직렬화 비용 (응답 스트림 대신 버리는 OutputStream 에 기록).
+ * - listAtOnce: List 전체를 한 번에 writeValue (페이지/최신 목록/랭킹 응답)
+ * - rowByRow: /market/list 스트리밍처럼 행마다 writer 로 기록
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonSerializationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter rowWriter;
+    private List<MarketAnalysisResponse> analyses;
+    private List<RankingItem> ranking;
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    @Setup
+    public void setUp() {
+        objectMapper = BenchmarkData.objectMapper();
+        rowWriter = objectMapper.writerFor(MarketAnalysisResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        analyses = BenchmarkData.analyses(rows);
+        ranking = BenchmarkData.ranking(rows);
+    }
+
+    @Benchmark
+    public void analysisListAtOnce() throws IOException {
+        objectMapper.writeValue(sink, analyses);
+    }
+
+    @Benchmark
+    public void analysisRowByRow() throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(sink)) {
+            generator.writeStartArray();
+            for (MarketAnalysisResponse row : analyses) {
+                rowWriter.writeValue(generator, row);
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    @Benchmark
+    public void rankingListAtOnce() throws IOException {
+        objectMapper.writeValue(sink, ranking);
+    }
+}
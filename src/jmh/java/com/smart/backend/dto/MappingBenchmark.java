@@ -0,0 +1,43 @@
+package com.smart.backend.dto;
+
+import com.smart.backend.entity.MarketAnalysis;
+import com.smart.backend.support.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DTO <-> 엔티티 변환 (워커 결과 저장 / 조회 응답 경로).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MappingBenchmark {
+
+    private MarketAnalysisResponse response;
+    private MarketAnalysis entity;
+
+    @Setup
+    public void setUp() {
+        response = BenchmarkData.analysis(new SplittableRandom(1), 1L, "무선 이어폰");
+        entity = MarketAnalysis.from(response);
+        entity.setId(1L);
+    }
+
+    @Benchmark
+    public MarketAnalysis analysisFromResponse() {
+        return MarketAnalysis.from(response);
+    }
+
+    @Benchmark
+    public MarketAnalysisResponse responseFromAnalysis() {
+        return MarketAnalysisResponse.from(entity);
+    }
+}
@@ -0,0 +1,68 @@
+package com.smart.backend.search;
+
+import com.smart.backend.service.KeywordNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /market/search 인덱스 조회 지연 (목표: 키워드 100만 개에서 1ms 미만).
+ * 키워드는 수식어 + 상품명 + 속성 조합의 합성 데이터이며, 흔한 단어("케이스")와 입력 중인 검색어("아이포", "ㅋ")를 함께 잽니다.
+ * 조회는 일치 항목 전체를 점수 순으로 고르므로, 흔한 단어일수록 느립니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class KeywordSearchIndexBenchmark {
+
+    private static final String[] MODIFIERS = {
+            "무선", "초경량", "대용량", "미니", "휴대용", "접이식", "프리미엄", "가성비", "스텐", "원목",
+            "방수", "저소음", "고속", "캠핑용", "차량용", "유아", "남성", "여성", "빅사이즈", "국산"
+    };
+    private static final String[] PRODUCTS = {
+            "이어폰", "캠핑 의자", "텀블러", "아이폰 케이스", "갤럭시 케이스", "가습기", "선풍기", "전기포트", "노트북 거치대", "키보드",
+            "마우스", "백팩", "크록스", "운동화", "요가매트", "덤벨", "에어프라이어", "후라이팬", "수납함", "행거",
+            "블루투스 스피커", "충전기", "보조배터리", "모니터", "책상", "의자", "침구", "커튼", "러그", "조명"
+    };
+    private static final String[] ATTRIBUTES = {
+            "", "세트", "1+1", "블랙", "화이트", "대형", "소형", "2024", "정품", "리필"
+    };
+
+    @Param({"1000000"})
+    public int keywords;
+
+    @Param({"캠핑", "아이포", "ㅋ", "무선 이어", "케이스", "없는검색어"})
+    public String query;
+
+    private KeywordSearchIndex index;
+    private String normalizedQuery;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        index = new KeywordSearchIndex();
+        for (int i = 0; i < keywords; i++) {
+            String keyword = MODIFIERS[random.nextInt(MODIFIERS.length)] + " "
+                    + PRODUCTS[random.nextInt(PRODUCTS.length)] + " "
+                    + ATTRIBUTES[random.nextInt(ATTRIBUTES.length)] + " " + i;
+            index.upsert(KeywordNormalizer.normalize(keyword), keyword, random.nextInt(101), i);
+        }
+        index.trimToSize();
+        normalizedQuery = KeywordNormalizer.normalize(query);
+    }
+
+    @Benchmark
+    public KeywordSearchIndex.Result search() {
+        return index.search(normalizedQuery, 20);
+    }
+}
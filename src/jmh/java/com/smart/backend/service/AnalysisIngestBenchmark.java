@@ -0,0 +1,78 @@
+package com.smart.backend.service;
+
+import com.smart.backend.dto.MarketAnalysisResponse;
+import com.smart.backend.repository.MarketAnalysisLatestRepositoryImpl;
+import com.smart.backend.support.BenchmarkData;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 워커 결과 저장 처리량 (행/초) - 로컬 H2(MySQL 모드) 기준.
+ * batchSize=1 은 건마다 트랜잭션 + INSERT + 최신 결과 upsert 를 하는 단건 수신 경로와 같은 왕복 수,
+ * batchSize=500 은 /market/analysis/batch 의 기본 청크 크기입니다.
+ * 절대값은 실제 MySQL(네트워크 왕복 포함)과 다르므로 두 경로의 비율을 보는 용도입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AnalysisIngestBenchmark {
+
+    private static final int ROWS = 1000;
+
+    @Param({"1", "500"})
+    public int batchSize;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private AnalysisIngestService ingestService;
+    private List<MarketAnalysisResponse> items;
+
+    @Setup
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:ingest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", true);
+        // 운영과 같은 스키마 (인덱스 포함) - db/migration 스크립트를 그대로 실행
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // JPA 없이 최신 결과 upsert 를 실제 JDBC 구현으로 실행
+        ingestService = new AnalysisIngestService(jdbcTemplate, new MarketAnalysisLatestRepositoryImpl(jdbcTemplate),
+                new DataSourceTransactionManager(dataSource), event -> { }, BenchmarkData.objectMapper(), batchSize);
+        // 키워드 200개가 반복되므로 최신 결과 upsert 는 INSERT 와 UPDATE 경로를 모두 탑니다.
+        items = BenchmarkData.analyses(ROWS, 200);
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE market_analysis");
+        jdbcTemplate.execute("TRUNCATE TABLE market_analysis_latest");
+    }
+
+    @TearDown
+    public void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int ingest() {
+        return ingestService.ingest(items).getSaved();
+    }
+}
@@ -0,0 +1,70 @@
+package com.smart.backend.service;
+
+import com.smart.backend.dto.RankingItem;
+import com.smart.backend.support.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /market/ranking/category 의 카테고리 필터 -> 정렬 -> 상위 10개 -> 순위 재부여.
+ * - perRequestPipeline: RankingIndex 도입 전 컨트롤러가 요청마다 하던 방식 (비교 기준)
+ * - snapshotBuild: 랭킹 갱신 시 한 번 드는 인덱스 구성 비용
+ * - snapshotLookup: 현재 요청당 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RankingCategoryBenchmark {
+
+    private static final int TOP_N = 10;
+
+    @Param({"500", "5000"})
+    public int rankingSize;
+
+    private List<RankingItem> ranking;
+    private RankingIndex.Snapshot snapshot;
+    private String categoryLabel;
+
+    @Setup
+    public void setUp() {
+        ranking = BenchmarkData.ranking(rankingSize);
+        snapshot = RankingIndex.Snapshot.build(ranking, TOP_N);
+        categoryLabel = BenchmarkData.CATEGORIES[3];
+    }
+
+    @Benchmark
+    public List<RankingItem> perRequestPipeline() {
+        String prefix = "[" + categoryLabel + "]";
+        // 이전 구현은 캐시 객체의 rank 를 직접 바꿨으므로, 결과가 누적되지 않도록 복사본에 순위를 부여
+        List<RankingItem> filtered = ranking.stream()
+                .filter(item -> item.getKeyword() != null && item.getKeyword().startsWith(prefix))
+                .sorted(Comparator.comparingInt(RankingItem::getRank))
+                .limit(TOP_N)
+                .map(item -> new RankingItem(item.getRank(), item.getKeyword(), item.getSearchRatio()))
+                .toList();
+        for (int i = 0; i < filtered.size(); i++) {
+            filtered.get(i).setRank(i + 1);
+        }
+        return filtered;
+    }
+
+    @Benchmark
+    public RankingIndex.Snapshot snapshotBuild() {
+        return RankingIndex.Snapshot.build(ranking, TOP_N);
+    }
+
+    @Benchmark
+    public List<RankingItem> snapshotLookup() {
+        return snapshot.category(categoryLabel);
+    }
+}
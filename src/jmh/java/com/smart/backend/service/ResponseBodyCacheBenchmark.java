@@ -0,0 +1,75 @@
+package com.smart.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smart.backend.cache.EncodedJson;
+import com.smart.backend.cache.LocalClusterBus;
+import com.smart.backend.support.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 랭킹 응답 본문 생성: 요청마다 Jackson 직렬화 vs ResponseBodyCache 의 미리 직렬화된 byte[].
+ * 처리량(ops/s)이 응답 본문 기준 초당 요청 수이며, -prof gc 의 gc.alloc.rate.norm 으로 요청당 할당량을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ResponseBodyCacheBenchmark {
+
+    @Param({"500", "5000"})
+    public int rankingSize;
+
+    private ObjectMapper objectMapper;
+    private RankingIndex rankingIndex;
+    private ResponseBodyCache responseBodyCache;
+    private String categoryLabel;
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    @Setup
+    public void setUp() {
+        objectMapper = BenchmarkData.objectMapper();
+        LocalClusterBus clusterBus = new LocalClusterBus();
+        // 스냅샷을 직접 넣어 두므로 MarketService(캐시/DB)는 호출되지 않습니다.
+        rankingIndex = new RankingIndex(null, clusterBus, 10, 3600);
+        rankingIndex.publish(1, BenchmarkData.ranking(rankingSize));
+        responseBodyCache = new ResponseBodyCache(null, rankingIndex, new DataVersionService(clusterBus, null, null, 30),
+                objectMapper, 1024);
+        categoryLabel = BenchmarkData.CATEGORIES[3];
+    }
+
+    @Benchmark
+    public void rankingJacksonPerRequest() throws IOException {
+        objectMapper.writeValue(sink, rankingIndex.current().getAll());
+    }
+
+    @Benchmark
+    public void rankingPreEncoded() throws IOException {
+        sink.write(responseBodyCache.ranking().json());
+    }
+
+    @Benchmark
+    public void rankingPreEncodedGzip() throws IOException {
+        EncodedJson body = responseBodyCache.ranking();
+        sink.write(body.hasGzip() ? body.gzip() : body.json());
+    }
+
+    @Benchmark
+    public void categoryJacksonPerRequest() throws IOException {
+        objectMapper.writeValue(sink, rankingIndex.current().category(categoryLabel));
+    }
+
+    @Benchmark
+    public void categoryPreEncoded() throws IOException {
+        sink.write(responseBodyCache.rankingCategory(categoryLabel).json());
+    }
+}
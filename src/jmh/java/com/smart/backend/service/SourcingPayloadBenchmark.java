@@ -0,0 +1,51 @@
+package com.smart.backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smart.backend.support.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQS 분석 요청 메시지 본문 {"keyword": "..."} 생성.
+ * - current: SourcingService 가 쓰는 AnalysisRequestPayload (요청마다 HashMap + ObjectMapper)
+ * - generator: Map 없이 JsonGenerator 로 직접 기록 (이스케이프 규칙은 동일)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SourcingPayloadBenchmark {
+
+    private ObjectMapper objectMapper;
+    private final String keyword = "아이폰 \"케이스\" 맥세이프";
+
+    @Setup
+    public void setUp() {
+        objectMapper = BenchmarkData.objectMapper();
+    }
+
+    @Benchmark
+    public String current() throws IOException {
+        return AnalysisRequestPayload.build(objectMapper, keyword);
+    }
+
+    @Benchmark
+    public String generator() throws IOException {
+        StringWriter writer = new StringWriter(64);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.writeStringField("keyword", keyword);
+            generator.writeEndObject();
+        }
+        return writer.toString();
+    }
+}
@@ -0,0 +1,64 @@
+package com.smart.backend.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분석 요청 경로에 추가된 인기 키워드 기록 비용 (목표: 요청당 1us 미만).
+ * 키워드 10만 종류 중 20% 가 요청의 80% 를 차지하는 분포이며, 단일/8 스레드 경합을 모두 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TrendingKeywordBenchmark {
+
+    private static final int KEYWORDS = 100_000;
+
+    private TrendingKeywordService service;
+    private String[] keywords;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private SplittableRandom random;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            random = new SplittableRandom(Thread.currentThread().getId());
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        service = new TrendingKeywordService(60, 60, 16, 64);
+        keywords = new String[KEYWORDS];
+        for (int i = 0; i < KEYWORDS; i++) {
+            keywords[i] = KeywordNormalizer.normalize("인기 키워드 " + i);
+        }
+    }
+
+    private String next(Cursor cursor) {
+        int hot = KEYWORDS / 5;
+        return cursor.random.nextInt(10) < 8 ? keywords[cursor.random.nextInt(hot)] : keywords[cursor.random.nextInt(KEYWORDS)];
+    }
+
+    @Benchmark
+    public void recordSingleThread(Cursor cursor) {
+        service.record(next(cursor));
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void recordContended(Cursor cursor) {
+        service.record(next(cursor));
+    }
+}
@@ -0,0 +1,75 @@
+package com.smart.backend.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smart.backend.dto.MarketAnalysisResponse;
+import com.smart.backend.dto.RankingItem;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크 공용 입력 데이터. 시드가 고정되어 있어 실행마다 같은 데이터가 만들어집니다.
+ */
+public final class BenchmarkData {
+
+    public static final String[] CATEGORIES = {
+            "패션의류", "패션잡화", "화장품/미용", "디지털/가전", "가구/인테리어",
+            "출산/육아", "식품", "스포츠/레저", "생활/건강", "여가/생활편의"
+    };
+    private static final String[] COMPETITION = {"낮음", "보통", "높음"};
+    private static final String[] ATTRACTIVENESS = {"낮음", "보통", "높음", "매우 높음"};
+
+    private BenchmarkData() {
+    }
+
+    // 운영과 같은 설정(JavaTimeModule, 날짜 ISO 문자열)의 ObjectMapper
+    public static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    public static MarketAnalysisResponse analysis(SplittableRandom random, long id, String keyword) {
+        int average = 5_000 + random.nextInt(195_000);
+        return new MarketAnalysisResponse(
+                id,
+                keyword,
+                CATEGORIES[random.nextInt(CATEGORIES.length)],
+                average,
+                average - random.nextInt(average / 2 + 1),
+                keyword + " 인기 상품 무료배송 당일출고 " + random.nextInt(1000),
+                40 + random.nextInt(60),
+                random.nextInt(2_000_000),
+                COMPETITION[random.nextInt(COMPETITION.length)],
+                random.nextInt(101),
+                ATTRACTIVENESS[random.nextInt(ATTRACTIVENESS.length)],
+                random.nextInt(101),
+                LocalDateTime.of(2025, 1, 1, 0, 0).plusSeconds(id * 37));
+    }
+
+    // distinctKeywords 개의 키워드가 반복되는 분석 결과 (최신 결과 upsert 가 갱신 경로도 타도록)
+    public static List<MarketAnalysisResponse> analyses(int rows, int distinctKeywords) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<MarketAnalysisResponse> list = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            list.add(analysis(random, i + 1, "키워드 " + (i % distinctKeywords)));
+        }
+        return list;
+    }
+
+    public static List<MarketAnalysisResponse> analyses(int rows) {
+        return analyses(rows, rows);
+    }
+
+    // "[카테고리] 상품명" 형식의 네이버 쇼핑 랭킹
+    public static List<RankingItem> ranking(int size) {
+        SplittableRandom random = new SplittableRandom(7);
+        List<RankingItem> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            list.add(new RankingItem(i + 1, "[" + category + "] 인기 검색어 " + i, 100 - (i * 100L / size)));
+        }
+        return list;
+    }
+}
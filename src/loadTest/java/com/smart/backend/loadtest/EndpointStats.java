@@ -0,0 +1,103 @@
+package com.smart.backend.loadtest;
+
+import com.smart.backend.stats.QuantileSketch;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 결과 집계.
+ * latency 는 "보냈어야 하는 시각"부터 응답까지(coordinated omission 보정),
+ * serviceTime 은 실제로 보낸 시각부터 응답까지입니다. 서버가 밀리면 두 값의 차이가 커집니다.
+ */
+class EndpointStats {
+
+    // 마이크로초 단위, 2^36us(약 19시간)까지
+    private static final int MAX_EXPONENT = 36;
+
+    private final QuantileSketch latency = new QuantileSketch(MAX_EXPONENT);
+    private final QuantileSketch serviceTime = new QuantileSketch(MAX_EXPONENT);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    void recordResponse(long intendedNanos, long sentNanos, long doneNanos, int status) {
+        record(intendedNanos, sentNanos, doneNanos, String.valueOf(status), isError(status));
+    }
+
+    void recordFailure(long intendedNanos, long sentNanos, long doneNanos, String reason) {
+        record(intendedNanos, sentNanos, doneNanos, reason, true);
+    }
+
+    // 클라이언트가 포화되어 보내지 못한 요청 (지연 시간 없이 오류로만 집계)
+    void recordNotSent(String reason) {
+        requests.increment();
+        errors.increment();
+        outcomes.computeIfAbsent(reason, key -> new LongAdder()).increment();
+    }
+
+    long requests() {
+        return requests.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    QuantileSketch latency() {
+        return latency;
+    }
+
+    Map<String, Object> toReport(double measuredSeconds) {
+        long total = requests.sum();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("requests", total);
+        report.put("throughputRps", round(total / measuredSeconds));
+        report.put("errors", errors.sum());
+        report.put("errorRate", total == 0 ? 0.0 : round((double) errors.sum() / total));
+        report.put("latencyMs", percentiles(latency));
+        report.put("serviceTimeMs", percentiles(serviceTime));
+        Map<String, Long> byOutcome = new LinkedHashMap<>();
+        outcomes.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> byOutcome.put(entry.getKey(), entry.getValue().sum()));
+        report.put("outcomes", byOutcome);
+        return report;
+    }
+
+    static Map<String, Object> percentiles(QuantileSketch sketch) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("p50", millis(sketch.quantile(0.50)));
+        values.put("p90", millis(sketch.quantile(0.90)));
+        values.put("p99", millis(sketch.quantile(0.99)));
+        values.put("p999", millis(sketch.quantile(0.999)));
+        values.put("max", millis(sketch.quantile(1.0)));
+        return values;
+    }
+
+    // 2xx/304 는 정상, 그 외(429/503 포함)는 오류
+    private static boolean isError(int status) {
+        return !(status >= 200 && status < 300) && status != 304;
+    }
+
+    private void record(long intendedNanos, long sentNanos, long doneNanos, String outcome, boolean error) {
+        latency.record(TimeUnit.NANOSECONDS.toMicros(doneNanos - intendedNanos));
+        serviceTime.record(TimeUnit.NANOSECONDS.toMicros(doneNanos - sentNanos));
+        requests.increment();
+        if (error) {
+            errors.increment();
+        }
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+}
@@ -0,0 +1,87 @@
+package com.smart.backend.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+/**
+ * 사용자 트래픽 구성 (MarketController 의 조회/요청 엔드포인트와 비중).
+ * 워커 트래픽(/market/analysis, /market/ranking/receive)은 SimulatedWorker 가 SQS 메시지에 반응해 보냅니다.
+ */
+class LoadScenario {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final String[] CATEGORIES = {"패션의류", "화장품/미용", "디지털/가전", "식품", "생활/건강"};
+
+    record Endpoint(String name, int weight, Function<SplittableRandom, HttpRequest> request) {
+    }
+
+    private final String baseUrl;
+    private final String[] keywords;
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private int totalWeight;
+
+    LoadScenario(String baseUrl, int keywordCount) {
+        this.baseUrl = baseUrl;
+        this.keywords = new String[keywordCount];
+        for (int i = 0; i < keywordCount; i++) {
+            keywords[i] = "부하 키워드 " + i;
+        }
+        add("GET /market/sourcing/test", 30, random -> get("/market/sourcing/test?keyword=" + encode(keyword(random))));
+        add("POST /market/sourcing/request", 5, random -> post("/market/sourcing/request?keyword=" + encode(keyword(random))));
+        add("GET /market/ranking", 20, random -> get("/market/ranking"));
+        add("GET /market/ranking/category", 15,
+                random -> get("/market/ranking/category?categoryLabel=" + encode(CATEGORIES[random.nextInt(CATEGORIES.length)])));
+        add("GET /market/list?size", 12, random -> get("/market/list?size=20"));
+        add("GET /market/list?view=latest", 12, random -> get("/market/list?view=latest&sort=score&size=50"));
+        add("GET /market/list (stream)", 1, random -> get("/market/list"));
+        add("GET /market/stats", 5, random -> get("/market/stats"));
+    }
+
+    List<Endpoint> endpoints() {
+        return endpoints;
+    }
+
+    Endpoint next(SplittableRandom random) {
+        int pick = random.nextInt(totalWeight);
+        for (Endpoint endpoint : endpoints) {
+            pick -= endpoint.weight();
+            if (pick < 0) {
+                return endpoint;
+            }
+        }
+        return endpoints.get(endpoints.size() - 1);
+    }
+
+    // 실제 트래픽처럼 일부 인기 키워드에 요청이 몰리도록: 80% 는 상위 10% 키워드
+    private String keyword(SplittableRandom random) {
+        int hot = Math.max(1, keywords.length / 10);
+        return random.nextInt(10) < 8 ? keywords[random.nextInt(hot)] : keywords[random.nextInt(keywords.length)];
+    }
+
+    private void add(String name, int weight, Function<SplittableRandom, HttpRequest> request) {
+        endpoints.add(new Endpoint(name, weight, request));
+        totalWeight += weight;
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT).GET().build();
+    }
+
+    private HttpRequest post(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
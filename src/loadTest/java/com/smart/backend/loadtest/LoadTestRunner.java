@@ -0,0 +1,87 @@
+package com.smart.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.smart.backend.BackendApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ./gradlew loadTest 진입점.
+ *
+ * 1. loadtest 프로파일(H2 + 로컬 SQS + Redis 없음)로 애플리케이션을 임의 포트에 띄웁니다.
+ * 2. 초기 랭킹/분석 결과를 넣고, 시뮬레이션 워커와 고정 도착률 부하를 동시에 돌립니다.
+ * 3. 처리량/지연 분위수/오류율을 JSON 리포트로 남기고, 기준을 넘으면 종료 코드 1 로 끝납니다.
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("loadtest")
+                .run("--server.port=0");
+        boolean passed;
+        try {
+            passed = run(context, settings);
+        } finally {
+            context.close();
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static boolean run(ConfigurableApplicationContext context, LoadTestSettings settings) throws Exception {
+        String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        SimulatedWorker worker = new SimulatedWorker(httpClient, objectMapper,
+                context.getBean(LocalSqsAsyncClient.class), settings, baseUrl);
+        worker.seed();
+
+        OpenLoadGenerator generator = new OpenLoadGenerator(httpClient, new LoadScenario(baseUrl, settings.getKeywordCount()), settings);
+        log.info("부하 테스트 시작 - {} rps, 워밍업 {}s, 측정 {}s", settings.getRps(),
+                settings.getWarmup().toSeconds(), settings.getDuration().toSeconds());
+        Instant startedAt = Instant.now();
+        worker.start(System.nanoTime() + settings.getWarmup().toNanos());
+        generator.run();
+        worker.stop();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("targetRps", settings.getRps());
+        config.put("warmupSeconds", settings.getWarmup().toSeconds());
+        config.put("durationSeconds", settings.getDuration().toSeconds());
+        config.put("maxOutstanding", settings.getMaxOutstanding());
+        config.put("workerDelayMs", settings.getWorkerDelay().toMillis());
+        report.put("startedAt", startedAt.toString());
+        report.put("config", config);
+        report.putAll(generator.report());
+        report.put("worker", worker.report());
+
+        EndpointStats overall = generator.overall();
+        double errorRate = overall.requests() == 0 ? 1.0 : (double) overall.errors() / overall.requests();
+        long p99Ms = TimeUnit.MICROSECONDS.toMillis(overall.latency().quantile(0.99));
+        boolean passed = errorRate <= settings.getMaxErrorRate()
+                && (settings.getMaxP99Ms() <= 0 || p99Ms <= settings.getMaxP99Ms());
+        report.put("passed", passed);
+
+        Files.createDirectories(settings.getReportFile().toAbsolutePath().getParent());
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(settings.getReportFile().toFile(), report);
+        log.info("부하 테스트 종료 - 요청 {}건, 오류율 {}, p99 {}ms, 리포트: {} ({})", overall.requests(),
+                String.format("%.4f", errorRate), p99Ms, settings.getReportFile().toAbsolutePath(), passed ? "통과" : "기준 초과");
+        return passed;
+    }
+}
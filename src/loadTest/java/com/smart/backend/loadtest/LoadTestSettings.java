@@ -0,0 +1,45 @@
+package com.smart.backend.loadtest;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정 (gradle -P 값이 loadtest.* 시스템 프로퍼티로 전달됨).
+ */
+@Getter
+public class LoadTestSettings {
+
+    // 목표 도착률 (초당 요청 수) - 응답 속도와 무관하게 이 속도로 요청을 보냅니다 (open model).
+    private final int rps;
+    private final Duration warmup;
+    private final Duration duration;
+    // 동시에 응답을 기다리는 요청 수 상한 (넘으면 보내지 않고 client-saturated 오류로 기록)
+    private final int maxOutstanding;
+    private final int keywordCount;
+    // 시뮬레이션 워커의 키워드당 분석 소요 시간
+    private final Duration workerDelay;
+    private final Duration rankingInterval;
+    private final Path reportFile;
+    // 배포 전 용량 검증 기준 (초과 시 종료 코드 1), maxP99Ms <= 0 이면 검사하지 않음
+    private final double maxErrorRate;
+    private final long maxP99Ms;
+
+    private LoadTestSettings() {
+        this.rps = Integer.getInteger("loadtest.rps", 200);
+        this.warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10));
+        this.duration = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60));
+        this.maxOutstanding = Integer.getInteger("loadtest.max-outstanding", 2000);
+        this.keywordCount = Integer.getInteger("loadtest.keywords", 500);
+        this.workerDelay = Duration.ofMillis(Long.getLong("loadtest.worker-delay-ms", 200));
+        this.rankingInterval = Duration.ofSeconds(Long.getLong("loadtest.ranking-interval-seconds", 10));
+        this.reportFile = Path.of(System.getProperty("loadtest.report", "build/reports/loadtest/report.json"));
+        this.maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+        this.maxP99Ms = Long.getLong("loadtest.max-p99-ms", 0);
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings();
+    }
+}
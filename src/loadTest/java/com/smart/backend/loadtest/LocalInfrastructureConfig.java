@@ -0,0 +1,26 @@
+package com.smart.backend.loadtest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+/**
+ * loadtest 프로파일 전용 외부 인프라 대체 빈.
+ * DB 는 application-loadtest.yml 의 H2(MySQL 모드), Redis 는 smart.cache.redis.enabled=false 로 대체합니다.
+ */
+@Configuration
+@Profile("loadtest")
+public class LocalInfrastructureConfig {
+
+    // spring-cloud-aws 의 SqsAsyncClient 자동 구성 대신 사용 (SqsTemplate/배치 전송기가 이 클라이언트를 사용)
+    // loadtest.sqs-latency-ms: 전송 1건당 흉내 낼 SQS 왕복 시간 (기본 0)
+    @Bean
+    @Primary
+    public LocalSqsAsyncClient sqsAsyncClient(@Value("${loadtest.sqs-latency-ms:0}") long sendLatencyMs) {
+        return new LocalSqsAsyncClient(Duration.ofMillis(sendLatencyMs));
+    }
+}
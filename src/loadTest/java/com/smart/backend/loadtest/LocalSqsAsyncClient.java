@@ -0,0 +1,152 @@
+package com.smart.backend.loadtest;
+
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesResponse;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlResponse;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트용 로컬 SQS 대체 클라이언트 (AWS 호출 없음).
+ * 보낸 메시지는 메모리 큐에 쌓이고 SimulatedWorker 나 리스너가 receiveMessage 로 가져갑니다.
+ * 큐가 비어 있으면 실제 SQS 롱 폴링처럼 잠시 기다렸다가 빈 응답을 돌려줍니다 (폴링 스핀 방지).
+ * sendLatency 를 주면 전송 응답을 그만큼 늦게 완료해 실제 SQS 왕복 시간만큼 요청 스레드가 묶이는 상황을 흉내 냅니다.
+ */
+public class LocalSqsAsyncClient implements SqsAsyncClient {
+
+    private static final long MAX_EMPTY_WAIT_MS = 1000;
+
+    private final LinkedBlockingQueue<Message> queue = new LinkedBlockingQueue<>();
+    private final LongAdder sent = new LongAdder();
+    private final long sendLatencyMs;
+
+    public LocalSqsAsyncClient(Duration sendLatency) {
+        this.sendLatencyMs = sendLatency.toMillis();
+    }
+
+    public long sentCount() {
+        return sent.sum();
+    }
+
+    public int depth() {
+        return queue.size();
+    }
+
+    // SimulatedWorker 용: 최대 timeoutMs 동안 기다려 최대 max 건을 꺼냅니다.
+    public List<Message> poll(int max, long timeoutMs) throws InterruptedException {
+        List<Message> messages = new ArrayList<>(max);
+        Message first = queue.poll(timeoutMs, TimeUnit.MILLISECONDS);
+        if (first != null) {
+            messages.add(first);
+            queue.drainTo(messages, max - 1);
+        }
+        return messages;
+    }
+
+    @Override
+    public CompletableFuture<SendMessageResponse> sendMessage(SendMessageRequest request) {
+        return delayed(SendMessageResponse.builder()
+                .messageId(store(request.messageBody()))
+                .build());
+    }
+
+    @Override
+    public CompletableFuture<SendMessageBatchResponse> sendMessageBatch(SendMessageBatchRequest request) {
+        List<SendMessageBatchResultEntry> successful = new ArrayList<>(request.entries().size());
+        request.entries().forEach(entry -> successful.add(SendMessageBatchResultEntry.builder()
+                .id(entry.id())
+                .messageId(store(entry.messageBody()))
+                .build()));
+        return delayed(SendMessageBatchResponse.builder().successful(successful).failed(List.of()).build());
+    }
+
+    @Override
+    public CompletableFuture<ReceiveMessageResponse> receiveMessage(ReceiveMessageRequest request) {
+        int max = request.maxNumberOfMessages() != null ? request.maxNumberOfMessages() : 1;
+        List<Message> messages = new ArrayList<>(max);
+        queue.drainTo(messages, max);
+        if (!messages.isEmpty()) {
+            return CompletableFuture.completedFuture(ReceiveMessageResponse.builder().messages(messages).build());
+        }
+        long waitMs = request.waitTimeSeconds() != null
+                ? Math.min(TimeUnit.SECONDS.toMillis(request.waitTimeSeconds()), MAX_EMPTY_WAIT_MS)
+                : 0;
+        return CompletableFuture.supplyAsync(() -> ReceiveMessageResponse.builder().messages(List.of()).build(),
+                CompletableFuture.delayedExecutor(waitMs, TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public CompletableFuture<DeleteMessageResponse> deleteMessage(DeleteMessageRequest request) {
+        return CompletableFuture.completedFuture(DeleteMessageResponse.builder().build());
+    }
+
+    @Override
+    public CompletableFuture<DeleteMessageBatchResponse> deleteMessageBatch(DeleteMessageBatchRequest request) {
+        List<DeleteMessageBatchResultEntry> successful = request.entries().stream()
+                .map(entry -> DeleteMessageBatchResultEntry.builder().id(entry.id()).build())
+                .toList();
+        return CompletableFuture.completedFuture(DeleteMessageBatchResponse.builder().successful(successful).build());
+    }
+
+    @Override
+    public CompletableFuture<GetQueueUrlResponse> getQueueUrl(GetQueueUrlRequest request) {
+        return CompletableFuture.completedFuture(GetQueueUrlResponse.builder()
+                .queueUrl("http://localhost/queue/" + request.queueName())
+                .build());
+    }
+
+    @Override
+    public CompletableFuture<GetQueueAttributesResponse> getQueueAttributes(GetQueueAttributesRequest request) {
+        return CompletableFuture.completedFuture(GetQueueAttributesResponse.builder().build());
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private <T> CompletableFuture<T> delayed(T response) {
+        if (sendLatencyMs <= 0) {
+            return CompletableFuture.completedFuture(response);
+        }
+        return CompletableFuture.supplyAsync(() -> response,
+                CompletableFuture.delayedExecutor(sendLatencyMs, TimeUnit.MILLISECONDS));
+    }
+
+    private String store(String body) {
+        String messageId = UUID.randomUUID().toString();
+        queue.add(Message.builder()
+                .messageId(messageId)
+                .receiptHandle(messageId)
+                .body(body)
+                .build());
+        sent.increment();
+        return messageId;
+    }
+}
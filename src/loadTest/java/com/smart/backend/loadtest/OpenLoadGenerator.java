@@ -0,0 +1,112 @@
+package com.smart.backend.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 고정 도착률(open model) 부하 생성기.
+ *
+ * i 번째 요청의 예정 시각은 start + i / rps 로 미리 정해져 있고, 응답을 기다리지 않고 비동기로 보냅니다.
+ * 생성기나 서버가 밀려 늦게 보내더라도 지연 시간은 예정 시각부터 재므로 coordinated omission 이 보정됩니다.
+ * 워밍업 구간에 예정된 요청은 집계에서 제외합니다.
+ */
+@Slf4j
+class OpenLoadGenerator {
+
+    private final HttpClient httpClient;
+    private final LoadScenario scenario;
+    private final LoadTestSettings settings;
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+    private final EndpointStats overall = new EndpointStats();
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    OpenLoadGenerator(HttpClient httpClient, LoadScenario scenario, LoadTestSettings settings) {
+        this.httpClient = httpClient;
+        this.scenario = scenario;
+        this.settings = settings;
+        scenario.endpoints().forEach(endpoint -> stats.put(endpoint.name(), new EndpointStats()));
+    }
+
+    void run() throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(2024);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(settings.getRps(), 1);
+        long start = System.nanoTime();
+        long measureFrom = start + settings.getWarmup().toNanos();
+        long end = measureFrom + settings.getDuration().toNanos();
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            boolean measured = intended >= measureFrom;
+            send(scenario.next(random), random, intended, measured);
+        }
+        awaitOutstanding();
+    }
+
+    Map<String, Object> report() {
+        double seconds = settings.getDuration().toMillis() / 1000.0;
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("overall", overall.toReport(seconds));
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        stats.forEach((name, endpointStats) -> endpoints.put(name, endpointStats.toReport(seconds)));
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    EndpointStats overall() {
+        return overall;
+    }
+
+    private void send(LoadScenario.Endpoint endpoint, SplittableRandom random, long intended, boolean measured) {
+        EndpointStats endpointStats = stats.get(endpoint.name());
+        if (outstanding.get() >= settings.getMaxOutstanding()) {
+            if (measured) {
+                endpointStats.recordNotSent("client-saturated");
+                overall.recordNotSent("client-saturated");
+            }
+            return;
+        }
+        outstanding.incrementAndGet();
+        long sent = System.nanoTime();
+        httpClient.sendAsync(endpoint.request().apply(random), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    long done = System.nanoTime();
+                    outstanding.decrementAndGet();
+                    if (!measured) {
+                        return;
+                    }
+                    if (error != null) {
+                        String reason = error.getClass().getSimpleName();
+                        endpointStats.recordFailure(intended, sent, done, reason);
+                        overall.recordFailure(intended, sent, done, reason);
+                    } else {
+                        endpointStats.recordResponse(intended, sent, done, response.statusCode());
+                        overall.recordResponse(intended, sent, done, response.statusCode());
+                    }
+                });
+    }
+
+    private void awaitOutstanding() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (outstanding.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        if (outstanding.get() > 0) {
+            log.warn("응답을 받지 못한 요청 {}건을 남기고 종료합니다.", outstanding.get());
+        }
+    }
+}
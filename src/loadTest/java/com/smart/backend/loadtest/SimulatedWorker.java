@@ -0,0 +1,195 @@
+package com.smart.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.sqs.model.Message;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Python 워커 대역.
+ * 로컬 SQS 큐에서 분석 요청을 꺼내 workerDelay 뒤 /market/analysis 로 결과를 보내고,
+ * 주기적으로 /market/ranking/receive 와 /market/analysis/batch 를 호출합니다.
+ */
+@Slf4j
+class SimulatedWorker {
+
+    static final String ANALYSIS = "worker POST /market/analysis";
+    static final String ANALYSIS_BATCH = "worker POST /market/analysis/batch";
+    static final String RANKING = "worker POST /market/ranking/receive";
+
+    private static final String[] CATEGORIES = {"패션의류", "화장품/미용", "디지털/가전", "식품", "생활/건강"};
+    private static final int RANKING_SIZE = 300;
+    private static final int BATCH_SIZE = 100;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final LocalSqsAsyncClient sqs;
+    private final LoadTestSettings settings;
+    private final String baseUrl;
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    private volatile long measureFrom = Long.MAX_VALUE;
+    private volatile boolean running = true;
+    private Thread consumer;
+
+    SimulatedWorker(HttpClient httpClient, ObjectMapper objectMapper, LocalSqsAsyncClient sqs,
+                    LoadTestSettings settings, String baseUrl) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.sqs = sqs;
+        this.settings = settings;
+        this.baseUrl = baseUrl;
+        stats.put(ANALYSIS, new EndpointStats());
+        stats.put(ANALYSIS_BATCH, new EndpointStats());
+        stats.put(RANKING, new EndpointStats());
+    }
+
+    // 조회 엔드포인트가 빈 결과만 돌려주지 않도록 초기 랭킹/분석 결과를 동기로 넣어 둡니다.
+    void seed() throws IOException, InterruptedException {
+        SplittableRandom random = new SplittableRandom(1);
+        sendSync("/market/ranking/receive", ranking(random));
+        for (int i = 0; i < 5; i++) {
+            sendSync("/market/analysis/batch", batch(random, "초기 키워드 " + i));
+        }
+    }
+
+    void start(long measureFromNanos) {
+        this.measureFrom = measureFromNanos;
+        consumer = new Thread(this::consume, "simulated-worker");
+        consumer.setDaemon(true);
+        consumer.start();
+        long rankingMs = settings.getRankingInterval().toMillis();
+        scheduler.scheduleAtFixedRate(() -> post(RANKING, "/market/ranking/receive",
+                ranking(new SplittableRandom())), rankingMs, rankingMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleAtFixedRate(() -> post(ANALYSIS_BATCH, "/market/analysis/batch",
+                batch(new SplittableRandom(), "배치 키워드")), 5, 5, TimeUnit.SECONDS);
+    }
+
+    void stop() throws InterruptedException {
+        running = false;
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        if (consumer != null) {
+            consumer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    Map<String, Object> report() {
+        double seconds = settings.getDuration().toMillis() / 1000.0;
+        Map<String, Object> report = new LinkedHashMap<>();
+        stats.forEach((name, endpointStats) -> report.put(name, endpointStats.toReport(seconds)));
+        report.put("sqsMessagesSent", sqs.sentCount());
+        report.put("sqsQueueDepthAtEnd", sqs.depth());
+        return report;
+    }
+
+    private void consume() {
+        while (running) {
+            try {
+                for (Message message : sqs.poll(10, 200)) {
+                    String keyword = objectMapper.readTree(message.body()).path("keyword").asText();
+                    scheduler.schedule(() -> post(ANALYSIS, "/market/analysis",
+                                    analysis(ThreadLocalRandom.current().nextInt(), keyword)),
+                            settings.getWorkerDelay().toMillis(), TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException e) {
+                log.warn("잘못된 SQS 메시지: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void post(String name, String path, Object body) {
+        EndpointStats endpointStats = stats.get(name);
+        long sent = System.nanoTime();
+        boolean measured = sent >= measureFrom;
+        HttpRequest request;
+        try {
+            request = jsonPost(path, body);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    if (!measured) {
+                        return;
+                    }
+                    long done = System.nanoTime();
+                    if (error != null) {
+                        endpointStats.recordFailure(sent, sent, done, error.getClass().getSimpleName());
+                    } else {
+                        endpointStats.recordResponse(sent, sent, done, response.statusCode());
+                    }
+                });
+    }
+
+    private void sendSync(String path, Object body) throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(jsonPost(path, body), HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("초기 데이터 전송 실패: " + path + " -> " + response.statusCode());
+        }
+    }
+
+    private HttpRequest jsonPost(String path, Object body) throws IOException {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private static List<Map<String, Object>> ranking(SplittableRandom random) {
+        List<Map<String, Object>> items = new ArrayList<>(RANKING_SIZE);
+        for (int i = 0; i < RANKING_SIZE; i++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("rank", i + 1);
+            item.put("keyword", "[" + CATEGORIES[random.nextInt(CATEGORIES.length)] + "] 인기 검색어 " + random.nextInt(1000));
+            item.put("searchRatio", 100 - (i * 100 / RANKING_SIZE));
+            items.add(item);
+        }
+        return items;
+    }
+
+    private static List<Map<String, Object>> batch(SplittableRandom random, String prefix) {
+        List<Map<String, Object>> items = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            items.add(analysis(random.nextInt(), prefix + " " + i));
+        }
+        return items;
+    }
+
+    private static Map<String, Object> analysis(int seed, String keyword) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int average = 5_000 + random.nextInt(195_000);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("searchKeyword", keyword);
+        result.put("category", CATEGORIES[random.nextInt(CATEGORIES.length)]);
+        result.put("averagePrice", average);
+        result.put("lowestPrice", average / 2);
+        result.put("topItemName", keyword + " 인기 상품");
+        result.put("sampleCount", 100);
+        result.put("totalListings", random.nextInt(1_000_000));
+        result.put("competitionLevel", "보통");
+        result.put("searchVolumeRatio", random.nextInt(101));
+        result.put("marketAttractiveness", "보통");
+        result.put("sourcingScore", random.nextInt(101));
+        return result;
+    }
+}
@@ -0,0 +1,168 @@
+package com.smart.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.smart.backend.BackendApplication;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * ./gradlew startupBenchmark 진입점.
+ *
+ * 매 회 새 프로세스로 애플리케이션을 띄우고, 프로세스 시작부터 GET / (HealthController) 가 처음 200 을 돌려줄 때까지의
+ * 시간을 잽니다. ALB 헬스체크 통과까지 걸리는 시간과 같은 기준입니다.
+ *
+ * - 기본: 이 JVM 과 같은 클래스패스로 loadtest 프로파일(H2 + 로컬 SQS + Redis 없음)을 띄움 (startup.jvm-args 로 JVM 옵션 추가)
+ * - startup.command 지정 시: 그 명령을 그대로 실행 ({port} 는 빈 포트로 치환) - 예) 빌드한 Docker 이미지
+ *
+ * 로그의 "Started ... in N seconds" (Spring 이 보고한 기동 시간)도 함께 리포트에 남깁니다.
+ */
+@Slf4j
+public class StartupBenchmark {
+
+    private static final Pattern STARTED = Pattern.compile("Started \\w+ in ([0-9.]+) seconds");
+
+    public static void main(String[] args) throws Exception {
+        int runs = Integer.getInteger("startup.runs", 5);
+        int warmupRuns = Integer.getInteger("startup.warmup-runs", 1);
+        Duration timeout = Duration.ofSeconds(Long.getLong("startup.timeout-seconds", 120));
+        String jvmArgs = System.getProperty("startup.jvm-args", "").trim();
+        String command = System.getProperty("startup.command", "").trim();
+        long maxMedianMs = Long.getLong("startup.max-median-ms", 0);
+        Path reportDir = Path.of(System.getProperty("startup.report-dir", "build/reports/startup"));
+        Files.createDirectories(reportDir);
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(200))
+                .build();
+
+        List<Long> readyMs = new ArrayList<>();
+        List<Double> reportedSeconds = new ArrayList<>();
+        for (int i = 0; i < warmupRuns + runs; i++) {
+            boolean warmup = i < warmupRuns;
+            Path logFile = reportDir.resolve((warmup ? "warmup-" : "run-") + i + ".log");
+            long elapsedMs = launchOnce(httpClient, command, jvmArgs, timeout, logFile);
+            Double reported = reportedStartupSeconds(logFile);
+            log.info("{} {}: / 응답까지 {}ms (Spring 보고 {}s)", warmup ? "워밍업" : "측정", i, elapsedMs, reported);
+            if (!warmup) {
+                readyMs.add(elapsedMs);
+                if (reported != null) {
+                    reportedSeconds.add(reported);
+                }
+            }
+        }
+
+        List<Long> sorted = new ArrayList<>(readyMs);
+        sorted.sort(null);
+        long median = sorted.get(sorted.size() / 2);
+        boolean passed = maxMedianMs <= 0 || median <= maxMedianMs;
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("measuredAt", Instant.now().toString());
+        report.put("command", command.isEmpty() ? "classpath (loadtest profile)" : command);
+        report.put("jvmArgs", jvmArgs);
+        report.put("runs", runs);
+        report.put("timeToFirstResponseMs", readyMs);
+        report.put("minMs", sorted.get(0));
+        report.put("medianMs", median);
+        report.put("maxMs", sorted.get(sorted.size() - 1));
+        report.put("springReportedSeconds", reportedSeconds);
+        report.put("passed", passed);
+
+        Path reportFile = reportDir.resolve("report.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        log.info("기동 시간 - 최소 {}ms / 중앙값 {}ms / 최대 {}ms ({}회) -> {}",
+                sorted.get(0), median, sorted.get(sorted.size() - 1), runs, reportFile);
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static long launchOnce(HttpClient httpClient, String command, String jvmArgs, Duration timeout, Path logFile)
+            throws IOException, InterruptedException {
+        int port = freePort();
+        ProcessBuilder builder = new ProcessBuilder(command(command, jvmArgs, port))
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile());
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/"))
+                .timeout(Duration.ofSeconds(2))
+                .GET()
+                .build();
+
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            long deadline = start + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("애플리케이션이 응답 전에 종료됨 (exit " + process.exitValue() + ", 로그: " + logFile + ")");
+                }
+                try {
+                    HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException e) {
+                    // 아직 포트가 열리지 않았거나 요청을 받을 준비가 안 됨
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException(timeout.toSeconds() + "초 안에 / 가 응답하지 않음 (로그: " + logFile + ")");
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static List<String> command(String command, String jvmArgs, int port) {
+        List<String> args = new ArrayList<>();
+        if (!command.isEmpty()) {
+            for (String arg : command.split("\\s+")) {
+                args.add(arg.replace("{port}", String.valueOf(port)));
+            }
+            return args;
+        }
+        args.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (!jvmArgs.isEmpty()) {
+            args.addAll(Arrays.asList(jvmArgs.split("\\s+")));
+        }
+        args.add("-cp");
+        args.add(System.getProperty("java.class.path"));
+        args.add("-Dspring.profiles.active=loadtest");
+        // loadtest 프로파일은 WARN 이라 기동 시간 로그(StartupInfoLogger)만 다시 켭니다.
+        args.add("-Dlogging.level." + BackendApplication.class.getName() + "=INFO");
+        args.add(BackendApplication.class.getName());
+        args.add("--server.port=" + port);
+        return args;
+    }
+
+    private static Double reportedStartupSeconds(Path logFile) throws IOException {
+        Matcher matcher = STARTED.matcher(Files.readString(logFile));
+        return matcher.find() ? Double.parseDouble(matcher.group(1)) : null;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
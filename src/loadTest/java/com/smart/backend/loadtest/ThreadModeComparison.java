@@ -0,0 +1,106 @@
+package com.smart.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * ./gradlew loadTestCompare 진입점 - 플랫폼 스레드와 가상 스레드(spring.threads.virtual.enabled) 비교.
+ *
+ * 같은 loadtest.* 설정으로 LoadTestRunner 를 모드마다 새 JVM 에서 한 번씩 실행하고, 두 리포트의 처리량/지연/오류율을 나란히 남깁니다.
+ * 가상 스레드 실행은 -Djdk.tracePinnedThreads=short 로 띄워, 캐리어 스레드 고정(pinning)이 보고된 프레임 수(로그의 "<== monitors")도 함께 셉니다 (0 이면 고정 없음).
+ * 차이가 드러나려면 요청 스레드가 I/O 에 묶여야 하므로 loadtest.sqs-latency-ms 로 SQS 왕복 시간을 흉내 냅니다.
+ */
+@Slf4j
+public class ThreadModeComparison {
+
+    private static final String PINNED_MARKER = "<== monitors";
+
+    public static void main(String[] args) throws Exception {
+        Path dir = Path.of(System.getProperty("loadtest.compare-dir", "build/reports/loadtest-compare"));
+        Files.createDirectories(dir);
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        Map<String, Object> modes = new LinkedHashMap<>();
+        for (String mode : List.of("platform", "virtual")) {
+            boolean virtual = mode.equals("virtual");
+            Path reportFile = dir.resolve(mode + ".json");
+            Path logFile = dir.resolve(mode + ".log");
+            int exitCode = run(virtual, reportFile, logFile);
+            if (!Files.exists(reportFile)) {
+                throw new IllegalStateException(mode + " 실행이 리포트 없이 종료됨 (exit " + exitCode + ", 로그: " + logFile + ")");
+            }
+            JsonNode overall = objectMapper.readTree(reportFile.toFile()).path("overall");
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("throughputRps", overall.path("throughputRps").asDouble());
+            summary.put("errorRate", overall.path("errorRate").asDouble());
+            summary.put("latencyMs", objectMapper.convertValue(overall.path("latencyMs"), Map.class));
+            summary.put("outcomes", objectMapper.convertValue(overall.path("outcomes"), Map.class));
+            if (virtual) {
+                summary.put("pinnedEvents", countPinned(logFile));
+            }
+            summary.put("report", reportFile.toString());
+            modes.put(mode, summary);
+            log.info("{} 스레드: {} rps, 오류율 {}, p99 {}ms", mode, summary.get("throughputRps"),
+                    summary.get("errorRate"), overall.path("latencyMs").path("p99").asText());
+        }
+
+        Map<String, Object> comparison = new LinkedHashMap<>();
+        comparison.put("measuredAt", Instant.now().toString());
+        comparison.put("settings", loadTestProperties());
+        comparison.put("modes", modes);
+        Path comparisonFile = dir.resolve("comparison.json");
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(comparisonFile.toFile(), comparison);
+        log.info("비교 리포트: {}", comparisonFile.toAbsolutePath());
+    }
+
+    // 기준 초과로 종료 코드 1 이어도 리포트는 남으므로 비교는 계속합니다.
+    private static int run(boolean virtual, Path reportFile, Path logFile) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (virtual) {
+            command.add("-Djdk.tracePinnedThreads=short");
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        loadTestProperties().forEach((key, value) -> command.add("-D" + key + "=" + value));
+        command.add("-Dloadtest.report=" + reportFile);
+        command.add("-Dspring.threads.virtual.enabled=" + virtual);
+        command.add(LoadTestRunner.class.getName());
+
+        Files.deleteIfExists(reportFile);
+        log.info("{} 스레드 모드 부하 테스트 시작 (로그: {})", virtual ? "가상" : "플랫폼", logFile);
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        return process.waitFor();
+    }
+
+    private static Map<String, String> loadTestProperties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith("loadtest.") && !name.equals("loadtest.report")
+                        && !name.equals("loadtest.compare-dir"))
+                .sorted()
+                .forEach(name -> properties.put(name, System.getProperty(name)));
+        return properties;
+    }
+
+    private static long countPinned(Path logFile) throws IOException {
+        try (Stream<String> lines = Files.lines(logFile)) {
+            return lines.filter(line -> line.contains(PINNED_MARKER)).count();
+        }
+    }
+}
@@ -0,0 +1,2 @@
+-- 마이그레이션이 만드는 기준 행 (부하 테스트는 Flyway 없이 엔티티로 스키마를 만듦)
+INSERT INTO ranking_current (id, snapshot_id, updated_at) VALUES (1, NULL, NULL);
@@ -0,0 +1,135 @@
+package com.smart.backend.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MarketController 앞단의 유입 제어.
+ *
+ * - 조회(GET /market/list, /ranking 등)와 분석 요청(/market/sourcing/**)은 클라이언트 IP 별로 서로 다른 토큰 버킷을 씁니다.
+ *   분석 요청을 몰아 보내는 클라이언트가 자기 조회 예산이나 다른 클라이언트의 예산을 쓰지 않습니다.
+ * - SQS 로 나가는 분석 요청은 전체 동시 처리 수도 제한해, SQS 전송에 묶인 요청이 Tomcat 스레드를 다 차지하지 못하게 합니다.
+ * - 거절은 컨트롤러/SQS 를 거치지 않고 바로 429 + Retry-After(초) 로 응답합니다.
+ * - 워커 결과 수신(/market/analysis, /market/analysis/batch, /market/ranking/receive)은 제한하지 않습니다.
+ *
+ * 클라이언트 IP 는 request.getRemoteAddr() 이며, ALB 뒤에서는 server.forward-headers-strategy 로 X-Forwarded-For 가 반영됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "smart.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    enum Budget { READ, SOURCING, EXEMPT }
+
+    private final ClientRateLimiter readLimiter;
+    private final ClientRateLimiter sourcingLimiter;
+    private final Semaphore sourcingConcurrency;
+
+    private final Counter readRejected;
+    private final Counter sourcingRejected;
+    private final Counter concurrencyRejected;
+
+    public AdmissionControlFilter(MeterRegistry meterRegistry,
+                                  @Value("${smart.admission.read.rate-per-second:50}") double readRate,
+                                  @Value("${smart.admission.read.burst:100}") int readBurst,
+                                  @Value("${smart.admission.sourcing.rate-per-second:5}") double sourcingRate,
+                                  @Value("${smart.admission.sourcing.burst:20}") int sourcingBurst,
+                                  @Value("${smart.admission.sourcing.max-concurrent:32}") int sourcingMaxConcurrent,
+                                  @Value("${smart.admission.max-clients:65536}") int maxClients,
+                                  @Value("${smart.admission.stripes:64}") int stripes) {
+        this.readLimiter = new ClientRateLimiter(readRate, readBurst, maxClients, stripes);
+        this.sourcingLimiter = new ClientRateLimiter(sourcingRate, sourcingBurst, maxClients, stripes);
+        this.sourcingConcurrency = new Semaphore(Math.max(sourcingMaxConcurrent, 1));
+        this.readRejected = rejectedCounter(meterRegistry, "read");
+        this.sourcingRejected = rejectedCounter(meterRegistry, "sourcing");
+        this.concurrencyRejected = rejectedCounter(meterRegistry, "sourcing-concurrency");
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String budget) {
+        return Counter.builder("admission.rejected")
+                .description("유입 제어로 거절된 요청 수")
+                .tag("budget", budget)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return classify(request.getMethod(), request.getRequestURI()) == Budget.EXEMPT;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String client = request.getRemoteAddr();
+        long now = System.nanoTime();
+
+        if (classify(request.getMethod(), request.getRequestURI()) == Budget.READ) {
+            long waitNanos = readLimiter.tryAcquire(client, now);
+            if (waitNanos > 0) {
+                readRejected.increment();
+                reject(response, waitNanos);
+                return;
+            }
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = sourcingLimiter.tryAcquire(client, now);
+        if (waitNanos > 0) {
+            sourcingRejected.increment();
+            log.debug("⏳ [유입 제어] 분석 요청 거절 - 클라이언트: {}", client);
+            reject(response, waitNanos);
+            return;
+        }
+        if (!sourcingConcurrency.tryAcquire()) {
+            concurrencyRejected.increment();
+            reject(response, TimeUnit.SECONDS.toNanos(1));
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            sourcingConcurrency.release();
+        }
+    }
+
+    static Budget classify(String method, String uri) {
+        String path;
+        if (uri.startsWith("/api/market/")) {
+            path = uri.substring("/api/market".length());
+        } else if (uri.startsWith("/market/")) {
+            path = uri.substring("/market".length());
+        } else {
+            return Budget.EXEMPT;
+        }
+        if (path.startsWith("/sourcing/")) {
+            return Budget.SOURCING;
+        }
+        if ("POST".equals(method)
+                && (path.equals("/analysis") || path.equals("/analysis/batch") || path.equals("/ranking/receive"))) {
+            return Budget.EXEMPT;
+        }
+        return Budget.READ;
+    }
+
+    private static void reject(HttpServletResponse response, long waitNanos) {
+        long seconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.min(seconds, 3600)));
+    }
+}
@@ -0,0 +1,84 @@
+package com.smart.backend.admission;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클라이언트(IP)별 토큰 버킷.
+ *
+ * 클라이언트 키 해시로 나눈 stripe 마다 접근 순서 LRU 맵과 잠금을 따로 두므로, 서로 다른 클라이언트끼리는 거의 경합하지 않습니다.
+ * stripe 당 최대 클라이언트 수를 넘으면 가장 오래 안 쓰인 버킷을 버리므로 메모리는 클라이언트 수와 무관하게 고정입니다.
+ * (버려진 클라이언트는 다음 요청 때 가득 찬 버킷으로 다시 시작)
+ */
+public class ClientRateLimiter {
+
+    private final double tokensPerNano;
+    private final double burst;
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    /**
+     * @param ratePerSecond 초당 충전 토큰 수 (지속 허용 요청 수)
+     * @param burst         버킷 크기 (순간 허용 요청 수)
+     * @param maxClients    추적할 최대 클라이언트 수
+     * @param stripeCount   stripe 수 (2의 거듭제곱으로 올림)
+     */
+    public ClientRateLimiter(double ratePerSecond, int burst, int maxClients, int stripeCount) {
+        this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = Math.max(burst, 1);
+        int stripesRounded = Integer.highestOneBit(Math.max(stripeCount, 1) * 2 - 1);
+        this.stripeMask = stripesRounded - 1;
+        this.stripes = new Stripe[stripesRounded];
+        int perStripe = Math.max(maxClients / stripesRounded, 1);
+        for (int i = 0; i < stripesRounded; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    /**
+     * 토큰 1개를 사용합니다. 허용되면 0, 거절되면 다음 토큰까지 기다려야 하는 나노초.
+     */
+    public long tryAcquire(String client, long nowNanos) {
+        int hash = client.hashCode();
+        Stripe stripe = stripes[(hash ^ (hash >>> 16)) & stripeMask];
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(client);
+            if (bucket == null) {
+                bucket = new Bucket(burst, nowNanos);
+                stripe.buckets.put(client, bucket);
+            } else {
+                bucket.tokens = Math.min(burst, bucket.tokens + (nowNanos - bucket.refilledAt) * tokensPerNano);
+                bucket.refilledAt = nowNanos;
+            }
+            if (bucket.tokens >= 1.0) {
+                bucket.tokens -= 1.0;
+                return 0;
+            }
+            return tokensPerNano > 0 ? (long) Math.ceil((1.0 - bucket.tokens) / tokensPerNano) : Long.MAX_VALUE;
+        }
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+
+    private static final class Stripe {
+        private final Map<String, Bucket> buckets;
+
+        private Stripe(int capacity) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.smart.backend.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 블로킹 자원(DB 커넥션, SQS 전송) 앞의 동시 실행 수 제한.
+ *
+ * 가상 스레드 모드에서는 Tomcat 스레드 수가 더 이상 동시 요청 수를 막아주지 않으므로, 자원마다 직접 상한을 둡니다.
+ * - 동시에 maxConcurrent 개까지만 통과하고, 나머지는 공정(FIFO) 순서로 최대 acquireTimeout 동안 기다립니다.
+ * - 이미 maxWaiting 개가 기다리고 있으면 기다리지 않고 바로 거절합니다 (대기열이 끝없이 쌓여 모두 타임아웃 나는 것 방지).
+ *
+ * tryAcquire() 가 true 를 돌려준 호출자만 release() 를 호출해야 합니다.
+ */
+public class ConcurrencyLimiter {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final int maxWaiting;
+    private final long acquireTimeoutNanos;
+
+    private final Counter queueFull;
+    private final Counter timedOut;
+
+    public ConcurrencyLimiter(String name, int maxConcurrent, int maxWaiting, long acquireTimeoutMillis,
+                              MeterRegistry meterRegistry) {
+        this.maxConcurrent = Math.max(maxConcurrent, 1);
+        this.maxWaiting = Math.max(maxWaiting, 0);
+        this.acquireTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(acquireTimeoutMillis, 0));
+        this.permits = new Semaphore(this.maxConcurrent, true);
+
+        this.queueFull = rejectedCounter(meterRegistry, name, "queue-full");
+        this.timedOut = rejectedCounter(meterRegistry, name, "timeout");
+        Gauge.builder("concurrency.limit.active", this, ConcurrencyLimiter::active)
+                .description("제한 구간을 실행 중인 호출 수")
+                .tag("limiter", name)
+                .register(meterRegistry);
+        Gauge.builder("concurrency.limit.waiting", permits, Semaphore::getQueueLength)
+                .description("제한 구간 진입을 기다리는 호출 수")
+                .tag("limiter", name)
+                .register(meterRegistry);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String name, String reason) {
+        return Counter.builder("concurrency.limit.rejected")
+                .description("동시 실행 수 제한으로 거절된 호출 수")
+                .tag("limiter", name)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    public boolean tryAcquire() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        // 대기 수는 근사값이지만 상한 역할에는 충분
+        if (permits.getQueueLength() >= maxWaiting) {
+            queueFull.increment();
+            return false;
+        }
+        try {
+            if (permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        timedOut.increment();
+        return false;
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int active() {
+        return maxConcurrent - permits.availablePermits();
+    }
+}
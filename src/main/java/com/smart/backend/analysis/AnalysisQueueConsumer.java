@@ -0,0 +1,160 @@
+package com.smart.backend.analysis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smart.backend.dto.MarketAnalysisResponse;
+import com.smart.backend.service.MarketService;
+import io.awspring.cloud.sqs.annotation.SqsListener;
+import io.awspring.cloud.sqs.listener.acknowledgement.BatchAcknowledgement;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 백엔드 내장 분석 소비자 (worker.py 의 SQS 처리 루프 대체, smart.consumer.enabled=true 일 때만 동작).
+ *
+ * SQS 에서 최대 10건씩 받아 키워드마다 쇼핑 검색과 검색량 트렌드를 동시에 조회하고, 분석 결과를 HTTP 를 거치지 않고
+ * MarketService 로 바로 저장합니다. 외부 API 별 전용 풀의 크기가 곧 그 API 의 동시 호출 수 상한입니다.
+ * 저장까지 끝난 메시지만 삭제(ack)하고, 실패한 메시지(외부 API 호출 실패 포함)는 가시성 타임아웃 후 다시 처리됩니다.
+ * 잘못된 메시지와 검색 결과가 실제로 없는 키워드는 worker.py 와 같이 결과 없이 삭제합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "smart.consumer.enabled", havingValue = "true")
+public class AnalysisQueueConsumer {
+
+    private final MarketDataSource dataSource;
+    private final MarketService marketService;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService shoppingExecutor;
+    private final ExecutorService trendExecutor;
+
+    private final Counter saved;
+    private final Counter skipped;
+    private final Counter failed;
+
+    public AnalysisQueueConsumer(MarketDataSource dataSource,
+                                 MarketService marketService,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${smart.consumer.shopping-concurrency:8}") int shoppingConcurrency,
+                                 @Value("${smart.consumer.trend-concurrency:4}") int trendConcurrency) {
+        this.dataSource = dataSource;
+        this.marketService = marketService;
+        this.objectMapper = objectMapper;
+        this.shoppingExecutor = Executors.newFixedThreadPool(Math.max(shoppingConcurrency, 1), threadFactory("naver-shopping"));
+        this.trendExecutor = Executors.newFixedThreadPool(Math.max(trendConcurrency, 1), threadFactory("naver-trend"));
+        this.saved = messageCounter(meterRegistry, "saved");
+        this.skipped = messageCounter(meterRegistry, "skipped");
+        this.failed = messageCounter(meterRegistry, "failed");
+    }
+
+    private static Counter messageCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("consumer.messages")
+                .description("내장 분석 소비자의 메시지 처리 결과별 건수")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @SqsListener(queueNames = "${spring.cloud.aws.sqs.endpoint}",
+            maxMessagesPerPoll = "10",
+            maxConcurrentMessages = "${smart.consumer.max-concurrent-messages:20}",
+            pollTimeoutSeconds = "20",
+            acknowledgementMode = "MANUAL")
+    public void onMessages(List<Message<String>> messages, BatchAcknowledgement<String> acknowledgement) {
+        List<Message<String>> completed = processBatch(messages);
+        if (!completed.isEmpty()) {
+            acknowledgement.acknowledge(completed);
+        }
+    }
+
+    // 처리가 끝나 삭제해도 되는 메시지 목록을 반환
+    List<Message<String>> processBatch(List<Message<String>> messages) {
+        // 1. 배치 안의 모든 키워드 분석을 동시에 시작
+        List<CompletableFuture<Analysis>> analyses = new ArrayList<>(messages.size());
+        for (Message<String> message : messages) {
+            analyses.add(analyze(message.getPayload()));
+        }
+
+        // 2. 결과 저장 (MarketService 직접 호출 - 저장/이벤트 발행은 단건 수신 경로와 동일)
+        List<Message<String>> completed = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            try {
+                Analysis analysis = analyses.get(i).join();
+                if (analysis.result() != null) {
+                    marketService.saveAnalysisResult(analysis.result());
+                    saved.increment();
+                    log.debug("💾 [내장 소비자] 키워드: '{}' 분석 결과 저장", analysis.keyword());
+                } else {
+                    skipped.increment();
+                }
+                completed.add(messages.get(i));
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.error("❌ [내장 소비자] 메시지 처리 중 오류 (재시도 예정): {}", e.getMessage());
+            }
+        }
+        return completed;
+    }
+
+    private CompletableFuture<Analysis> analyze(String body) {
+        String keyword;
+        try {
+            keyword = objectMapper.readTree(body).path("keyword").asText("");
+        } catch (JsonProcessingException e) {
+            log.error("❌ [내장 소비자] JSON 형식이 아닙니다. 메시지를 삭제합니다: {}", body);
+            return CompletableFuture.completedFuture(new Analysis(null, null));
+        }
+        if (keyword.isBlank()) {
+            log.error("❌ [내장 소비자] 키워드가 없는 잘못된 메시지입니다.");
+            return CompletableFuture.completedFuture(new Analysis(null, null));
+        }
+
+        // worker.py 는 두 API 를 순서대로 호출했지만 서로 독립이므로 동시에 호출
+        CompletableFuture<ShoppingSearchResult> shopping =
+                CompletableFuture.supplyAsync(() -> dataSource.searchShopping(keyword), shoppingExecutor);
+        CompletableFuture<Integer> trend =
+                CompletableFuture.supplyAsync(() -> dataSource.recentSearchRatio(keyword), trendExecutor);
+        return shopping.thenCombine(trend, (search, ratio) -> {
+            MarketAnalysisResponse result = MarketAnalyzer.analyze(search.getItems(), keyword, search.getTotal(), ratio);
+            if (result == null) {
+                log.warn("⚠️ [내장 소비자] 키워드: '{}' 분석 결과가 유효하지 않아 저장하지 않았습니다.", keyword);
+            }
+            return new Analysis(keyword, result);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        shoppingExecutor.shutdown();
+        trendExecutor.shutdown();
+        shoppingExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        trendExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Analysis(String keyword, MarketAnalysisResponse result) {
+    }
+}
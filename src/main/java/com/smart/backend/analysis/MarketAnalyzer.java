@@ -0,0 +1,57 @@
+package com.smart.backend.analysis;
+
+import com.smart.backend.dto.MarketAnalysisResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * 키워드 시장성 분석 (worker.py 의 analyze_market 이식).
+ */
+@Slf4j
+public final class MarketAnalyzer {
+
+    private MarketAnalyzer() {
+    }
+
+    /**
+     * 검색 결과가 없거나 가격을 해석할 수 없으면 null.
+     */
+    public static MarketAnalysisResponse analyze(List<ShoppingSearchResult.Item> items, String keyword,
+                                                 long totalResults, int avgSearchRatio) {
+        if (items == null || items.isEmpty()) {
+            return null;
+        }
+        try {
+            long sum = 0;
+            int min = Integer.MAX_VALUE;
+            for (ShoppingSearchResult.Item item : items) {
+                int price = Integer.parseInt(item.getLprice());
+                sum += price;
+                min = Math.min(min, price);
+            }
+            ShoppingSearchResult.Item top = items.get(0);
+
+            return MarketAnalysisResponse.builder()
+                    .searchKeyword(keyword)
+                    .category(top.getCategory1() != null ? top.getCategory1() : "Unknown")
+                    .averagePrice((int) (sum / items.size()))
+                    .lowestPrice(min)
+                    .sampleCount(items.size())
+                    .topItemName(stripTags(top.getTitle()))
+                    .totalListings((int) Math.min(totalResults, Integer.MAX_VALUE))
+                    .competitionLevel("보통")
+                    .searchVolumeRatio(avgSearchRatio)
+                    .marketAttractiveness("높음")
+                    .sourcingScore(avgSearchRatio)
+                    .build();
+        } catch (RuntimeException e) {
+            log.error("❌ 데이터 분석 계산 오류 (키워드: {}): {}", keyword, e.getMessage());
+            return null;
+        }
+    }
+
+    static String stripTags(String title) {
+        return title == null ? null : title.replace("<b>", "").replace("</b>", "");
+    }
+}
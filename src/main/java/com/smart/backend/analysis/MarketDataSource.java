@@ -0,0 +1,17 @@
+package com.smart.backend.analysis;
+
+/**
+ * 키워드 분석에 필요한 외부 시장 데이터 조회.
+ * 운영은 NaverMarketDataSource, 테스트/부하 테스트는 로컬 가짜 구현을 사용합니다.
+ * 쇼핑 검색 호출 실패(429/5xx/연결 실패)는 MarketDataUnavailableException 으로 알려 메시지가 다시 처리되게 하고,
+ * 빈 결과는 API 가 실제로 상품을 돌려주지 않은 경우에만 씁니다.
+ * 검색량 트렌드는 보조 지표라 실패 시 0 을 돌려줍니다 (worker.py 와 동일).
+ */
+public interface MarketDataSource {
+
+    // 쇼핑 검색 상위 100개 (정확도순) - 호출 실패 시 MarketDataUnavailableException
+    ShoppingSearchResult searchShopping(String keyword);
+
+    // 최근 7일 평균 검색량 비율 (0 ~ 100)
+    int recentSearchRatio(String keyword);
+}
@@ -0,0 +1,12 @@
+package com.smart.backend.analysis;
+
+/**
+ * 외부 시장 데이터 API 호출이 실패했을 때 (429/5xx/타임아웃 등) 발생합니다.
+ * AnalysisQueueConsumer 는 이 메시지를 삭제하지 않아 가시성 타임아웃 후 SQS 가 다시 전달합니다.
+ */
+public class MarketDataUnavailableException extends RuntimeException {
+
+    public MarketDataUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,82 @@
+package com.smart.backend.analysis;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 네이버 쇼핑 검색 / 데이터랩 검색어 트렌드 API (worker.py 의 get_naver_shopping_data, get_naver_datalab_trend 이식).
+ */
+@Slf4j
+public class NaverMarketDataSource implements MarketDataSource {
+
+    private static final int RECENT_DAYS = 7;
+
+    private final RestClient restClient;
+
+    public NaverMarketDataSource(RestClient restClient) {
+        this.restClient = restClient;
+    }
+
+    @Override
+    public ShoppingSearchResult searchShopping(String keyword) {
+        try {
+            ShoppingSearchResult result = restClient.get()
+                    .uri(uri -> uri.path("/v1/search/shop.json")
+                            .queryParam("query", keyword)
+                            .queryParam("display", 100)
+                            .queryParam("sort", "sim")
+                            .build())
+                    .retrieve()
+                    .body(ShoppingSearchResult.class);
+            return result != null ? result : ShoppingSearchResult.empty();
+        } catch (RestClientResponseException e) {
+            // 429(호출 한도)/5xx 는 일시적 실패 - 빈 결과로 처리하면 메시지가 삭제되므로 예외로 재시도에 맡김
+            log.error("❌ [네이버 쇼핑 API 에러] 키워드: {} | 상태코드: {}", keyword, e.getStatusCode().value());
+            throw new MarketDataUnavailableException("네이버 쇼핑 API 오류 (" + e.getStatusCode().value() + ")", e);
+        } catch (RestClientException e) {
+            log.error("❌ [네이버 쇼핑 API 연결 실패]: {}", e.getMessage());
+            throw new MarketDataUnavailableException("네이버 쇼핑 API 연결 실패", e);
+        }
+    }
+
+    @Override
+    public int recentSearchRatio(String keyword) {
+        LocalDate today = LocalDate.now();
+        Map<String, Object> body = Map.of(
+                "startDate", today.minusDays(30).format(DateTimeFormatter.ISO_LOCAL_DATE),
+                "endDate", today.format(DateTimeFormatter.ISO_LOCAL_DATE),
+                "timeUnit", "date",
+                "keywordGroups", List.of(Map.of("groupName", keyword, "keywords", List.of(keyword))));
+        try {
+            JsonNode response = restClient.post()
+                    .uri("/v1/datalab/search")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body)
+                    .retrieve()
+                    .body(JsonNode.class);
+            JsonNode data = response != null ? response.path("results").path(0).path("data") : null;
+            if (data == null || !data.isArray() || data.isEmpty()) {
+                return 0;
+            }
+            // 최근 7일 평균값
+            int from = Math.max(0, data.size() - RECENT_DAYS);
+            double sum = 0;
+            for (int i = from; i < data.size(); i++) {
+                sum += data.get(i).path("ratio").asDouble();
+            }
+            return (int) (sum / (data.size() - from));
+        } catch (RestClientException e) {
+            log.warn("⚠️ [데이터랩 API 실패] 키워드: {} (기본값 0 처리) - {}", keyword, e.getMessage());
+            return 0;
+        }
+    }
+}
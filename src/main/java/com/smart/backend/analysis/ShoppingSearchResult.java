@@ -0,0 +1,41 @@
+package com.smart.backend.analysis;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 쇼핑 검색 결과 (네이버 쇼핑 검색 API 응답 중 분석에 쓰는 필드만).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ShoppingSearchResult {
+
+    private long total;
+    private List<Item> items = new ArrayList<>();
+
+    public static ShoppingSearchResult empty() {
+        return new ShoppingSearchResult(0, new ArrayList<>());
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Item {
+        // 검색어 강조용 <b> 태그가 포함될 수 있음
+        private String title;
+        // 최저가 (API 는 문자열로 내려줌)
+        private String lprice;
+        private String category1;
+    }
+}
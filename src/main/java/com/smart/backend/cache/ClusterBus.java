@@ -0,0 +1,16 @@
+package com.smart.backend.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * ALB 뒤의 모든 노드에 짧은 메시지를 브로드캐스트하는 버스.
+ * 자기 자신이 보낸 메시지는 전달되지 않습니다.
+ */
+public interface ClusterBus {
+
+    String nodeId();
+
+    void publish(String topic, String payload);
+
+    void subscribe(String topic, Consumer<String> listener);
+}
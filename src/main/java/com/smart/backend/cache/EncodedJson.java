@@ -0,0 +1,56 @@
+package com.smart.backend.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 미리 직렬화해 둔 UTF-8 JSON 본문 (+ 일정 크기 이상이면 gzip 압축본).
+ * 만든 뒤에는 변경되지 않으며 요청마다 같은 byte[] 를 그대로 응답 스트림에 씁니다.
+ */
+public final class EncodedJson {
+
+    private final byte[] json;
+    private final byte[] gzip;
+
+    private EncodedJson(byte[] json, byte[] gzip) {
+        this.json = json;
+        this.gzip = gzip;
+    }
+
+    public static EncodedJson encode(ObjectMapper objectMapper, Object value, int gzipMinBytes) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            return new EncodedJson(json, json.length >= gzipMinBytes ? gzip(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 JSON 직렬화 실패", e);
+        }
+    }
+
+    public byte[] json() {
+        return json;
+    }
+
+    // 압축본이 없으면(작은 본문) null
+    public byte[] gzip() {
+        return gzip;
+    }
+
+    public boolean hasGzip() {
+        return gzip != null;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(json.length / 4, 64));
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,25 @@
+package com.smart.backend.cache;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 단일 노드(Redis 미사용)용 버스: 다른 노드가 없으므로 아무것도 전달하지 않습니다.
+ */
+public class LocalClusterBus implements ClusterBus {
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void publish(String topic, String payload) {
+    }
+
+    @Override
+    public void subscribe(String topic, Consumer<String> listener) {
+    }
+}
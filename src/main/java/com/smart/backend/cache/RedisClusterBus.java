@@ -0,0 +1,56 @@
+package com.smart.backend.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 기반 ClusterBus.
+ * 메시지 형식: "{nodeId}|{payload}" - 수신 측에서 자기 nodeId 메시지는 무시합니다.
+ */
+@Slf4j
+public class RedisClusterBus implements ClusterBus {
+
+    private static final String CHANNEL_PREFIX = "smart:bus:";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public RedisClusterBus(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void publish(String topic, String payload) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + topic, nodeId + "|" + payload);
+        } catch (RuntimeException e) {
+            // Redis 장애 시 다른 노드는 L1 TTL 만료로 수렴합니다.
+            log.warn("⚠️ 클러스터 메시지 발행 실패 (topic: {}): {}", topic, e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(String topic, Consumer<String> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String raw = new String(message.getBody(), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            if (sep < 0 || nodeId.equals(raw.substring(0, sep))) {
+                return;
+            }
+            listener.accept(raw.substring(sep + 1));
+        }, new ChannelTopic(CHANNEL_PREFIX + topic));
+    }
+}
@@ -0,0 +1,232 @@
+package com.smart.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * L1(노드 로컬 Caffeine, 크기 제한 + TTL) + L2(Redis, 모든 노드 공유) 2단계 캐시.
+ *
+ * - 조회: L1 -> L2 -> valueLoader(DB) 순서. L1 미스 시 같은 키의 동시 로딩은 하나로 합쳐
+ *   콜드 키에 대한 DB 스탬피드를 막습니다 (@Cacheable(sync = true) 필요).
+ *   Caffeine 의 get(key, loader) 는 ConcurrentHashMap.compute 의 모니터를 잡은 채 Redis/DB 를 기다려
+ *   가상 스레드를 캐리어 스레드에 고정(pinning)시키므로, 로딩 합치기는 모니터 없는 future 맵으로 합니다.
+ * - 변경(put/evict/clear): L1, L2 를 갱신한 뒤 ClusterBus 로 다른 노드에 L1 무효화를 알립니다.
+ * - L2(Redis) 장애는 예외를 삼키고 L1 + DB 로 계속 동작합니다.
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    static final String INVALIDATION_TOPIC = "cache-invalidation";
+
+    private final String name;
+    private final Cache<Object, Object> l1;
+    // null 이면 L1 단독 모드
+    private final org.springframework.cache.Cache l2;
+    private final ClusterBus clusterBus;
+    // 키별 진행 중인 로딩 (먼저 온 요청이 로딩하고 나머지는 결과를 기다림)
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+    // L1 무효화마다 증가 - 로딩 중 무효화된 값을 L1 에 남기지 않기 위함
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Counter l2Evictions;
+    private final Counter l2Errors;
+
+    public TwoTierCache(String name, Cache<Object, Object> l1, org.springframework.cache.Cache l2,
+                        ClusterBus clusterBus, MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.clusterBus = clusterBus;
+
+        this.l2Hits = l2Counter(meterRegistry, "cache.gets", "hit");
+        this.l2Misses = l2Counter(meterRegistry, "cache.gets", "miss");
+        this.l2Evictions = l2Counter(meterRegistry, "cache.evictions", null);
+        this.l2Errors = l2Counter(meterRegistry, "cache.errors", null);
+    }
+
+    private Counter l2Counter(MeterRegistry meterRegistry, String metric, String result) {
+        Counter.Builder builder = Counter.builder(metric).tag("cache", name).tag("tier", "l2");
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        return builder.register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l1;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = l1.getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        value = getFromL2(key);
+        if (value != null) {
+            l1.put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = l1.getIfPresent(key);
+        if (value == null) {
+            value = load(key, valueLoader);
+        }
+        return (T) fromStoreValue(value);
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = loading.putIfAbsent(key, created);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            long invalidationsBefore = invalidations.get();
+            // 직전에 끝난 로딩이 이미 L1 에 넣었을 수 있음
+            Object value = l1.getIfPresent(key);
+            if (value == null) {
+                value = getFromL2(key);
+                if (value == null) {
+                    value = toStoreValue(valueLoader.call());
+                    // 로딩 중 무효화되었으면 이전 데이터일 수 있으므로 L2 에 쓰지 않고,
+                    // 쓰는 사이에 무효화되었으면 방금 쓴 값을 지웁니다. (다른 노드가 L2 TTL 동안 이전 값을 읽지 않도록)
+                    if (invalidations.get() == invalidationsBefore) {
+                        putToL2(key, value);
+                        if (invalidations.get() != invalidationsBefore) {
+                            evictFromL2(key);
+                        }
+                    }
+                }
+                l1.put(key, value);
+                if (invalidations.get() != invalidationsBefore) {
+                    l1.invalidate(key);
+                }
+            }
+            created.complete(value);
+            return value;
+        } catch (Exception e) {
+            RuntimeException failure = e instanceof ValueRetrievalException retrieval
+                    ? retrieval : new ValueRetrievalException(key, valueLoader, e);
+            created.completeExceptionally(failure);
+            throw failure;
+        } finally {
+            loading.remove(key, created);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        invalidations.incrementAndGet();
+        Object storeValue = toStoreValue(value);
+        l1.put(key, storeValue);
+        putToL2(key, storeValue);
+        clusterBus.publish(INVALIDATION_TOPIC, name + "|" + key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        invalidations.incrementAndGet();
+        l1.invalidate(key);
+        evictFromL2(key);
+        clusterBus.publish(INVALIDATION_TOPIC, name + "|" + key);
+    }
+
+    @Override
+    public void clear() {
+        invalidations.incrementAndGet();
+        l1.invalidateAll();
+        if (l2 != null) {
+            try {
+                l2.clear();
+                l2Evictions.increment();
+            } catch (RuntimeException e) {
+                l2Failed("clear", e);
+            }
+        }
+        clusterBus.publish(INVALIDATION_TOPIC, name);
+    }
+
+    /**
+     * 다른 노드에서 데이터가 바뀌었다는 알림을 받았을 때: 이 노드의 L1 만 비웁니다. (key == null 이면 전체)
+     */
+    void evictLocal(String key) {
+        invalidations.incrementAndGet();
+        if (key == null) {
+            l1.invalidateAll();
+        } else {
+            l1.asMap().keySet().removeIf(cachedKey -> key.equals(String.valueOf(cachedKey)));
+        }
+    }
+
+    private Object getFromL2(Object key) {
+        if (l2 == null) {
+            return null;
+        }
+        try {
+            ValueWrapper wrapper = l2.get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                l2Hits.increment();
+                return wrapper.get();
+            }
+            l2Misses.increment();
+        } catch (RuntimeException e) {
+            l2Failed("get", e);
+        }
+        return null;
+    }
+
+    private void putToL2(Object key, Object value) {
+        if (l2 == null) {
+            return;
+        }
+        try {
+            l2.put(key, value);
+        } catch (RuntimeException e) {
+            l2Failed("put", e);
+        }
+    }
+
+    private void evictFromL2(Object key) {
+        if (l2 == null) {
+            return;
+        }
+        try {
+            l2.evict(key);
+            l2Evictions.increment();
+        } catch (RuntimeException e) {
+            l2Failed("evict", e);
+        }
+    }
+
+    private void l2Failed(String operation, RuntimeException e) {
+        l2Errors.increment();
+        log.warn("⚠️ L2(Redis) 캐시 {} 실패 - cache: {}, 에러: {}", operation, name, e.getMessage());
+    }
+}
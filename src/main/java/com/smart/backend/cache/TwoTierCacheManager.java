@@ -0,0 +1,71 @@
+package com.smart.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * TwoTierCache 를 이름별로 생성하는 CacheManager.
+ *
+ * 트랜잭션 인지(transactionAware) 모드로 동작하므로 @CacheEvict/@CachePut 은 커밋 이후에 반영됩니다.
+ * (커밋 전에 무효화하면 다른 노드가 옛 데이터를 다시 읽어 L2 에 채울 수 있음)
+ */
+public class TwoTierCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final long l1MaximumSize;
+    private final Duration l1Ttl;
+    // 캐시 이름 -> L2 캐시 (null 반환 시 L1 단독)
+    private final Function<String, Cache> l2Factory;
+    private final ClusterBus clusterBus;
+    private final MeterRegistry meterRegistry;
+
+    public TwoTierCacheManager(long l1MaximumSize, Duration l1Ttl, Function<String, Cache> l2Factory,
+                               ClusterBus clusterBus, MeterRegistry meterRegistry) {
+        this.l1MaximumSize = l1MaximumSize;
+        this.l1Ttl = l1Ttl;
+        this.l2Factory = l2Factory;
+        this.clusterBus = clusterBus;
+        this.meterRegistry = meterRegistry;
+        setTransactionAware(true);
+        clusterBus.subscribe(TwoTierCache.INVALIDATION_TOPIC, this::onRemoteInvalidation);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return List.of();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> l1 = Caffeine.newBuilder()
+                .maximumSize(l1MaximumSize)
+                .expireAfterWrite(l1Ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, l1, name, "tier", "l1");
+        return new TwoTierCache(name, l1, l2Factory.apply(name), clusterBus, meterRegistry);
+    }
+
+    // 메시지 형식: "{cacheName}|{key}" 또는 "{cacheName}" (전체 무효화)
+    private void onRemoteInvalidation(String payload) {
+        int sep = payload.indexOf('|');
+        String cacheName = sep < 0 ? payload : payload.substring(0, sep);
+        String key = sep < 0 ? null : payload.substring(sep + 1);
+
+        Cache cache = lookupCache(cacheName);
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            cache = decorator.getTargetCache();
+        }
+        if (cache instanceof TwoTierCache twoTierCache) {
+            twoTierCache.evictLocal(key);
+        }
+    }
+}
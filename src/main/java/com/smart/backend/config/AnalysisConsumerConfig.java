@@ -0,0 +1,45 @@
+package com.smart.backend.config;
+
+import com.smart.backend.analysis.MarketDataSource;
+import com.smart.backend.analysis.NaverMarketDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * 백엔드 내장 분석 소비자(smart.consumer.enabled=true) 가 사용하는 외부 데이터 소스.
+ * 다른 MarketDataSource 빈(테스트/부하 테스트용 가짜)이 있으면 그것을 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "smart.consumer.enabled", havingValue = "true")
+public class AnalysisConsumerConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(MarketDataSource.class)
+    public MarketDataSource naverMarketDataSource(RestClient.Builder restClientBuilder,
+                                                  @Value("${smart.naver.base-url:https://openapi.naver.com}") String baseUrl,
+                                                  @Value("${smart.naver.client-id}") String clientId,
+                                                  @Value("${smart.naver.client-secret}") String clientSecret,
+                                                  @Value("${smart.naver.timeout-ms:5000}") long timeoutMs) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(timeoutMs))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(timeoutMs));
+
+        RestClient restClient = restClientBuilder
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .defaultHeader("X-Naver-Client-Id", clientId)
+                .defaultHeader("X-Naver-Client-Secret", clientSecret)
+                .build();
+        return new NaverMarketDataSource(restClient);
+    }
+}
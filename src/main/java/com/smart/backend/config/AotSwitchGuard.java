@@ -0,0 +1,75 @@
+package com.smart.backend.config;
+
+import com.smart.backend.admission.AdmissionControlFilter;
+import com.smart.backend.analysis.AnalysisQueueConsumer;
+import com.smart.backend.service.LatestAnalysisBackfillJob;
+import com.smart.backend.service.SqsBatchProducer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spring AOT 이미지(-Dspring.aot.enabled=true)에서 빌드 시점에 고정된 스위치와 실행 시점 설정이 다르면 기동을 멈춥니다.
+ *
+ * @ConditionalOnProperty/@ConditionalOnThreading 은 processAot 때 평가되어 빈 구성이 이미지에 고정되므로,
+ * 배포 때 환경 변수로 값을 바꿔도 조용히 무시됩니다. 각 스위치가 만드는 빈이 실제로 있는지를 실행 시점 값과 비교해
+ * 다르면 ApiDockerfile 빌드 인자로 이미지를 다시 빌드하라는 오류로 알립니다. (AOT 가 아닌 실행에서는 항상 일치하므로 검사하지 않음)
+ */
+@Slf4j
+@Component
+public class AotSwitchGuard implements SmartInitializingSingleton {
+
+    // 스위치 프로퍼티, 미지정 시 값, 켜졌을 때만 등록되는 빈 타입
+    private static final List<Switch> SWITCHES = List.of(
+            new Switch("spring.threads.virtual.enabled", false, VirtualThreadConfig.class),
+            new Switch("smart.sqs.batch.enabled", false, SqsBatchProducer.class),
+            new Switch("smart.latest.backfill-on-startup", false, LatestAnalysisBackfillJob.class),
+            new Switch("smart.cache.redis.enabled", true, RedisMessageListenerContainer.class),
+            new Switch("smart.consumer.enabled", false, AnalysisQueueConsumer.class),
+            new Switch("smart.admission.enabled", true, AdmissionControlFilter.class),
+            new Switch("smart.datasource.replica.enabled", false, DataSourceRoutingConfig.class)
+    );
+
+    private final Environment environment;
+    private final ListableBeanFactory beanFactory;
+
+    public AotSwitchGuard(Environment environment, ListableBeanFactory beanFactory) {
+        this.environment = environment;
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!AotDetector.useGeneratedArtifacts()) {
+            return;
+        }
+        List<String> mismatches = mismatches();
+        if (!mismatches.isEmpty()) {
+            throw new IllegalStateException("AOT 이미지의 빌드 시점 스위치와 실행 설정이 다릅니다 "
+                    + "(ApiDockerfile 빌드 인자로 이미지를 다시 빌드하세요): " + String.join(", ", mismatches));
+        }
+        log.info("✅ AOT 스위치 확인 완료 - 실행 설정과 이미지 빈 구성이 일치");
+    }
+
+    List<String> mismatches() {
+        List<String> mismatches = new ArrayList<>();
+        for (Switch option : SWITCHES) {
+            boolean configured = environment.getProperty(option.property(), Boolean.class, option.defaultValue());
+            boolean built = beanFactory.getBeanNamesForType(option.beanType(), true, false).length > 0;
+            if (configured != built) {
+                mismatches.add(option.property() + "=" + configured + " (이미지: " + built + ")");
+            }
+        }
+        return mismatches;
+    }
+
+    private record Switch(String property, boolean defaultValue, Class<?> beanType) {
+    }
+}
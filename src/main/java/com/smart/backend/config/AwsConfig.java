@@ -1,17 +1,32 @@
 package com.smart.backend.config;
 
+import io.awspring.cloud.sqs.operations.SqsTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 // import software.amazon.awssdk.auth.credentials.AwsSessionCredentials; <- 이제 필요 없음
 // import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider; <- 이제 필요 없음
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider; // 🌟 새로 추가
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
 
+import java.util.List;
+
+@Slf4j
 @Configuration
 public class AwsConfig {
 
+    // SqsAsyncClient 를 기동 시점에 끌어오는 자동 구성 빈 (SQS 리스너를 쓰면 리스너 컨테이너가 필요할 때 만듭니다)
+    private static final List<String> LAZY_SQS_BEANS = List.of("sqsTemplate", "defaultSqsListenerContainerFactory");
+
+    // 기동 경로에서 빼서 헬스체크 통과를 앞당깁니다 (HTTP 클라이언트/스레드 풀 생성 비용)
     @Bean
+    @Lazy
     public SqsAsyncClient sqsAsyncClient() {
         System.out.println("🔥 AWS SQS 클라이언트 환경 변수 기반으로 로드...");
 
@@ -21,4 +36,31 @@ public class AwsConfig {
                 .credentialsProvider(DefaultCredentialsProvider.create())
                 .build();
     }
-}
\ No newline at end of file
+
+    @Bean
+    public static BeanFactoryPostProcessor lazySqsBeans() {
+        return beanFactory -> {
+            for (String name : LAZY_SQS_BEANS) {
+                if (beanFactory.containsBeanDefinition(name)) {
+                    beanFactory.getBeanDefinition(name).setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    // 기동(헬스체크 통과) 이후 별도 스레드에서 미리 만들어 첫 소싱 요청이 생성 비용을 치르지 않게 합니다.
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> sqsClientWarmup(ObjectProvider<SqsTemplate> sqsTemplate) {
+        return event -> {
+            Thread warmup = new Thread(() -> {
+                try {
+                    sqsTemplate.getIfAvailable();
+                } catch (RuntimeException e) {
+                    log.warn("⚠️ SQS 클라이언트 미리 생성 실패 (첫 요청 때 다시 시도): {}", e.getMessage());
+                }
+            }, "sqs-warmup");
+            warmup.setDaemon(true);
+            warmup.start();
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package com.smart.backend.config;
+
+import com.smart.backend.cache.ClusterBus;
+import com.smart.backend.cache.LocalClusterBus;
+import com.smart.backend.cache.RedisClusterBus;
+import com.smart.backend.cache.TwoTierCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.time.Duration;
+
+/**
+ * 랭킹 캐시 구성: 노드 로컬 L1(Caffeine) + 공유 L2(Redis) + Redis pub/sub 무효화.
+ * smart.cache.redis.enabled=false 이면 L1 단독으로 동작합니다 (로컬 개발/부하 테스트용).
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "smart.cache.redis.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "smart.cache.redis.enabled", havingValue = "true", matchIfMissing = true)
+    public ClusterBus redisClusterBus(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer) {
+        return new RedisClusterBus(redisTemplate, listenerContainer);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "smart.cache.redis.enabled", havingValue = "false")
+    public ClusterBus localClusterBus() {
+        return new LocalClusterBus();
+    }
+
+    @Bean
+    public TwoTierCacheManager cacheManager(ClusterBus clusterBus,
+                                            MeterRegistry meterRegistry,
+                                            ObjectProvider<RedisConnectionFactory> connectionFactory,
+                                            @Value("${smart.cache.redis.enabled:true}") boolean redisEnabled,
+                                            @Value("${smart.cache.l1.maximum-size:1000}") long l1MaximumSize,
+                                            @Value("${smart.cache.l1.ttl-seconds:30}") long l1TtlSeconds,
+                                            @Value("${smart.cache.l2.ttl-seconds:600}") long l2TtlSeconds) {
+        RedisCacheManager redisCacheManager = null;
+        if (redisEnabled) {
+            RedisCacheConfiguration l2Config = RedisCacheConfiguration.defaultCacheConfig()
+                    .entryTtl(Duration.ofSeconds(l2TtlSeconds))
+                    .prefixCacheNameWith("smart:")
+                    .serializeValuesWith(RedisSerializationContext.SerializationPair
+                            .fromSerializer(new GenericJackson2JsonRedisSerializer()));
+            redisCacheManager = RedisCacheManager.builder(connectionFactory.getObject())
+                    .cacheDefaults(l2Config)
+                    .build();
+        }
+        RedisCacheManager l2 = redisCacheManager;
+        return new TwoTierCacheManager(l1MaximumSize, Duration.ofSeconds(l1TtlSeconds),
+                name -> l2 != null ? l2.getCache(name) : null,
+                clusterBus, meterRegistry);
+    }
+}
@@ -0,0 +1,94 @@
+package com.smart.backend.config;
+
+import com.smart.backend.datasource.ReplicaLagMonitor;
+import com.smart.backend.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (smart.datasource.replica.enabled=true 일 때만).
+ *
+ * - primary: spring.datasource.* (기존 설정 그대로), 풀 이름 "primary"
+ * - replica: smart.datasource.replica.*, 풀 이름 "replica"
+ * - 애플리케이션(JPA/JdbcTemplate)이 쓰는 DataSource 는 LazyConnectionDataSourceProxy(ReplicaRoutingDataSource)
+ *
+ * 두 풀은 각각 빈으로 등록되므로 hikaricp.* 지표가 pool=primary / pool=replica 태그로 따로 나옵니다.
+ * 꺼져 있으면 이 설정은 통째로 빠지고 Spring Boot 기본 DataSource 하나만 씁니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "smart.datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(
+            @Qualifier("primaryDataSourceProperties") DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("smart.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("smart.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean(initMethod = "initialize")
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${smart.datasource.routing.max-lag-ms:2000}") long maxLagMillis,
+            @Value("${smart.datasource.routing.lag-check-interval-ms:1000}") long checkIntervalMillis) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(new JdbcTemplate(primaryDataSource),
+                new JdbcTemplate(replicaDataSource), maxLagMillis, checkIntervalMillis, System::currentTimeMillis);
+        Gauge.builder("datasource.replica.lag", monitor, m -> m.lagMillis() / 1000.0)
+                .description("복제본 지연 (초, 측정 실패 시 음수)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", monitor, m -> m.replicaUsable() ? 1 : 0)
+                .description("읽기 전용 트랜잭션을 복제본으로 보내는 중이면 1")
+                .register(meterRegistry);
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry));
+    }
+}
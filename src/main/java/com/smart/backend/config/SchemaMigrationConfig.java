@@ -0,0 +1,26 @@
+package com.smart.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 스키마는 Flyway 버전 마이그레이션(db/migration)으로 관리합니다. (Hibernate 는 validate/none)
+ */
+@Slf4j
+@Configuration
+public class SchemaMigrationConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy() {
+        return flyway -> {
+            // Docker 빌드 중 CDS 학습 실행(-Dspring.context.exit=onRefresh)에는 DB 가 없으므로 건너뜁니다.
+            if ("onRefresh".equals(System.getProperty("spring.context.exit"))) {
+                log.info("CDS 학습 실행 - 스키마 마이그레이션 생략");
+                return;
+            }
+            flyway.migrate();
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.smart.backend.config;
+
+import com.smart.backend.admission.ConcurrencyLimiter;
+import com.smart.backend.datasource.ConnectionLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true, Java 21).
+ *
+ * Spring Boot 가 Tomcat 요청 처리와 @Async/@Scheduled 실행기를 가상 스레드로 바꾸고,
+ * 여기서는 그동안 Tomcat 스레드 수(기본 200)가 대신 해 주던 상한을 블로킹 자원마다 직접 둡니다.
+ * - DB: Hikari 풀마다 풀 크기만큼만 커넥션을 빌리도록 제한 (primary/replica 각각)
+ * - SQS: SourcingService 의 동기 전송 경로 동시 호출 수 제한 (초과 시 SqsBackpressureException -> 503)
+ *
+ * 캐리어 스레드 고정(pinning)은 -Djdk.tracePinnedThreads=short 로 확인합니다 (./gradlew loadTestCompare 가 자동으로 집계).
+ * Spring AOT 이미지에서는 이 설정 여부도 빌드 시점 값으로 고정됩니다 (ApiDockerfile 의 VIRTUAL_THREADS_ENABLED 빌드 인자).
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${smart.concurrency.db.max-waiting:200}") int maxWaiting,
+            @Value("${smart.concurrency.db.acquire-timeout-ms:2000}") long acquireTimeoutMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                // @ConfigurationProperties 바인딩(초기화 전 단계)이 끝난 뒤라 풀 크기가 확정되어 있음
+                String name = "db-" + (hikari.getPoolName() != null ? hikari.getPoolName() : beanName);
+                ConcurrencyLimiter limiter = new ConcurrencyLimiter(name, hikari.getMaximumPoolSize(),
+                        maxWaiting, acquireTimeoutMillis, meterRegistry.getObject());
+                log.info("🧵 [가상 스레드] {} 커넥션 동시 사용 {}개로 제한", name, hikari.getMaximumPoolSize());
+                return new ConnectionLimitingDataSource(hikari, limiter);
+            }
+        };
+    }
+
+    @Bean
+    public ConcurrencyLimiter sqsSendLimiter(MeterRegistry meterRegistry,
+                                             @Value("${smart.concurrency.sqs.max-concurrent:64}") int maxConcurrent,
+                                             @Value("${smart.concurrency.sqs.max-waiting:1000}") int maxWaiting,
+                                             @Value("${smart.concurrency.sqs.acquire-timeout-ms:1000}") long acquireTimeoutMillis) {
+        return new ConcurrencyLimiter("sqs-send", maxConcurrent, maxWaiting, acquireTimeoutMillis, meterRegistry);
+    }
+}
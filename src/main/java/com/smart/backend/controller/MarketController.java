@@ -1,14 +1,38 @@
 package com.smart.backend.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.smart.backend.cache.EncodedJson;
+import com.smart.backend.dto.AnalysisPage;
+import com.smart.backend.dto.BatchIngestResult;
 import com.smart.backend.dto.MarketAnalysisResponse;
 import com.smart.backend.dto.RankingItem;
+import com.smart.backend.logging.LogSampler;
+import com.smart.backend.service.DataVersionService;
 import com.smart.backend.service.MarketService;
-import com.smart.backend.service.SourcingService;
+import com.smart.backend.service.ResponseBodyCache;
+import com.smart.backend.service.AnalysisIngestService;
+import com.smart.backend.service.AnalysisRequestCoalescer;
+import com.smart.backend.service.AnalysisTicket;
+import com.smart.backend.service.SqsBackpressureException;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Slf4j
@@ -18,64 +42,180 @@ import java.util.List;
 public class MarketController {
 
     private final MarketService marketService;
-    private final SourcingService sourcingService;
+    private final AnalysisRequestCoalescer requestCoalescer;
+    private final AnalysisIngestService analysisIngestService;
+    private final ObjectMapper objectMapper;
+    private final DataVersionService dataVersionService;
+    private final ResponseBodyCache responseBodyCache;
+    // 요청마다 남던 INFO 로그는 샘플링 + 구조화 필드로 (오류는 항상)
+    private final LogSampler logSampler;
 
-    // 1. GET /market/list (분석 리스트 조회)
-    @GetMapping("/list")
-    public ResponseEntity<?> getAnalysisList() {
+    // 1. GET /market/list (분석 리스트 조회 - 전체 스트리밍)
+    // 파라미터가 없으면 기존과 동일한 JSON 배열을 DB 에서 키셋 청크 단위로 읽는 즉시 응답 스트림에 기록합니다.
+    // (엔티티/리스트를 메모리에 쌓지 않으므로 테이블 크기와 무관하게 요청당 메모리가 일정)
+    @GetMapping(value = "/list", params = {"!cursor", "!size", "!view"})
+    public ResponseEntity<StreamingResponseBody> getAnalysisList(WebRequest webRequest) {
+        // 데이터 버전은 조회 전에 읽어야 조회 도중 갱신된 데이터가 오래된 ETag 로 캐시되지 않습니다.
+        String etag = dataVersionService.analysisEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
         // 리스트 조회는 너무 자주 찍히면 시끄러울 수 있으므로 디버그 레벨이나 간단하게 처리
         // 부하 테스트 중에는 이 로그가 너무 많다면 주석 처리 고려
         // log.info("🔍 [List 조회] 분석 리스트 요청");
+        StreamingResponseBody body = out -> {
+            // 행마다 flush 하지 않도록 FLUSH_AFTER_WRITE_VALUE 를 끈 writer 사용
+            ObjectWriter writer = objectMapper.writerFor(MarketAnalysisResponse.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.writeStartArray();
+                marketService.streamAllAnalysis(row -> writeRow(writer, generator, row));
+                generator.writeEndArray();
+            } catch (Exception e) {
+                // 응답 헤더가 이미 나간 뒤이므로 상태 코드는 바꿀 수 없고 로그만 남깁니다.
+                log.error("❌ [List 스트리밍 에러] ", e);
+                throw e;
+            }
+        };
+        return ResponseEntity.ok().eTag(etag).contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    // 1-P. GET /market/list?size=20&cursor=... (키셋 페이지네이션)
+    @GetMapping("/list")
+    public ResponseEntity<?> getAnalysisPage(@RequestParam(required = false) String cursor,
+                                             @RequestParam(defaultValue = "20") int size,
+                                             WebRequest webRequest) {
+        String etag = dataVersionService.analysisEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
         try {
-            List<MarketAnalysisResponse> list = marketService.findAllAnalysis();
-            int analysisSize = list != null ? list.size() : 0;
-            // 리스트가 비어있을 때만 경고, 아니면 사이즈만 로깅
-            if (analysisSize == 0) {
+            AnalysisPage page = marketService.findAnalysisPage(cursor, size);
+            // 리스트가 비어있을 때만 경고
+            if (page.getItems().isEmpty() && cursor == null) {
                 log.info("⚠️ [List 조회] 현재 저장된 분석 결과가 없습니다.");
             }
-            return ResponseEntity.ok(list != null ? list : List.of());
+            return ResponseEntity.ok().eTag(etag).body(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             log.error("❌ [List 조회 에러] ", e);
             return ResponseEntity.internalServerError().body("DB Error: " + e.getMessage());
         }
     }
 
+    // 1-L. GET /market/list?view=latest&sort=score|date&size=50 (키워드별 최신 결과만)
+    @GetMapping(value = "/list", params = "view=latest")
+    public ResponseEntity<?> getLatestAnalysisList(@RequestParam(defaultValue = "score") String sort,
+                                                   @RequestParam(defaultValue = "50") int size,
+                                                   WebRequest webRequest) {
+        String etag = dataVersionService.analysisEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        try {
+            // 데이터 버전당 한 번만 직렬화된 본문을 그대로 사용
+            return encodedJson(responseBodyCache.latestAnalysis(sort, size), etag, webRequest);
+        } catch (Exception e) {
+            log.error("❌ [최신 List 조회 에러] ", e);
+            return ResponseEntity.internalServerError().body("DB Error: " + e.getMessage());
+        }
+    }
+
+    private void writeRow(ObjectWriter writer, JsonGenerator generator, MarketAnalysisResponse row) {
+        try {
+            writer.writeValue(generator, row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     // 2. POST /market/sourcing/request (실제 운영 분석 요청)
+    // 최근 결과가 있으면 200 + 결과, 새로 보내거나 진행 중인 요청에 합류하면 202
     @PostMapping("/sourcing/request")
-    public ResponseEntity<Void> requestSourcing(@RequestParam String keyword) {
+    public ResponseEntity<MarketAnalysisResponse> requestSourcing(@RequestParam String keyword) {
         if (keyword == null || keyword.trim().isEmpty()) {
             log.warn("⚠️ [분석 요청 실패] 키워드가 비어있습니다 (POST)");
             return ResponseEntity.badRequest().build();
         }
 
-        log.info("🟢 [분석 요청-POST] 키워드: '{}' -> SQS/Service 전송 시작", keyword);
-        sourcingService.sendAnalysisRequest(keyword);
-
-        return ResponseEntity.accepted().build();
+        return submitSourcing("sourcing-request", keyword);
     }
 
     // 2-T. GET /market/sourcing/test (부하 테스트용)
     @GetMapping("/sourcing/test")
-    public ResponseEntity<Void> requestSourcingTest(@RequestParam String keyword) {
+    public ResponseEntity<MarketAnalysisResponse> requestSourcingTest(@RequestParam String keyword) {
         if (keyword == null || keyword.trim().isEmpty()) {
             log.warn("⚠️ [TEST 요청 실패] 키워드가 비어있습니다 (GET)");
             return ResponseEntity.badRequest().build();
         }
 
-        // Locust 테스트 시 로그가 폭주할 수 있으나, 요청이 제대로 들어오는지 확인이 필요함
-        log.info("🧪 [TEST 분석 요청-GET] 키워드: '{}' -> 부하 테스트용 호출", keyword);
+        // Locust 부하 시 요청마다 로그를 남기지 않고 샘플만 남김 (smart.logging.sampling.endpoints.sourcing-test)
+        return submitSourcing("sourcing-test", keyword);
+    }
 
-        sourcingService.sendAnalysisRequest(keyword);
+    // SQS 전송 버퍼 포화(503)는 부하 차단이라 ERROR 가 아닌 WARN 으로, 정상 요청 샘플링과 별도의 초당 제한을 걸어 남김
+    // (전체 건수는 sourcing.send/admission 메트릭)
+    private ResponseEntity<MarketAnalysisResponse> submitSourcing(String endpoint, String keyword) {
+        long start = System.nanoTime();
+        ResponseEntity<MarketAnalysisResponse> response;
+        try {
+            response = toResponse(requestCoalescer.submit(keyword));
+        } catch (SqsBackpressureException e) {
+            response = serviceBusy();
+            logSampler.rejected(log, endpoint, keyword, response.getStatusCode().value(), start);
+            return response;
+        } catch (RuntimeException e) {
+            logSampler.error(log, endpoint, keyword, start, e);
+            throw e;
+        }
+        logSampler.request(log, endpoint, keyword, response.getStatusCode().value(), start);
+        return response;
+    }
+
+    private static ResponseEntity<MarketAnalysisResponse> toResponse(AnalysisTicket ticket) {
+        if (ticket.isCached()) {
+            return ResponseEntity.ok(ticket.getCachedResult());
+        }
         return ResponseEntity.accepted().build();
     }
 
+    // SQS 전송 버퍼가 가득 찼을 때: 503 + Retry-After (클라이언트 재시도 유도)
+    private static <T> ResponseEntity<T> serviceBusy() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build();
+    }
+
+    // If-None-Match 가 현재 ETag 와 같으면 서비스/캐시/DB/Jackson 을 거치지 않고 바로 304
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
+    // 미리 직렬화된 JSON 을 그대로 응답 (gzip 을 받는 클라이언트에는 압축본, 압축본의 ETag 는 약한 ETag)
+    private static ResponseEntity<byte[]> encodedJson(EncodedJson body, String etag, WebRequest webRequest) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (body.hasGzip() && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return builder.eTag("W/" + etag)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(body.gzip());
+        }
+        return builder.eTag(etag).body(body.json());
+    }
+
     // 3. GET /market/ranking (랭킹 조회)
     @GetMapping("/ranking")
-    public ResponseEntity<?> getRanking() {
+    public ResponseEntity<?> getRanking(WebRequest webRequest) {
+        String etag = dataVersionService.rankingEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
         try {
-            List<RankingItem> ranking = marketService.getNaverShoppingRanking();
-            // (수정) 사용하지 않는 rankingSize 변수 삭제
-            return ResponseEntity.ok(ranking != null ? ranking : List.of());
+            // 랭킹 스냅샷당 한 번만 직렬화된 JSON 을 그대로 씁니다 (요청마다 Jackson 직렬화 없음)
+            return encodedJson(responseBodyCache.ranking(), etag, webRequest);
         } catch (Exception e) {
             log.error("❌ [랭킹 조회 에러] ", e);
             return ResponseEntity.internalServerError().body("DB Error: " + e.getMessage());
@@ -84,33 +224,27 @@ public class MarketController {
 
     // 4. GET /market/ranking/category
     @GetMapping("/ranking/category")
-    public ResponseEntity<?> getRankingByCategory(@RequestParam(required = false) String categoryLabel) {
-        // 상세 로그 요청 반영: 어떤 카테고리로 필터링하는지 확인
-        log.info("📂 [카테고리 랭킹 조회] 카테고리 필터: {}", categoryLabel != null ? categoryLabel : "전체(ALL)");
+    public ResponseEntity<?> getRankingByCategory(@RequestParam(required = false) String categoryLabel,
+                                                  WebRequest webRequest) {
+        // 어떤 카테고리로 필터링하는지는 샘플 로그의 keyword 필드로 확인 (전체는 ALL)
+        long start = System.nanoTime();
+        String category = categoryLabel != null && !categoryLabel.trim().isEmpty() ? categoryLabel.trim() : null;
+        String etag = dataVersionService.categoryEtag(categoryLabel);
+        if (webRequest.checkNotModified(etag)) {
+            logSampler.request(log, "ranking-category", category != null ? category : "ALL",
+                    HttpStatus.NOT_MODIFIED.value(), start);
+            return notModified(etag);
+        }
         try {
-            List<RankingItem> allRanking = marketService.getNaverShoppingRanking();
-
-            if (allRanking == null || allRanking.isEmpty()) {
-                return ResponseEntity.ok(List.of());
-            }
-
-            if (categoryLabel == null || categoryLabel.trim().isEmpty()) {
-                return ResponseEntity.ok(allRanking);
-            }
-
-            String prefix = "[" + categoryLabel.trim() + "]";
-            List<RankingItem> filtered = allRanking.stream()
-                    .filter(item -> item.getKeyword() != null && item.getKeyword().startsWith(prefix))
-                    .sorted(java.util.Comparator.comparingInt(RankingItem::getRank))
-                    .limit(10)
-                    .toList();
-
-            for (int i = 0; i < filtered.size(); i++) {
-                filtered.get(i).setRank(i + 1);
-            }
-            return ResponseEntity.ok(filtered);
+            // 랭킹 갱신 시 미리 만들어 둔 불변 스냅샷 + 카테고리별로 한 번만 직렬화된 본문 (요청마다 필터/정렬/직렬화 없음)
+            ResponseEntity<byte[]> response = category == null
+                    ? encodedJson(responseBodyCache.ranking(), etag, webRequest)
+                    : encodedJson(responseBodyCache.rankingCategory(category), etag, webRequest);
+            logSampler.request(log, "ranking-category", category != null ? category : "ALL",
+                    response.getStatusCode().value(), start);
+            return response;
         } catch (Exception e) {
-            log.error("❌ [카테고리 랭킹 에러] ", e);
+            logSampler.error(log, "ranking-category", category != null ? category : "ALL", start, e);
             return ResponseEntity.internalServerError().body("Server Error: " + e.getMessage());
         }
     }
@@ -119,27 +253,42 @@ public class MarketController {
     @PostMapping("/analysis")
     public ResponseEntity<Void> receiveAnalysisResult(@RequestBody MarketAnalysisResponse result) {
         String keyword = result.getSearchKeyword();
-
-        // DTO에 존재하는 필드들로 로그 메시지를 재구성했습니다.
-        String category = result.getCategory();
-        int avgPrice = result.getAveragePrice();
-        String competition = result.getCompetitionLevel();
-        int score = result.getSourcingScore();
-        String attractiveness = result.getMarketAttractiveness();
-
-        log.info("📥 [워커 결과 수신] 키워드: '{}' | 카테고리: {} | 평균가: {}원 | 경쟁강도: {} | 소싱점수: {}점 ({})",
-                keyword, category, avgPrice, competition, score, attractiveness);
-
+        long start = System.nanoTime();
+        // 분석 내용(카테고리/가격/점수)은 DB 와 /market/list 로 확인하고, 로그에는 수신/저장 결과만 샘플로 남김
         try {
             marketService.saveAnalysisResult(result);
-            log.info("💾 [DB 저장 완료] 키워드: '{}' 분석 데이터 저장 성공", keyword);
+            logSampler.request(log, "analysis-receive", keyword, 200, start);
             return ResponseEntity.ok().build();
         } catch (Exception e) {
-            log.error("❌ [결과 저장 실패] 키워드: '{}' - 에러: ", keyword, e);
+            logSampler.error(log, "analysis-receive", keyword, start, e);
             return ResponseEntity.internalServerError().build();
         }
     }
 
+    // 5-B. POST /market/analysis/batch (워커 결과 대량 수신 - JSON 배열)
+    // 일부 항목만 실패하면 나머지는 저장하고 207 + 실패 목록을 반환합니다.
+    @PostMapping(value = "/analysis/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BatchIngestResult> receiveAnalysisBatch(@RequestBody List<MarketAnalysisResponse> results) {
+        return toBatchResponse(analysisIngestService.ingest(results != null ? results : List.of()));
+    }
+
+    // 5-C. POST /market/analysis/batch (NDJSON 스트림 - 한 줄에 결과 하나)
+    @PostMapping(value = "/analysis/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BatchIngestResult> receiveAnalysisNdjson(HttpServletRequest request) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+            return toBatchResponse(analysisIngestService.ingestNdjson(reader));
+        }
+    }
+
+    private static ResponseEntity<BatchIngestResult> toBatchResponse(BatchIngestResult result) {
+        if (result.hasFailures()) {
+            log.warn("⚠️ [배치 수신] 실패 항목 {}건", result.getFailures().size());
+            return ResponseEntity.status(HttpStatus.MULTI_STATUS).body(result);
+        }
+        return ResponseEntity.ok(result);
+    }
+
     // 6. POST /market/ranking/receive (초기 랭킹 수신)
     @PostMapping("/ranking/receive")
     public ResponseEntity<Void> receiveRankingList(@RequestBody List<RankingItem> rankingList) {
@@ -0,0 +1,38 @@
+package com.smart.backend.controller;
+
+import com.smart.backend.service.MarketHistoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+// 키워드별 일 단위 분석 이력 (원본 + 보존 기간이 지난 일 집계)
+@RestController
+@RequestMapping({"/market", "/api/market"})
+@RequiredArgsConstructor
+public class MarketHistoryController {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final MarketHistoryService historyService;
+
+    // GET /market/history?keyword=캠핑의자&from=2025-01-01&to=2025-03-31 (기본: 최근 30일)
+    @GetMapping("/history")
+    public ResponseEntity<?> getHistory(@RequestParam String keyword,
+                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now(ZONE);
+        LocalDate start = from != null ? from : end.minusDays(29);
+        try {
+            return ResponseEntity.ok(historyService.history(keyword, start, end));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.smart.backend.controller;
+
+import com.smart.backend.dto.MarketStatsResponse;
+import com.smart.backend.service.MarketStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 대시보드용 카테고리별 시장 통계 (메모리 집계 - DB 조회 없음)
+@RestController
+@RequestMapping({"/market", "/api/market"})
+@RequiredArgsConstructor
+public class MarketStatsController {
+
+    private final MarketStatsService statsService;
+
+    // 1. GET /market/stats (전체 + 카테고리별)
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("overall", statsService.overall());
+        body.put("categories", statsService.allCategories());
+        return ResponseEntity.ok(body);
+    }
+
+    // 2. GET /market/stats/{category}
+    @GetMapping("/stats/{category}")
+    public ResponseEntity<MarketStatsResponse> getCategoryStats(@PathVariable String category) {
+        MarketStatsResponse stats = statsService.category(category);
+        return stats != null ? ResponseEntity.ok(stats) : ResponseEntity.notFound().build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.smart.backend.controller;
+
+import com.smart.backend.service.KeywordSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+// 분석된 키워드 부분 검색 (메모리 인덱스 - DB 조회 없음)
+@RestController
+@RequestMapping({"/market", "/api/market"})
+@RequiredArgsConstructor
+public class SearchController {
+
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final KeywordSearchService searchService;
+
+    // GET /market/search?q=캠핑&limit=20 (한글 자모 입력 중인 검색어도 가능: "아이포", "ㅋ")
+    @GetMapping("/search")
+    public ResponseEntity<?> search(@RequestParam String q,
+                                    @RequestParam(defaultValue = "20") int limit) {
+        if (q.isBlank() || q.length() > MAX_QUERY_LENGTH) {
+            return ResponseEntity.badRequest().body("q 는 1~" + MAX_QUERY_LENGTH + "자여야 합니다.");
+        }
+        return ResponseEntity.ok(searchService.search(q, Math.min(Math.max(limit, 1), MAX_LIMIT)));
+    }
+}
@@ -0,0 +1,55 @@
+package com.smart.backend.controller;
+
+import com.smart.backend.dto.TrendingKeywordsResponse;
+import com.smart.backend.service.TrendingKeywordService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+// 실시간 인기 요청 키워드 (메모리 집계 - DB 조회 없음)
+@RestController
+@RequestMapping({"/market", "/api/market"})
+@RequiredArgsConstructor
+public class TrendingController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final TrendingKeywordService trendingKeywordService;
+
+    // GET /market/trending?window=5m&limit=20 (window: 30s, 5m, 1h 형식)
+    @GetMapping("/trending")
+    public ResponseEntity<?> getTrending(@RequestParam(defaultValue = "5m") String window,
+                                         @RequestParam(defaultValue = "20") int limit) {
+        try {
+            TrendingKeywordsResponse body = trendingKeywordService.top(parseWindow(window),
+                    Math.min(Math.max(limit, 1), MAX_LIMIT));
+            return ResponseEntity.ok(body);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    static Duration parseWindow(String window) {
+        String value = window.trim().toLowerCase();
+        if (value.length() < 2) {
+            throw new IllegalArgumentException("잘못된 window 형식: " + window);
+        }
+        long amount;
+        try {
+            amount = Long.parseLong(value.substring(0, value.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 window 형식: " + window);
+        }
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("잘못된 window 형식: " + window);
+        };
+    }
+}
@@ -0,0 +1,106 @@
+package com.smart.backend.datasource;
+
+import com.smart.backend.admission.ConcurrencyLimiter;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 커넥션 풀 앞에서 커넥션을 빌리는 동시 호출 수를 제한하는 DataSource (가상 스레드 모드 전용).
+ *
+ * 풀 크기만큼만 바로 통과시키고, 나머지는 ConcurrencyLimiter 의 짧은 대기열에서 기다리거나 바로 실패합니다.
+ * 수천 개의 가상 스레드가 Hikari 의 connection-timeout(30초) 동안 한꺼번에 대기하다 같이 실패하는 대신,
+ * 넘치는 요청을 빨리 거절해 풀을 쥔 요청이 끝까지 처리되도록 합니다.
+ * 거절은 Hikari 의 획득 타임아웃과 같은 SQLTransientConnectionException 입니다.
+ *
+ * 반환한 커넥션을 close() 하면(풀로 반납) 허가를 돌려줍니다.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    private final ConcurrencyLimiter limiter;
+
+    public ConnectionLimitingDataSource(DataSource targetDataSource, ConcurrencyLimiter limiter) {
+        super(targetDataSource);
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            limiter.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            limiter.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        if (!limiter.tryAcquire()) {
+            throw new SQLTransientConnectionException("DB 커넥션 동시 사용 한도를 넘어 요청을 거절했습니다.");
+        }
+    }
+
+    private Connection limited(Connection target) {
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class}, new ReleasingInvocationHandler(target));
+    }
+
+    private final class ReleasingInvocationHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleasingInvocationHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getTargetConnection":
+                    return target;
+                case "close":
+                    try {
+                        target.close();
+                    } finally {
+                        // 여러 번 close 해도 허가는 한 번만 반납
+                        if (released.compareAndSet(false, true)) {
+                            limiter.release();
+                        }
+                    }
+                    return null;
+                default:
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.smart.backend.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 읽기 복제본 지연 감시.
+ *
+ * 주기마다 primary 의 replica_heartbeat 행에 현재 시각(ms)을 쓰고, 복제본에서 같은 행을 읽어 "지금 - 복제본에 보이는 시각" 을 지연으로 봅니다.
+ * (MySQL 권한이나 RDS/Aurora 종류에 상관없이 동작하며, 해상도는 점검 주기 정도)
+ * 지연이 허용치를 넘거나, 점검이 실패하거나, 마지막 점검이 너무 오래되면 복제본을 쓰지 않고 primary 로 읽습니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+    private final long maxCheckAgeMillis;
+    private final LongSupplier clock;
+
+    private volatile boolean replicaUsable;
+    private volatile long lagMillis = -1;
+    private volatile long lastCheckedAt;
+
+    public ReplicaLagMonitor(JdbcTemplate primary, JdbcTemplate replica,
+                             long maxLagMillis, long checkIntervalMillis, LongSupplier clock) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagMillis = maxLagMillis;
+        // 점검 스레드가 멈춰도 오래된 판단으로 복제본을 계속 쓰지 않도록
+        this.maxCheckAgeMillis = checkIntervalMillis * 3;
+        this.clock = clock;
+    }
+
+    /**
+     * 시작 시 첫 점검. replica_heartbeat 테이블/행은 마이그레이션(V2)이 만듭니다.
+     * (마이그레이션 전이라 테이블이 없으면 점검 실패로 primary 를 쓰고, 다음 점검부터 복제본을 씁니다)
+     */
+    public void initialize() {
+        check();
+    }
+
+    @Scheduled(fixedDelayString = "${smart.datasource.routing.lag-check-interval-ms:1000}")
+    public void check() {
+        boolean wasUsable = replicaUsable;
+        try {
+            primary.update("UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1", clock.getAsLong());
+            List<Long> beats = replica.queryForList("SELECT beat_at FROM replica_heartbeat WHERE id = 1", Long.class);
+            long now = clock.getAsLong();
+            if (beats.isEmpty()) {
+                lagMillis = -1;
+                replicaUsable = false;
+            } else {
+                lagMillis = Math.max(0, now - beats.get(0));
+                replicaUsable = lagMillis <= maxLagMillis;
+            }
+            lastCheckedAt = now;
+        } catch (DataAccessException e) {
+            lagMillis = -1;
+            replicaUsable = false;
+            if (wasUsable) {
+                log.warn("⚠️ [복제본] 지연 점검 실패 - primary 로 읽기 전환: {}", e.getMessage());
+            }
+            return;
+        }
+        if (wasUsable != replicaUsable) {
+            if (replicaUsable) {
+                log.info("✅ [복제본] 지연 {}ms - 읽기 전용 트랜잭션을 복제본으로 보냅니다.", lagMillis);
+            } else {
+                log.warn("⚠️ [복제본] 지연 {}ms (허용 {}ms) - primary 로 읽기 전환", lagMillis, maxLagMillis);
+            }
+        }
+    }
+
+    public boolean replicaUsable() {
+        return replicaUsable && clock.getAsLong() - lastCheckedAt <= maxCheckAgeMillis;
+    }
+
+    /**
+     * 마지막으로 측정한 지연(ms). 측정 실패 시 -1.
+     */
+    public long lagMillis() {
+        return lagMillis;
+    }
+}
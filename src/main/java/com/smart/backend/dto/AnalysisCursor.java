@@ -0,0 +1,43 @@
+package com.smart.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * /market/list 키셋 페이지네이션 커서 (analysisDate, id).
+ * 클라이언트에는 Base64(URL-safe) 문자열로 전달되는 불투명 토큰입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class AnalysisCursor {
+    private final LocalDateTime analysisDate;
+    private final Long id;
+
+    public static AnalysisCursor of(MarketAnalysisResponse last) {
+        return new AnalysisCursor(last.getAnalysisDate(), last.getId());
+    }
+
+    public String encode() {
+        String raw = analysisDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 잘못된 커서는 IllegalArgumentException -> 컨트롤러에서 400 처리
+    public static AnalysisCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            if (sep < 0) {
+                throw new IllegalArgumentException("잘못된 커서 형식입니다.");
+            }
+            return new AnalysisCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다.", e);
+        }
+    }
+}
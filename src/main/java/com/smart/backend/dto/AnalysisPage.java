@@ -0,0 +1,16 @@
+package com.smart.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// /market/list?size=&cursor= 응답 (키셋 페이지)
+@Getter
+@AllArgsConstructor
+public class AnalysisPage {
+    private List<MarketAnalysisResponse> items;
+    // 다음 페이지 요청 시 cursor 파라미터로 그대로 전달 (마지막 페이지면 null)
+    private String nextCursor;
+    private boolean hasNext;
+}
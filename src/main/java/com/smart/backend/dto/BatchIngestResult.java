@@ -0,0 +1,40 @@
+package com.smart.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// POST /market/analysis/batch 응답: 항목별 실패는 전체 롤백 없이 여기에 보고됩니다.
+@Getter
+public class BatchIngestResult {
+    private int received;
+    private int saved;
+    private final List<ItemFailure> failures = new ArrayList<>();
+
+    public void addReceived(int count) {
+        received += count;
+    }
+
+    public void addSaved(int count) {
+        saved += count;
+    }
+
+    public void addFailure(int index, String keyword, String reason) {
+        failures.add(new ItemFailure(index, keyword, reason));
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ItemFailure {
+        // 요청 배열(또는 NDJSON 줄)에서의 0-based 위치
+        private int index;
+        private String searchKeyword;
+        private String reason;
+    }
+}
@@ -0,0 +1,15 @@
+package com.smart.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 현재 포인터가 가리키는 랭킹 스냅샷 (RankingIndex 재구성용)
+@Getter
+@AllArgsConstructor
+public class CurrentRanking {
+    // 포인터가 아직 스냅샷을 가리키지 않으면(이전 방식 데이터) null
+    private Long snapshotId;
+    private List<RankingItem> items;
+}
@@ -0,0 +1,38 @@
+package com.smart.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// GET /market/history 응답 - 키워드의 일 단위 분석 이력 (원본 + 일 집계)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeywordHistoryResponse {
+
+    private String keyword;
+    private LocalDate from;
+    private LocalDate to;
+    private List<Point> points;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Point {
+        private LocalDate date;
+        private String category;
+        // 그날 저장된 분석 결과 수
+        private long samples;
+        // 아래 값은 그날 분석 결과들의 평균 (최저가 최소값/소싱 점수 최대값 제외)
+        private long averagePrice;
+        private long lowestPrice;
+        private int minLowestPrice;
+        private long sourcingScore;
+        private int maxSourcingScore;
+        private long searchVolumeRatio;
+        private long totalListings;
+    }
+}
@@ -0,0 +1,30 @@
+package com.smart.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// GET /market/search 응답 - 분석된 키워드 부분 검색 결과 (소싱 점수 높은 순)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeywordSearchResponse {
+
+    private String query;
+    // 전체 일치 수 (items 는 그중 상위 limit 개)
+    private int total;
+    // false: 기동 후 인덱스 구축 중 (이전 키워드 일부가 빠질 수 있음)
+    private boolean complete;
+    private List<Item> items;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private String keyword;
+        // 가장 최근 분석 결과의 소싱 점수
+        private int sourcingScore;
+    }
+}
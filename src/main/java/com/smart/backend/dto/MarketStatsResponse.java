@@ -0,0 +1,32 @@
+package com.smart.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+// GET /market/stats/{category} 응답 - 카테고리별 누적 집계
+@Getter
+@AllArgsConstructor
+public class MarketStatsResponse {
+    private String category;
+    private long count;
+    private PriceStats averagePrice;
+    private PriceStats lowestPrice;
+    // sourcingScore 10점 단위 구간별 건수: [0-9, 10-19, ..., 90-99, 100+]
+    private List<Long> sourcingScoreHistogram;
+    // competitionLevel 값별 건수
+    private Map<String, Long> competitionLevels;
+
+    @Getter
+    @AllArgsConstructor
+    public static class PriceStats {
+        private long mean;
+        private long min;
+        private long max;
+        private long p50;
+        private long p90;
+        private long p99;
+    }
+}
@@ -0,0 +1,30 @@
+package com.smart.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+// GET /market/trending 응답 - 최근 구간에 가장 많이 요청된 키워드
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingKeywordsResponse {
+
+    private Instant from;
+    private Instant to;
+    private List<Item> items;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private String keyword;
+        // 추정 요청 수 (실제 이상)
+        private long count;
+        // 추정 오차 상한 (count - maxError 는 실제 요청 수 이하)
+        private long maxError;
+    }
+}
@@ -14,7 +14,12 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "market_analysis")
+// (analysisDate, id) 복합 인덱스: /market/list 키셋 페이지네이션 및 정렬 스트리밍용
+// (searchKeyword, analysisDate) 복합 인덱스: 키워드별 최신 결과 조회용
+@Table(name = "market_analysis", indexes = {
+        @Index(name = "idx_analysis_date_id", columnList = "analysisDate, id"),
+        @Index(name = "idx_keyword_date", columnList = "searchKeyword, analysisDate")
+})
 public class MarketAnalysis {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY) private Long id;
@@ -0,0 +1,40 @@
+package com.smart.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+// 키워드별 일 단위 집계 (보존 기간이 지난 market_analysis 원본을 합친 결과)
+// 평균은 합계/건수로 보관하므로 같은 날짜를 여러 번에 나눠 합쳐도 정확합니다.
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "market_analysis_daily", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_daily_keyword_date", columnNames = {"search_keyword", "stat_date"})
+}, indexes = {
+        @Index(name = "idx_daily_date", columnList = "statDate")
+})
+public class MarketAnalysisDaily {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY) private Long id;
+
+    @Column(nullable = false) private String searchKeyword;
+    @Column(nullable = false) private LocalDate statDate;
+    private String category;
+
+    // 합쳐진 원본 행 수
+    private long rowCount;
+    private long sumAveragePrice;
+    private long sumLowestPrice;
+    private int minLowestPrice;
+    private long sumSourcingScore;
+    private int maxSourcingScore;
+    private long sumSearchVolumeRatio;
+    private long sumTotalListings;
+}
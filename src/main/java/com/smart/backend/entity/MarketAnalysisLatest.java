@@ -0,0 +1,42 @@
+package com.smart.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 키워드별 최신 분석 결과 (읽기 모델) - market_analysis 저장 시 같은 트랜잭션에서 upsert 됩니다.
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "market_analysis_latest", indexes = {
+        @Index(name = "idx_latest_score", columnList = "sourcingScore, analysisDate"),
+        @Index(name = "idx_latest_date", columnList = "analysisDate")
+})
+public class MarketAnalysisLatest {
+    // KeywordNormalizer 로 정규화한 키워드
+    @Id private String keywordKey;
+
+    // market_analysis 원본 행 id
+    private Long analysisId;
+
+    @Column(nullable = false) private String searchKeyword;
+    private String category;
+    private int averagePrice;
+    private int lowestPrice;
+    @Column(length = 500) private String topItemName;
+    private int sampleCount;
+
+    private int totalListings;
+    private String competitionLevel;
+    private int searchVolumeRatio;
+    private String marketAttractiveness;
+    private int sourcingScore;
+
+    private LocalDateTime analysisDate;
+}
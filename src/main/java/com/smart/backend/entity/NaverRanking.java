@@ -9,7 +9,10 @@ import java.time.LocalDateTime;
 
 // com.smart.backend.entity.NaverRanking.java
 @Entity
-@Table(name = "naver_ranking")
+// (snapshotId, ranking) 인덱스: 현재 스냅샷 조회 및 스냅샷 단위 정리용
+@Table(name = "naver_ranking", indexes = {
+        @Index(name = "idx_snapshot_ranking", columnList = "snapshotId, ranking")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -28,4 +31,7 @@ public class NaverRanking {
     private long searchRatio;
 
     private LocalDateTime saveTime;
+
+    // 소속 랭킹 스냅샷 (버전 도입 이전 데이터는 null)
+    private Long snapshotId;
 }
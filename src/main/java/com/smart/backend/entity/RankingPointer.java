@@ -0,0 +1,28 @@
+package com.smart.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// "현재 랭킹 스냅샷" 포인터 - 단일 행(id = 1)만 사용하며, 새 스냅샷 저장 후 이 행만 갱신해 원자적으로 전환합니다.
+@Entity
+@Table(name = "ranking_current")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankingPointer {
+
+    public static final long CURRENT_ID = 1L;
+
+    @Id
+    private Long id;
+
+    private Long snapshotId;
+
+    private LocalDateTime updatedAt;
+}
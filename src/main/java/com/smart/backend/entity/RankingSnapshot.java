@@ -0,0 +1,27 @@
+package com.smart.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 랭킹 스냅샷(버전) 메타 정보 - 실제 항목은 naver_ranking.snapshot_id 로 연결됩니다.
+@Entity
+@Table(name = "ranking_snapshot")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankingSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private LocalDateTime createdAt;
+
+    private int itemCount;
+}
@@ -0,0 +1,16 @@
+package com.smart.backend.event;
+
+import com.smart.backend.dto.MarketAnalysisResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 워커 분석 결과가 저장되었을 때 발행되는 이벤트.
+ * 리스너는 @TransactionalEventListener 로 커밋 이후에만 반응합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AnalysisSavedEvent {
+    // 저장된 결과 (id, analysisDate 포함)
+    private final MarketAnalysisResponse result;
+}
@@ -0,0 +1,18 @@
+package com.smart.backend.event;
+
+import com.smart.backend.dto.RankingItem;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 워커가 보낸 새 랭킹이 저장되었을 때 발행되는 이벤트 (커밋 이후 처리).
+ */
+@Getter
+@RequiredArgsConstructor
+public class RankingUpdatedEvent {
+    // 새로 전환된 ranking_snapshot id (다른 노드는 이 id 를 받아 primary 에서 다시 읽음)
+    private final Long snapshotId;
+    private final List<RankingItem> rankingList;
+}
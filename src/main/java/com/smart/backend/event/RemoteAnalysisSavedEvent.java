@@ -0,0 +1,18 @@
+package com.smart.backend.event;
+
+import com.smart.backend.dto.MarketAnalysisResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 다른 노드에서 커밋된 분석 결과를 ClusterBus 로 받았을 때 발행되는 이벤트 (AnalysisSavedRelay).
+ * 이미 커밋된 결과이므로 리스너는 @EventListener 로 바로 반응합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class RemoteAnalysisSavedEvent {
+    // 저장된 결과 (id, analysisDate 포함)
+    private final List<MarketAnalysisResponse> results;
+}
@@ -0,0 +1,174 @@
+package com.smart.backend.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청마다 남던 INFO 로그를 엔드포인트별로 샘플링합니다.
+ *
+ * - 요청 one-in 건 중 1건만 남기고, 그중에서도 초당 max-per-second 건까지만 남깁니다.
+ * - 오류(error)는 샘플링/제한 없이 항상 남깁니다.
+ * - 부하 차단으로 거절한 요청(rejected, 503)은 샘플링 없이 WARN 으로 남기되,
+ *   정상 요청과 별도로 엔드포인트별 초당 rejected-max-per-second 건까지만 남깁니다.
+ * - 로그는 문자열 포맷 대신 구조화 필드(endpoint, keyword, status, latencyMs, sampleRate)로 남고,
+ *   logback-spring.xml 의 JSON 인코더가 필드 그대로 출력합니다. sampleRate 를 곱하면 전체 건수를 추정할 수 있습니다.
+ * - 샘플링/제한으로 남기지 않은 건수는 logging.events.suppressed{endpoint} 로 셉니다.
+ *
+ * 설정: smart.logging.sampling.one-in / max-per-second (기본값),
+ *       smart.logging.sampling.endpoints.<엔드포인트>.one-in / max-per-second (엔드포인트별)
+ *       smart.logging.sampling.rejected-max-per-second, endpoints.<엔드포인트>.rejected-max-per-second (거절 로그)
+ */
+@Component
+public class LogSampler {
+
+    private static final String PREFIX = "smart.logging.sampling.";
+    // 거절 로그 제한은 정상 요청과 다른 Policy 로 셉니다 (suppressed 지표의 endpoint 태그도 구분)
+    private static final String REJECTED_SUFFIX = "-rejected";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final int defaultOneIn;
+    private final int defaultMaxPerSecond;
+    private final int defaultRejectedMaxPerSecond;
+    private final Map<String, Policy> policies = new ConcurrentHashMap<>();
+
+    public LogSampler(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.defaultOneIn = environment.getProperty(PREFIX + "one-in", Integer.class, 100);
+        this.defaultMaxPerSecond = environment.getProperty(PREFIX + "max-per-second", Integer.class, 20);
+        this.defaultRejectedMaxPerSecond = environment.getProperty(PREFIX + "rejected-max-per-second", Integer.class, 5);
+    }
+
+    /**
+     * 정상 처리된 요청 1건 - 샘플링을 통과할 때만 INFO 로 남깁니다.
+     */
+    public void request(Logger log, String endpoint, String keyword, int status, long startNanos) {
+        if (!log.isInfoEnabled() || !sample(endpoint, System.nanoTime())) {
+            return;
+        }
+        log.atInfo()
+                .setMessage("request")
+                .addKeyValue("endpoint", endpoint)
+                .addKeyValue("keyword", keyword)
+                .addKeyValue("status", status)
+                .addKeyValue("latencyMs", elapsedMillis(startNanos))
+                .addKeyValue("sampleRate", policy(endpoint).oneIn)
+                .log();
+    }
+
+    /**
+     * 부하 차단으로 거절한 요청 1건 (503) - 샘플링 없이 WARN 으로 남기고, 초당 제한만 적용합니다.
+     */
+    public void rejected(Logger log, String endpoint, String keyword, int status, long startNanos) {
+        if (!log.isWarnEnabled() || !sampleRejected(endpoint, System.nanoTime())) {
+            return;
+        }
+        log.atWarn()
+                .setMessage("request rejected")
+                .addKeyValue("endpoint", endpoint)
+                .addKeyValue("keyword", keyword)
+                .addKeyValue("status", status)
+                .addKeyValue("latencyMs", elapsedMillis(startNanos))
+                .log();
+    }
+
+    /**
+     * 실패한 요청 1건 - 항상 ERROR 로 남깁니다.
+     */
+    public void error(Logger log, String endpoint, String keyword, long startNanos, Throwable error) {
+        log.atError()
+                .setMessage("request failed")
+                .addKeyValue("endpoint", endpoint)
+                .addKeyValue("keyword", keyword)
+                .addKeyValue("latencyMs", elapsedMillis(startNanos))
+                .setCause(error)
+                .log();
+    }
+
+    boolean sample(String endpoint, long nowNanos) {
+        return policy(endpoint).sample(nowNanos);
+    }
+
+    boolean sampleRejected(String endpoint, long nowNanos) {
+        return rejectedPolicy(endpoint).sample(nowNanos);
+    }
+
+    private static double elapsedMillis(long startNanos) {
+        return Math.round((System.nanoTime() - startNanos) / 10_000.0) / 100.0;
+    }
+
+    private Policy policy(String endpoint) {
+        Policy policy = policies.get(endpoint);
+        if (policy != null) {
+            return policy;
+        }
+        return policies.computeIfAbsent(endpoint, key -> new Policy(
+                environment.getProperty(PREFIX + "endpoints." + key + ".one-in", Integer.class, defaultOneIn),
+                environment.getProperty(PREFIX + "endpoints." + key + ".max-per-second", Integer.class, defaultMaxPerSecond),
+                Counter.builder("logging.events.suppressed")
+                        .description("샘플링/초당 제한으로 남기지 않은 요청 로그 수")
+                        .tag("endpoint", key)
+                        .register(meterRegistry)));
+    }
+
+    private Policy rejectedPolicy(String endpoint) {
+        String key = endpoint + REJECTED_SUFFIX;
+        Policy policy = policies.get(key);
+        if (policy != null) {
+            return policy;
+        }
+        return policies.computeIfAbsent(key, ignored -> new Policy(1,
+                environment.getProperty(PREFIX + "endpoints." + endpoint + ".rejected-max-per-second", Integer.class,
+                        defaultRejectedMaxPerSecond),
+                Counter.builder("logging.events.suppressed")
+                        .description("샘플링/초당 제한으로 남기지 않은 요청 로그 수")
+                        .tag("endpoint", key)
+                        .register(meterRegistry)));
+    }
+
+    private static final class Policy {
+
+        private static final long SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+        private final int oneIn;
+        private final int maxPerSecond;
+        private final Counter suppressed;
+        private final AtomicLong requests = new AtomicLong();
+        // 현재 1초 구간 번호와 그 구간에 남긴 수 (구간 경계의 경합으로 몇 건 더 남을 수 있음)
+        private final AtomicLong window = new AtomicLong();
+        private final AtomicInteger loggedInWindow = new AtomicInteger();
+
+        private Policy(int oneIn, int maxPerSecond, Counter suppressed) {
+            this.oneIn = Math.max(oneIn, 1);
+            this.maxPerSecond = Math.max(maxPerSecond, 0);
+            this.suppressed = suppressed;
+        }
+
+        boolean sample(long nowNanos) {
+            if (requests.getAndIncrement() % oneIn != 0) {
+                suppressed.increment();
+                return false;
+            }
+            long current = nowNanos / SECOND_NANOS;
+            long previous = window.get();
+            if (current != previous && window.compareAndSet(previous, current)) {
+                loggedInWindow.set(0);
+            }
+            if (loggedInWindow.incrementAndGet() > maxPerSecond) {
+                suppressed.increment();
+                return false;
+            }
+            return true;
+        }
+    }
+}
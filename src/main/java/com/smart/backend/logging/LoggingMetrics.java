@@ -0,0 +1,51 @@
+package com.smart.backend.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 비동기 로그 appender 의 큐 상태와 버린 이벤트 수를 메트릭으로 내보냅니다.
+ * (logback-spring.xml 을 쓰지 않는 테스트 등에서는 appender 가 없으므로 등록하지 않음)
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        for (Iterator<Appender<ILoggingEvent>> it = root.iteratorForAppenders(); it.hasNext(); ) {
+            if (it.next() instanceof DropCountingAsyncAppender appender) {
+                bind(registry, appender);
+            }
+        }
+    }
+
+    private static void bind(MeterRegistry registry, DropCountingAsyncAppender appender) {
+        for (Level level : List.of(Level.INFO, Level.WARN, Level.ERROR)) {
+            FunctionCounter.builder("logging.events.dropped", appender, a -> a.dropped(level))
+                    .description("비동기 로그 큐가 가득 차 버린 이벤트 수 (INFO 는 DEBUG/TRACE 포함)")
+                    .tag("appender", appender.getName())
+                    .tag("level", level.levelStr)
+                    .register(registry);
+        }
+        Gauge.builder("logging.async.queue.remaining", appender, DropCountingAsyncAppender::getRemainingCapacity)
+                .description("비동기 로그 큐의 남은 자리")
+                .tag("appender", appender.getName())
+                .register(registry);
+    }
+}
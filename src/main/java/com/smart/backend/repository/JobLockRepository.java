@@ -0,0 +1,35 @@
+package com.smart.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 여러 노드 중 한 곳에서만 실행해야 하는 배치 작업의 잠금 (job_lock 테이블, 행은 마이그레이션에서 생성).
+ *
+ * 잠금은 locked_until(ms) 까지 유효한 임대이고, 실행 중에 renew 로 연장합니다.
+ * 노드가 죽어도 임대가 끝나면 다른 노드가 가져갈 수 있습니다. (커넥션을 붙잡는 GET_LOCK 과 달리 풀 커넥션을 점유하지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobLockRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 비어 있거나 임대가 끝났거나 이미 내 잠금이면 가져옵니다.
+    public boolean tryAcquire(String name, String owner, long nowMillis, long leaseMillis) {
+        return jdbcTemplate.update("UPDATE job_lock SET locked_by = ?, locked_until = ? "
+                        + "WHERE name = ? AND (locked_until < ? OR locked_by = ?)",
+                owner, nowMillis + leaseMillis, name, nowMillis, owner) == 1;
+    }
+
+    // 아직 내 잠금일 때만 연장합니다. false 면 임대가 끝나 다른 노드가 가져간 것
+    public boolean renew(String name, String owner, long nowMillis, long leaseMillis) {
+        return jdbcTemplate.update("UPDATE job_lock SET locked_until = ? WHERE name = ? AND locked_by = ?",
+                nowMillis + leaseMillis, name, owner) == 1;
+    }
+
+    public void release(String name, String owner) {
+        jdbcTemplate.update("UPDATE job_lock SET locked_until = 0 WHERE name = ? AND locked_by = ?", name, owner);
+    }
+}
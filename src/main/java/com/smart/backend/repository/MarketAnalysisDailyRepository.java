@@ -0,0 +1,10 @@
+package com.smart.backend.repository;
+
+import com.smart.backend.entity.MarketAnalysisDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MarketAnalysisDailyRepository extends JpaRepository<MarketAnalysisDaily, Long>,
+        MarketAnalysisDailyRepositoryCustom {
+}
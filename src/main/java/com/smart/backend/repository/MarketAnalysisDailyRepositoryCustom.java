@@ -0,0 +1,53 @@
+package com.smart.backend.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface MarketAnalysisDailyRepositoryCustom {
+
+    // cutoff 이전 원본 중 (analysis_date, id) 순으로 limit 번째 행의 위치. 남은 행이 limit 개 미만이면 empty
+    Optional<RawPosition> findRawChunkEnd(LocalDateTime cutoff, int limit);
+
+    // rollUpRaw 와 같은 범위의 원본을 잠그고(SELECT ... FOR UPDATE) 행 수를 돌려줍니다.
+    // 같은 청크를 동시에 처리하려는 트랜잭션은 커밋될 때까지 기다린 뒤 지워진 결과를 봅니다.
+    int lockRaw(LocalDateTime cutoff, RawPosition end);
+
+    // cutoff 이전이면서 end 이하(end 가 null 이면 전부)인 원본을 일 단위로 합쳐 market_analysis_daily 에 더합니다.
+    int rollUpRaw(LocalDateTime cutoff, RawPosition end);
+
+    // rollUpRaw 와 같은 범위의 원본 삭제
+    int deleteRaw(LocalDateTime cutoff, RawPosition end);
+
+    // before 이전 일 집계를 최대 limit 건 삭제
+    int deleteDailyChunk(LocalDate before, int limit);
+
+    // 키워드의 [from, to] 일 단위 집계 - 아직 합쳐지지 않은 원본에서 계산
+    List<DailyAggregate> aggregateRaw(String searchKeyword, LocalDate from, LocalDate to);
+
+    // 키워드의 [from, to] 일 단위 집계 - market_analysis_daily 에서 조회
+    List<DailyAggregate> findDaily(String searchKeyword, LocalDate from, LocalDate to);
+
+    record RawPosition(LocalDateTime analysisDate, long id) {
+    }
+
+    record DailyAggregate(LocalDate date, String category, long rowCount, long sumAveragePrice, long sumLowestPrice,
+                          int minLowestPrice, long sumSourcingScore, int maxSourcingScore,
+                          long sumSearchVolumeRatio, long sumTotalListings) {
+
+        // 같은 날짜의 원본/집계 부분을 합칩니다.
+        public DailyAggregate merge(DailyAggregate other) {
+            return new DailyAggregate(date,
+                    category != null ? category : other.category,
+                    rowCount + other.rowCount,
+                    sumAveragePrice + other.sumAveragePrice,
+                    sumLowestPrice + other.sumLowestPrice,
+                    Math.min(minLowestPrice, other.minLowestPrice),
+                    sumSourcingScore + other.sumSourcingScore,
+                    Math.max(maxSourcingScore, other.maxSourcingScore),
+                    sumSearchVolumeRatio + other.sumSearchVolumeRatio,
+                    sumTotalListings + other.sumTotalListings);
+        }
+    }
+}
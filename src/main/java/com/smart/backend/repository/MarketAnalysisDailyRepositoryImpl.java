@@ -0,0 +1,109 @@
+package com.smart.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class MarketAnalysisDailyRepositoryImpl implements MarketAnalysisDailyRepositoryCustom {
+
+    private static final String AGGREGATE_COLUMNS = "MAX(category), COUNT(*), SUM(average_price), SUM(lowest_price), "
+            + "MIN(lowest_price), SUM(sourcing_score), MAX(sourcing_score), SUM(search_volume_ratio), SUM(total_listings)";
+
+    // (analysis_date, id) 범위 조건 - idx_analysis_date_id 인덱스 범위 스캔
+    private static final String RAW_RANGE = "analysis_date < ? AND (analysis_date < ? OR (analysis_date = ? AND id <= ?))";
+
+    // 기존 일 집계가 있으면 합계/건수는 더하고 최소/최대는 비교해서 갱신
+    // (category 는 원본 테이블에도 있는 컬럼이라 대상 테이블명으로 구분)
+    private static final String ROLLUP_SQL = "INSERT INTO market_analysis_daily "
+            + "(search_keyword, stat_date, category, row_count, sum_average_price, sum_lowest_price, min_lowest_price, "
+            + "sum_sourcing_score, max_sourcing_score, sum_search_volume_ratio, sum_total_listings) "
+            + "SELECT search_keyword, CAST(analysis_date AS DATE), " + AGGREGATE_COLUMNS + " FROM market_analysis WHERE %s "
+            + "GROUP BY search_keyword, CAST(analysis_date AS DATE) "
+            + "ON DUPLICATE KEY UPDATE "
+            + "market_analysis_daily.category = COALESCE(VALUES(category), market_analysis_daily.category), "
+            + "row_count = row_count + VALUES(row_count), "
+            + "sum_average_price = sum_average_price + VALUES(sum_average_price), "
+            + "sum_lowest_price = sum_lowest_price + VALUES(sum_lowest_price), "
+            + "min_lowest_price = LEAST(min_lowest_price, VALUES(min_lowest_price)), "
+            + "sum_sourcing_score = sum_sourcing_score + VALUES(sum_sourcing_score), "
+            + "max_sourcing_score = GREATEST(max_sourcing_score, VALUES(max_sourcing_score)), "
+            + "sum_search_volume_ratio = sum_search_volume_ratio + VALUES(sum_search_volume_ratio), "
+            + "sum_total_listings = sum_total_listings + VALUES(sum_total_listings)";
+
+    private static final RowMapper<DailyAggregate> AGGREGATE_MAPPER = (rs, rowNum) -> new DailyAggregate(
+            rs.getDate(1).toLocalDate(), rs.getString(2), rs.getLong(3), rs.getLong(4), rs.getLong(5),
+            rs.getInt(6), rs.getLong(7), rs.getInt(8), rs.getLong(9), rs.getLong(10));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<RawPosition> findRawChunkEnd(LocalDateTime cutoff, int limit) {
+        List<RawPosition> rows = jdbcTemplate.query(
+                "SELECT analysis_date, id FROM market_analysis WHERE analysis_date < ? "
+                        + "ORDER BY analysis_date, id LIMIT 1 OFFSET ?",
+                (rs, rowNum) -> new RawPosition(rs.getTimestamp(1).toLocalDateTime(), rs.getLong(2)),
+                Timestamp.valueOf(cutoff), limit - 1);
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public int lockRaw(LocalDateTime cutoff, RawPosition end) {
+        List<Long> ids = end == null
+                ? jdbcTemplate.queryForList("SELECT id FROM market_analysis WHERE analysis_date < ? FOR UPDATE",
+                        Long.class, Timestamp.valueOf(cutoff))
+                : jdbcTemplate.queryForList("SELECT id FROM market_analysis WHERE " + RAW_RANGE + " FOR UPDATE",
+                        Long.class, rangeArgs(cutoff, end));
+        return ids.size();
+    }
+
+    @Override
+    public int rollUpRaw(LocalDateTime cutoff, RawPosition end) {
+        return end == null
+                ? jdbcTemplate.update(ROLLUP_SQL.formatted("analysis_date < ?"), Timestamp.valueOf(cutoff))
+                : jdbcTemplate.update(ROLLUP_SQL.formatted(RAW_RANGE), rangeArgs(cutoff, end));
+    }
+
+    @Override
+    public int deleteRaw(LocalDateTime cutoff, RawPosition end) {
+        return end == null
+                ? jdbcTemplate.update("DELETE FROM market_analysis WHERE analysis_date < ?", Timestamp.valueOf(cutoff))
+                : jdbcTemplate.update("DELETE FROM market_analysis WHERE " + RAW_RANGE, rangeArgs(cutoff, end));
+    }
+
+    @Override
+    public int deleteDailyChunk(LocalDate before, int limit) {
+        return jdbcTemplate.update("DELETE FROM market_analysis_daily WHERE stat_date < ? LIMIT ?",
+                Date.valueOf(before), limit);
+    }
+
+    @Override
+    public List<DailyAggregate> aggregateRaw(String searchKeyword, LocalDate from, LocalDate to) {
+        // idx_keyword_date 인덱스 범위 스캔
+        return jdbcTemplate.query("SELECT CAST(analysis_date AS DATE), " + AGGREGATE_COLUMNS + " FROM market_analysis "
+                        + "WHERE search_keyword = ? AND analysis_date >= ? AND analysis_date < ? "
+                        + "GROUP BY CAST(analysis_date AS DATE)",
+                AGGREGATE_MAPPER, searchKeyword,
+                Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+    }
+
+    @Override
+    public List<DailyAggregate> findDaily(String searchKeyword, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query("SELECT stat_date, category, row_count, sum_average_price, sum_lowest_price, "
+                        + "min_lowest_price, sum_sourcing_score, max_sourcing_score, sum_search_volume_ratio, sum_total_listings "
+                        + "FROM market_analysis_daily WHERE search_keyword = ? AND stat_date BETWEEN ? AND ?",
+                AGGREGATE_MAPPER, searchKeyword, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    private static Object[] rangeArgs(LocalDateTime cutoff, RawPosition end) {
+        Timestamp endDate = Timestamp.valueOf(end.analysisDate());
+        return new Object[]{Timestamp.valueOf(cutoff), endDate, endDate, end.id()};
+    }
+}
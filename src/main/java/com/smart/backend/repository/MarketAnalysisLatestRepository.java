@@ -0,0 +1,40 @@
+package com.smart.backend.repository;
+
+import com.smart.backend.dto.MarketAnalysisResponse;
+import com.smart.backend.entity.MarketAnalysisLatest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MarketAnalysisLatestRepository extends JpaRepository<MarketAnalysisLatest, String>,
+        MarketAnalysisLatestRepositoryCustom {
+
+    String PROJECTION = "select new com.smart.backend.dto.MarketAnalysisResponse("
+            + "l.analysisId, l.searchKeyword, l.category, l.averagePrice, l.lowestPrice, l.topItemName, l.sampleCount, "
+            + "l.totalListings, l.competitionLevel, l.searchVolumeRatio, l.marketAttractiveness, l.sourcingScore, l.analysisDate) "
+            + "from MarketAnalysisLatest l ";
+
+    // 소싱 점수 높은 순 (idx_latest_score)
+    @Query(PROJECTION + "order by l.sourcingScore desc, l.analysisDate desc")
+    List<MarketAnalysisResponse> findTopByScore(Pageable pageable);
+
+    // 최근 분석 순 (idx_latest_date)
+    @Query(PROJECTION + "order by l.analysisDate desc")
+    List<MarketAnalysisResponse> findTopByDate(Pageable pageable);
+
+    // 정규화된 키워드의 최신 결과 (after 이후에 분석된 경우만) - PK 조회
+    @Query(PROJECTION + "where l.keywordKey = :keywordKey and l.analysisDate > :after")
+    Optional<MarketAnalysisResponse> findFreshByKey(@Param("keywordKey") String keywordKey,
+                                                    @Param("after") LocalDateTime after);
+
+    // 키워드 키 순 청크 스캔 (검색 인덱스 구축용) - PK 범위 스캔
+    @Query(PROJECTION + "where l.keywordKey > :afterKey order by l.keywordKey asc")
+    List<MarketAnalysisResponse> findChunkAfterKey(@Param("afterKey") String afterKey, Pageable pageable);
+}
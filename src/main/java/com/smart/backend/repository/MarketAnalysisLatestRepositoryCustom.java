@@ -0,0 +1,11 @@
+package com.smart.backend.repository;
+
+import com.smart.backend.dto.MarketAnalysisResponse;
+
+import java.util.List;
+
+public interface MarketAnalysisLatestRepositoryCustom {
+
+    // 키워드별 최신 결과 upsert (JDBC batch). 이미 더 최신 결과가 있으면 덮어쓰지 않습니다.
+    void upsertAll(List<MarketAnalysisResponse> results);
+}
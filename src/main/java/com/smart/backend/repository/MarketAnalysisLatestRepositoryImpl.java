@@ -0,0 +1,66 @@
+package com.smart.backend.repository;
+
+import com.smart.backend.dto.MarketAnalysisResponse;
+import com.smart.backend.service.KeywordNormalizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MarketAnalysisLatestRepositoryImpl implements MarketAnalysisLatestRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+
+    // 새 값의 analysis_date 가 기존 이상일 때만 컬럼을 교체 (analysis_date 는 마지막에 갱신해야 함)
+    private static final String UPSERT_SQL = "INSERT INTO market_analysis_latest "
+            + "(keyword_key, analysis_id, search_keyword, category, average_price, lowest_price, top_item_name, sample_count, "
+            + "total_listings, competition_level, search_volume_ratio, market_attractiveness, sourcing_score, analysis_date) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE "
+            + newer("analysis_id") + ", "
+            + newer("search_keyword") + ", "
+            + newer("category") + ", "
+            + newer("average_price") + ", "
+            + newer("lowest_price") + ", "
+            + newer("top_item_name") + ", "
+            + newer("sample_count") + ", "
+            + newer("total_listings") + ", "
+            + newer("competition_level") + ", "
+            + newer("search_volume_ratio") + ", "
+            + newer("market_attractiveness") + ", "
+            + newer("sourcing_score") + ", "
+            + "analysis_date = GREATEST(analysis_date, VALUES(analysis_date))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static String newer(String column) {
+        return column + " = CASE WHEN VALUES(analysis_date) >= analysis_date THEN VALUES(" + column + ") ELSE " + column + " END";
+    }
+
+    @Override
+    public void upsertAll(List<MarketAnalysisResponse> results) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, results, BATCH_SIZE, (ps, result) -> {
+            ps.setString(1, KeywordNormalizer.normalize(result.getSearchKeyword()));
+            if (result.getId() != null) {
+                ps.setLong(2, result.getId());
+            } else {
+                ps.setNull(2, Types.BIGINT);
+            }
+            ps.setString(3, result.getSearchKeyword());
+            ps.setString(4, result.getCategory());
+            ps.setInt(5, result.getAveragePrice());
+            ps.setInt(6, result.getLowestPrice());
+            ps.setString(7, result.getTopItemName());
+            ps.setInt(8, result.getSampleCount());
+            ps.setInt(9, result.getTotalListings());
+            ps.setString(10, result.getCompetitionLevel());
+            ps.setInt(11, result.getSearchVolumeRatio());
+            ps.setString(12, result.getMarketAttractiveness());
+            ps.setInt(13, result.getSourcingScore());
+            ps.setTimestamp(14, Timestamp.valueOf(result.getAnalysisDate()));
+        });
+    }
+}
@@ -1,9 +1,43 @@
 package com.smart.backend.repository;
+import com.smart.backend.dto.MarketAnalysisResponse;
 import com.smart.backend.entity.MarketAnalysis;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 import java.util.List;
+
 @Repository
 public interface MarketAnalysisRepository extends JpaRepository<MarketAnalysis, Long> {
-    List<MarketAnalysis> findAllByOrderByAnalysisDateDesc();
-}
\ No newline at end of file
+    // 엔티티를 거치지 않고 DTO로 바로 프로젝션 (영속성 컨텍스트에 쌓이지 않음)
+    String PROJECTION = "select new com.smart.backend.dto.MarketAnalysisResponse("
+            + "a.id, a.searchKeyword, a.category, a.averagePrice, a.lowestPrice, a.topItemName, a.sampleCount, "
+            + "a.totalListings, a.competitionLevel, a.searchVolumeRatio, a.marketAttractiveness, a.sourcingScore, a.analysisDate) "
+            + "from MarketAnalysis a ";
+
+    // 키셋 페이지네이션 - 첫 페이지 (idx_analysis_date_id 인덱스 사용)
+    // 전체 목록 스트리밍도 청크마다 이 쿼리를 짧은 읽기 트랜잭션으로 따로 실행합니다.
+    @Transactional(readOnly = true)
+    @Query(PROJECTION + "order by a.analysisDate desc, a.id desc")
+    List<MarketAnalysisResponse> findFirstPage(Pageable pageable);
+
+    // 키셋 페이지네이션 - (analysisDate, id) 커서 이후 페이지
+    @Transactional(readOnly = true)
+    @Query(PROJECTION
+            + "where a.analysisDate < :analysisDate or (a.analysisDate = :analysisDate and a.id < :id) "
+            + "order by a.analysisDate desc, a.id desc")
+    List<MarketAnalysisResponse> findPageAfter(@Param("analysisDate") LocalDateTime analysisDate,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
+    // id 순 청크 스캔 (백필/재구성용) - PK 범위 스캔이라 테이블 잠금 없이 일관된 읽기로 처리됩니다.
+    @Query(PROJECTION + "where a.id > :afterId order by a.id asc")
+    List<MarketAnalysisResponse> findChunkAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("select max(a.id) from MarketAnalysis a")
+    Long findMaxId();
+}
@@ -1,18 +1,25 @@
 // com.smart.backend.repository.NaverRankingRepository.java
 package com.smart.backend.repository;
 
+import com.smart.backend.dto.RankingItem;
 import com.smart.backend.entity.NaverRanking;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface NaverRankingRepository extends JpaRepository<NaverRanking, Long> {
+public interface NaverRankingRepository extends JpaRepository<NaverRanking, Long>, NaverRankingRepositoryCustom {
 
-    // 최신 저장분을 ranking 오름차순으로 전부 조회
-    List<NaverRanking> findAllByOrderByRankingAsc();
+    // 스냅샷의 랭킹을 ranking 오름차순으로 조회 - idx_snapshot_ranking 인덱스 사용
+    @Query("select new com.smart.backend.dto.RankingItem(r.ranking, r.keyword, r.searchRatio) "
+            + "from NaverRanking r where r.snapshotId = :snapshotId order by r.ranking asc")
+    List<RankingItem> findSnapshotRanking(@Param("snapshotId") Long snapshotId);
 
-    // or TOP 30만 쓰고 싶으면
-    // List<NaverRanking> findTop30ByOrderBySaveTimeDescRankingAsc();
-}
\ No newline at end of file
+    // 스냅샷 도입 이전에 저장된 랭킹 (포인터가 아직 스냅샷을 가리키지 않을 때만 사용)
+    @Query("select new com.smart.backend.dto.RankingItem(r.ranking, r.keyword, r.searchRatio) "
+            + "from NaverRanking r where r.snapshotId is null order by r.ranking asc")
+    List<RankingItem> findLegacyRanking();
+}
@@ -0,0 +1,16 @@
+package com.smart.backend.repository;
+
+import com.smart.backend.dto.RankingItem;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// JPA(IDENTITY) 로는 배치가 되지 않는 대량 INSERT/DELETE 를 JDBC 로 처리하는 확장 메서드
+public interface NaverRankingRepositoryCustom {
+
+    // 스냅샷 항목 일괄 INSERT (JDBC batch)
+    void insertSnapshotItems(Long snapshotId, List<RankingItem> items, LocalDateTime saveTime);
+
+    // 스냅샷 항목을 최대 limit 건 삭제하고 삭제 건수 반환 (0 이면 완료). snapshotId 가 null 이면 이전 방식 데이터 삭제
+    int deleteSnapshotChunk(Long snapshotId, int limit);
+}
@@ -0,0 +1,40 @@
+package com.smart.backend.repository;
+
+import com.smart.backend.dto.RankingItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class NaverRankingRepositoryImpl implements NaverRankingRepositoryCustom {
+
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertSnapshotItems(Long snapshotId, List<RankingItem> items, LocalDateTime saveTime) {
+        Timestamp timestamp = Timestamp.valueOf(saveTime);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO naver_ranking (ranking, keyword, search_ratio, save_time, snapshot_id) VALUES (?, ?, ?, ?, ?)",
+                items, INSERT_BATCH_SIZE,
+                (ps, item) -> {
+                    ps.setInt(1, item.getRank());
+                    ps.setString(2, item.getKeyword());
+                    ps.setLong(3, item.getSearchRatio());
+                    ps.setTimestamp(4, timestamp);
+                    ps.setLong(5, snapshotId);
+                });
+    }
+
+    @Override
+    public int deleteSnapshotChunk(Long snapshotId, int limit) {
+        if (snapshotId == null) {
+            return jdbcTemplate.update("DELETE FROM naver_ranking WHERE snapshot_id IS NULL LIMIT ?", limit);
+        }
+        return jdbcTemplate.update("DELETE FROM naver_ranking WHERE snapshot_id = ? LIMIT ?", snapshotId, limit);
+    }
+}
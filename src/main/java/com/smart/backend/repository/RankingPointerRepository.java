@@ -0,0 +1,22 @@
+package com.smart.backend.repository;
+
+import com.smart.backend.entity.RankingPointer;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface RankingPointerRepository extends JpaRepository<RankingPointer, Long> {
+
+    // 현재 스냅샷 포인터 전환 (단일 행 UPDATE) - 갱신된 행 수 반환
+    // 스냅샷 id 는 증가만 하므로 더 새로운 스냅샷을 가리키고 있으면 되돌리지 않습니다. (0 반환, 동시 저장 시 늦게 커밋된 이전 스냅샷)
+    // 포인터 행(id = 1)은 마이그레이션에서 미리 만듭니다.
+    @Modifying
+    @Query("update RankingPointer p set p.snapshotId = :snapshotId, p.updatedAt = :updatedAt "
+            + "where p.id = 1 and (p.snapshotId is null or p.snapshotId < :snapshotId)")
+    int switchTo(@Param("snapshotId") Long snapshotId, @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -0,0 +1,17 @@
+package com.smart.backend.repository;
+
+import com.smart.backend.entity.RankingSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RankingSnapshotRepository extends JpaRepository<RankingSnapshot, Long> {
+
+    // 정리 대상: 현재 스냅샷보다 오래된 스냅샷 (최신순)
+    @Query("select s.id from RankingSnapshot s where s.id < :currentId order by s.id desc")
+    List<Long> findIdsOlderThan(@Param("currentId") Long currentId);
+}
@@ -0,0 +1,69 @@
+package com.smart.backend.search;
+
+/**
+ * 한글 음절을 호환 자모(ㄱ, ㅏ ...) 열로 풀어 씁니다.
+ *
+ * 겹받침/겹모음도 입력 순서대로 나눕니다 (ㄺ -> ㄹㄱ, ㅘ -> ㅗㅏ).
+ * 그래서 입력 중인 검색어 "아이포", "닭가스" 입력 중의 "달" 같은 미완성 음절도 자모 단위 부분 문자열로 일치합니다.
+ * 한글이 아닌 문자는 그대로 둡니다.
+ */
+public final class HangulJamo {
+
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLE_COUNT = 11172;
+    private static final int COMPAT_BASE = 0x3131;
+    private static final int COMPAT_END = 0x318E;
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    // 0 번은 받침 없음
+    private static final String JONGSEONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+    private static final String[][] COMPOUNDS = {
+            {"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"}, {"ㄼ", "ㄹㅂ"},
+            {"ㄽ", "ㄹㅅ"}, {"ㄾ", "ㄹㅌ"}, {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"}, {"ㅄ", "ㅂㅅ"},
+            {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"}, {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"}, {"ㅢ", "ㅡㅣ"}
+    };
+
+    // 호환 자모 1자 -> 풀어 쓴 자모 (겹자모만 2자)
+    private static final String[] COMPAT = new String[COMPAT_END - COMPAT_BASE + 1];
+    // 음절 -> 풀어 쓴 자모 (미리 계산)
+    private static final String[] SYLLABLES = new String[SYLLABLE_COUNT];
+
+    static {
+        for (int c = COMPAT_BASE; c <= COMPAT_END; c++) {
+            COMPAT[c - COMPAT_BASE] = String.valueOf((char) c);
+        }
+        for (String[] compound : COMPOUNDS) {
+            COMPAT[compound[0].charAt(0) - COMPAT_BASE] = compound[1];
+        }
+        StringBuilder sb = new StringBuilder(6);
+        for (int i = 0; i < SYLLABLE_COUNT; i++) {
+            sb.setLength(0);
+            sb.append(CHOSEONG.charAt(i / 588));
+            sb.append(COMPAT[JUNGSEONG.charAt((i % 588) / 28) - COMPAT_BASE]);
+            int jong = i % 28;
+            if (jong > 0) {
+                sb.append(COMPAT[JONGSEONG.charAt(jong) - COMPAT_BASE]);
+            }
+            SYLLABLES[i] = sb.toString();
+        }
+    }
+
+    private HangulJamo() {
+    }
+
+    public static String decompose(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c < SYLLABLE_BASE + SYLLABLE_COUNT) {
+                sb.append(SYLLABLES[c - SYLLABLE_BASE]);
+            } else if (c >= COMPAT_BASE && c <= COMPAT_END) {
+                sb.append(COMPAT[c - COMPAT_BASE]);
+            } else if (c != 0) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
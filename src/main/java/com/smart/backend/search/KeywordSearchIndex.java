@@ -0,0 +1,438 @@
+package com.smart.backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 분석된 키워드의 부분 문자열 검색 인덱스 (메모리).
+ *
+ * - 키워드(정규화 키)를 자모로 풀어(HangulJamo) 자모 3-gram 마다 키워드 번호 목록(int[] posting)을 둡니다.
+ *   자모 단위라 "캠핑", "아이포"(아이폰 입력 중), "ㅋㅐ" 같은 입력도 부분 문자열로 찾습니다.
+ * - 자모 1~2자 검색어는 키워드 앞부분 일치로 찾습니다 (키워드마다 앞 1자/2자 posting).
+ * - 키워드 번호는 추가 순서대로 늘어나므로 posting 은 항상 정렬되어 있고, 교집합은 이진 탐색으로 구합니다.
+ * - 문자열 -> 번호, gram -> posting 은 open addressing 원시 배열 테이블이라 항목당 객체가 생기지 않습니다.
+ *
+ * 키워드는 지우지 않으며(최신 분석 결과 기준), 같은 키워드가 다시 분석되면 점수만 더 최신 값으로 바뀝니다.
+ * 조회는 읽기 잠금, 추가/갱신은 쓰기 잠금으로 보호합니다.
+ */
+public class KeywordSearchIndex {
+
+    private static final int GRAM = 3;
+    private static final long PREFIX1 = 1L << 48;
+    private static final long PREFIX2 = 2L << 48;
+
+    public record Match(String keyword, int sourcingScore) {
+    }
+
+    public record Result(int total, List<Match> matches) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 키워드 번호별 값
+    private String[] keys = new String[1024];
+    private String[] keywords = new String[1024];
+    private int[] scores = new int[1024];
+    private long[] analyzedAt = new long[1024];
+    private int size;
+
+    // 정규화 키 -> 키워드 번호 + 1 (0: 빈 칸)
+    private int[] keySlots = new int[2048];
+
+    // gram -> posting 번호 + 1
+    private long[] gramKeys = new long[4096];
+    private int[] gramSlots = new int[4096];
+    private int gramCount;
+    private int[][] postings = new int[1024][];
+    private int[] postingSizes = new int[1024];
+    private long postingTotal;
+
+    /**
+     * 키워드를 추가하거나, 이미 있으면 더 최신 분석 결과일 때 점수를 갱신합니다.
+     *
+     * @param key            KeywordNormalizer 로 정규화한 키워드 (검색 대상)
+     * @param keyword        응답에 보여줄 원래 키워드
+     * @param analyzedAtMillis 분석 시각 (갱신 순서 판단용)
+     */
+    public void upsert(String key, String keyword, int sourcingScore, long analyzedAtMillis) {
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            int doc = find(key);
+            if (doc >= 0) {
+                if (analyzedAtMillis >= analyzedAt[doc]) {
+                    keywords[doc] = displayKeyword(key, keyword);
+                    scores[doc] = sourcingScore;
+                    analyzedAt[doc] = analyzedAtMillis;
+                }
+                return;
+            }
+            doc = add(key, keyword, sourcingScore, analyzedAtMillis);
+            String jamo = HangulJamo.decompose(key);
+            if (jamo.isEmpty()) {
+                return;
+            }
+            append(PREFIX1 | jamo.charAt(0), doc);
+            if (jamo.length() >= 2) {
+                append(PREFIX2 | ((long) jamo.charAt(0) << 16) | jamo.charAt(1), doc);
+            }
+            for (int i = 0; i + GRAM <= jamo.length(); i++) {
+                append(trigram(jamo, i), doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 정규화된 검색어로 찾아 소싱 점수 높은 순(같으면 짧은 키워드 먼저) 상위 limit 개를 돌려줍니다.
+     * total 은 전체 일치 수입니다.
+     */
+    public Result search(String normalizedQuery, int limit) {
+        String query = HangulJamo.decompose(normalizedQuery);
+        if (query.isEmpty() || limit <= 0) {
+            return new Result(0, List.of());
+        }
+        lock.readLock().lock();
+        try {
+            TopK top = new TopK(limit);
+            int total;
+            if (query.length() < GRAM) {
+                long key = query.length() == 1
+                        ? PREFIX1 | query.charAt(0)
+                        : PREFIX2 | ((long) query.charAt(0) << 16) | query.charAt(1);
+                total = collectPrefix(key, top);
+            } else {
+                total = collectSubstring(query, top);
+            }
+            return new Result(total, top.toMatches());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * posting 배열의 여유 공간을 잘라냅니다. (대량 구축 후 1회)
+     */
+    public void trimToSize() {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < gramCount; i++) {
+                if (postings[i].length > postingSizes[i]) {
+                    postings[i] = Arrays.copyOf(postings[i], postingSizes[i]);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 전체 posting 항목 수 (메모리 지표)
+    public long postingCount() {
+        lock.readLock().lock();
+        try {
+            return postingTotal;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int collectPrefix(long key, TopK top) {
+        int list = findGram(key);
+        if (list < 0) {
+            return 0;
+        }
+        int[] docs = postings[list];
+        int count = postingSizes[list];
+        for (int i = 0; i < count; i++) {
+            top.offer(docs[i]);
+        }
+        return count;
+    }
+
+    private int collectSubstring(String query, TopK top) {
+        long[] grams = distinctTrigrams(query);
+        int[] lists = new int[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = findGram(grams[i]);
+            if (lists[i] < 0) {
+                return 0;
+            }
+        }
+        // 가장 짧은 posting 을 기준으로 나머지에 있는지 확인
+        Integer[] order = new Integer[lists.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = lists[i];
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(postingSizes[a], postingSizes[b]));
+        int[] cursors = new int[order.length];
+        // gram 이 1개면 posting 자체가 정답, 2개 이상이면 gram 이 연속으로 붙어 있는지 확인
+        boolean verify = grams.length > 1;
+
+        int[] base = postings[order[0]];
+        int baseSize = postingSizes[order[0]];
+        int total = 0;
+        candidates:
+        for (int i = 0; i < baseSize; i++) {
+            int doc = base[i];
+            for (int j = 1; j < order.length; j++) {
+                int list = order[j];
+                int pos = Arrays.binarySearch(postings[list], cursors[j], postingSizes[list], doc);
+                if (pos < 0) {
+                    cursors[j] = -pos - 1;
+                    if (cursors[j] >= postingSizes[list]) {
+                        break candidates;
+                    }
+                    continue candidates;
+                }
+                cursors[j] = pos + 1;
+            }
+            if (verify && !HangulJamo.decompose(keys[doc]).contains(query)) {
+                continue;
+            }
+            total++;
+            top.offer(doc);
+        }
+        return total;
+    }
+
+    private static long[] distinctTrigrams(String jamo) {
+        long[] grams = new long[jamo.length() - GRAM + 1];
+        int count = 0;
+        next:
+        for (int i = 0; i + GRAM <= jamo.length(); i++) {
+            long gram = trigram(jamo, i);
+            for (int j = 0; j < count; j++) {
+                if (grams[j] == gram) {
+                    continue next;
+                }
+            }
+            grams[count++] = gram;
+        }
+        return Arrays.copyOf(grams, count);
+    }
+
+    private static long trigram(String jamo, int from) {
+        return ((long) jamo.charAt(from) << 32) | ((long) jamo.charAt(from + 1) << 16) | jamo.charAt(from + 2);
+    }
+
+    private int add(String key, String keyword, int sourcingScore, long analyzedAtMillis) {
+        if (size == keys.length) {
+            int capacity = size * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            keywords = Arrays.copyOf(keywords, capacity);
+            scores = Arrays.copyOf(scores, capacity);
+            analyzedAt = Arrays.copyOf(analyzedAt, capacity);
+        }
+        int doc = size++;
+        keys[doc] = key;
+        keywords[doc] = displayKeyword(key, keyword);
+        scores[doc] = sourcingScore;
+        analyzedAt[doc] = analyzedAtMillis;
+
+        if (size * 2 > keySlots.length) {
+            int[] old = keySlots;
+            keySlots = new int[old.length * 2];
+            for (int slot : old) {
+                if (slot != 0) {
+                    keySlots[emptyKeySlot(keys[slot - 1])] = slot;
+                }
+            }
+        }
+        keySlots[emptyKeySlot(key)] = doc + 1;
+        return doc;
+    }
+
+    // 원래 키워드가 정규화 키와 같으면 같은 문자열 객체를 공유
+    private static String displayKeyword(String key, String keyword) {
+        return keyword == null || keyword.equals(key) ? key : keyword;
+    }
+
+    private int find(String key) {
+        int mask = keySlots.length - 1;
+        for (int i = mix(key.hashCode()) & mask; ; i = (i + 1) & mask) {
+            int slot = keySlots[i];
+            if (slot == 0) {
+                return -1;
+            }
+            if (keys[slot - 1].equals(key)) {
+                return slot - 1;
+            }
+        }
+    }
+
+    private int emptyKeySlot(String key) {
+        int mask = keySlots.length - 1;
+        int i = mix(key.hashCode()) & mask;
+        while (keySlots[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private void append(long gram, int doc) {
+        int list = findGram(gram);
+        if (list < 0) {
+            list = addGram(gram);
+        }
+        int count = postingSizes[list];
+        int[] docs = postings[list];
+        // 같은 키워드 안에 같은 gram 이 여러 번 나오는 경우
+        if (count > 0 && docs[count - 1] == doc) {
+            return;
+        }
+        if (count == docs.length) {
+            docs = Arrays.copyOf(docs, count + (count >> 1) + 1);
+            postings[list] = docs;
+        }
+        docs[count] = doc;
+        postingSizes[list] = count + 1;
+        postingTotal++;
+    }
+
+    private int findGram(long gram) {
+        int mask = gramKeys.length - 1;
+        for (int i = mix(Long.hashCode(gram)) & mask; ; i = (i + 1) & mask) {
+            int slot = gramSlots[i];
+            if (slot == 0) {
+                return -1;
+            }
+            if (gramKeys[i] == gram) {
+                return slot - 1;
+            }
+        }
+    }
+
+    private int addGram(long gram) {
+        if (gramCount == postings.length) {
+            postings = Arrays.copyOf(postings, gramCount * 2);
+            postingSizes = Arrays.copyOf(postingSizes, gramCount * 2);
+        }
+        int list = gramCount++;
+        postings[list] = new int[2];
+
+        if (gramCount * 2 > gramKeys.length) {
+            long[] oldKeys = gramKeys;
+            int[] oldSlots = gramSlots;
+            gramKeys = new long[oldKeys.length * 2];
+            gramSlots = new int[oldSlots.length * 2];
+            for (int i = 0; i < oldSlots.length; i++) {
+                if (oldSlots[i] != 0) {
+                    putGram(oldKeys[i], oldSlots[i]);
+                }
+            }
+        }
+        putGram(gram, list + 1);
+        return list;
+    }
+
+    private void putGram(long gram, int slot) {
+        int mask = gramKeys.length - 1;
+        int i = mix(Long.hashCode(gram)) & mask;
+        while (gramSlots[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        gramKeys[i] = gram;
+        gramSlots[i] = slot;
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 상위 limit 개만 유지하는 최소 힙 (키워드 번호 배열, 루트가 가장 낮은 순위).
+     */
+    private final class TopK {
+        private final int[] heap;
+        private int count;
+
+        private TopK(int limit) {
+            this.heap = new int[limit];
+        }
+
+        void offer(int doc) {
+            if (count < heap.length) {
+                heap[count] = doc;
+                siftUp(count++);
+            } else if (better(doc, heap[0])) {
+                heap[0] = doc;
+                siftDown(0);
+            }
+        }
+
+        List<Match> toMatches() {
+            Integer[] docs = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                docs[i] = heap[i];
+            }
+            Arrays.sort(docs, (a, b) -> better(a, b) ? -1 : better(b, a) ? 1 : 0);
+            List<Match> matches = new ArrayList<>(count);
+            for (int doc : docs) {
+                matches.add(new Match(keywords[doc], scores[doc]));
+            }
+            return matches;
+        }
+
+        // 점수 높은 순 -> 짧은 키워드 -> 먼저 추가된 키워드
+        private boolean better(int a, int b) {
+            if (scores[a] != scores[b]) {
+                return scores[a] > scores[b];
+            }
+            if (keys[a].length() != keys[b].length()) {
+                return keys[a].length() < keys[b].length();
+            }
+            return a < b;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!better(heap[parent], heap[i])) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= count) {
+                    return;
+                }
+                int worst = left;
+                int right = left + 1;
+                if (right < count && better(heap[left], heap[right])) {
+                    worst = right;
+                }
+                if (!better(heap[i], heap[worst])) {
+                    return;
+                }
+                swap(i, worst);
+                i = worst;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int tmp = heap[a];
+            heap[a] = heap[b];
+            heap[b] = tmp;
+        }
+    }
+}
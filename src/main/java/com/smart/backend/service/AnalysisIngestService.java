@@ -0,0 +1,223 @@
+package com.smart.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.smart.backend.dto.BatchIngestResult;
+import com.smart.backend.dto.MarketAnalysisResponse;
+import com.smart.backend.event.AnalysisSavedEvent;
+import com.smart.backend.repository.MarketAnalysisLatestRepositoryCustom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 워커 분석 결과 대량 수신 (POST /market/analysis/batch).
+ *
+ * MarketAnalysis 는 IDENTITY 키라서 Hibernate JDBC 배치가 꺼지므로, JdbcTemplate.batchUpdate 로 직접 INSERT 합니다.
+ * (MySQL URL 의 rewriteBatchedStatements=true 로 드라이버가 multi-row INSERT 로 재작성)
+ * batchSize 단위 청크마다 별도 트랜잭션이며, 청크가 실패하면 해당 청크만 건별로 다시 저장해 실패 항목을 찾아냅니다.
+ */
+@Slf4j
+@Service
+public class AnalysisIngestService {
+
+    private static final String INSERT_SQL = "INSERT INTO market_analysis "
+            + "(search_keyword, category, average_price, lowest_price, top_item_name, sample_count, "
+            + "total_listings, competition_level, search_volume_ratio, market_attractiveness, sourcing_score, analysis_date) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int TOP_ITEM_NAME_MAX_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MarketAnalysisLatestRepositoryCustom latestRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectReader itemReader;
+    private final int batchSize;
+
+    public AnalysisIngestService(JdbcTemplate jdbcTemplate,
+                                 @Qualifier("marketAnalysisLatestRepository") MarketAnalysisLatestRepositoryCustom latestRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 ApplicationEventPublisher eventPublisher,
+                                 ObjectMapper objectMapper,
+                                 @Value("${smart.ingest.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.latestRepository = latestRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.itemReader = objectMapper.readerFor(MarketAnalysisResponse.class);
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    // JSON 배열 수신
+    public BatchIngestResult ingest(List<MarketAnalysisResponse> items) {
+        BatchIngestResult result = new BatchIngestResult();
+        for (int from = 0; from < items.size(); from += batchSize) {
+            List<MarketAnalysisResponse> chunk = items.subList(from, Math.min(from + batchSize, items.size()));
+            ingestChunk(chunk, from, result);
+        }
+        log.info("📦 [배치 수신] 총 {}건 중 {}건 저장, 실패 {}건", result.getReceived(), result.getSaved(), result.getFailures().size());
+        return result;
+    }
+
+    // NDJSON 수신: 한 줄에 객체 하나, batchSize 만큼 모이면 바로 저장하므로 요청 크기와 무관하게 메모리가 일정합니다.
+    public BatchIngestResult ingestNdjson(BufferedReader reader) throws IOException {
+        BatchIngestResult result = new BatchIngestResult();
+        List<MarketAnalysisResponse> chunk = new ArrayList<>(batchSize);
+        int index = 0;
+        int chunkStart = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                chunk.add(itemReader.readValue(line));
+            } catch (IOException e) {
+                // 파싱 실패 줄은 자리를 null 로 남겨 인덱스를 유지합니다.
+                chunk.add(null);
+            }
+            index++;
+            if (chunk.size() >= batchSize) {
+                ingestChunk(chunk, chunkStart, result);
+                chunk.clear();
+                chunkStart = index;
+            }
+        }
+        if (!chunk.isEmpty()) {
+            ingestChunk(chunk, chunkStart, result);
+        }
+        log.info("📦 [NDJSON 배치 수신] 총 {}건 중 {}건 저장, 실패 {}건", result.getReceived(), result.getSaved(), result.getFailures().size());
+        return result;
+    }
+
+    private void ingestChunk(List<MarketAnalysisResponse> chunk, int offset, BatchIngestResult result) {
+        result.addReceived(chunk.size());
+
+        // 1. 검증 실패 항목은 DB 에 보내지 않고 바로 보고
+        List<MarketAnalysisResponse> valid = new ArrayList<>(chunk.size());
+        List<Integer> validIndexes = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            MarketAnalysisResponse item = chunk.get(i);
+            String reason = validate(item);
+            if (reason != null) {
+                result.addFailure(offset + i, item != null ? item.getSearchKeyword() : null, reason);
+            } else {
+                valid.add(item);
+                validIndexes.add(offset + i);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        // 2. 청크 단위 배치 INSERT (한 트랜잭션)
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(valid, now));
+            result.addSaved(valid.size());
+            return;
+        } catch (DataAccessException e) {
+            log.warn("⚠️ [배치 수신] 청크 저장 실패 - 건별 재시도 ({}건): {}", valid.size(), e.getMessage());
+        }
+
+        // 3. 청크 실패 시 건별로 저장해 실패 항목만 골라냄
+        for (int i = 0; i < valid.size(); i++) {
+            MarketAnalysisResponse item = valid.get(i);
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertBatch(List.of(item), now));
+                result.addSaved(1);
+            } catch (DataAccessException e) {
+                result.addFailure(validIndexes.get(i), item.getSearchKeyword(), e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    private void insertBatch(List<MarketAnalysisResponse> items, LocalDateTime analysisDate) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        Timestamp timestamp = Timestamp.valueOf(analysisDate);
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        MarketAnalysisResponse item = items.get(i);
+                        ps.setString(1, item.getSearchKeyword().trim());
+                        ps.setString(2, item.getCategory());
+                        ps.setInt(3, item.getAveragePrice());
+                        ps.setInt(4, item.getLowestPrice());
+                        ps.setString(5, item.getTopItemName());
+                        ps.setInt(6, item.getSampleCount());
+                        ps.setInt(7, item.getTotalListings());
+                        ps.setString(8, item.getCompetitionLevel());
+                        ps.setInt(9, item.getSearchVolumeRatio());
+                        ps.setString(10, item.getMarketAttractiveness());
+                        ps.setInt(11, item.getSourcingScore());
+                        ps.setTimestamp(12, timestamp);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return items.size();
+                    }
+                },
+                keyHolder);
+
+        // 단건 저장 경로와 동일하게 최신 결과 읽기 모델 upsert + 커밋 이후 후속 처리 이벤트 발행
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<MarketAnalysisResponse> savedResults = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            MarketAnalysisResponse item = items.get(i);
+            Long id = i < keys.size() ? ((Number) keys.get(i).values().iterator().next()).longValue() : null;
+            MarketAnalysisResponse saved = MarketAnalysisResponse.builder()
+                    .id(id)
+                    .searchKeyword(item.getSearchKeyword().trim())
+                    .category(item.getCategory())
+                    .averagePrice(item.getAveragePrice())
+                    .lowestPrice(item.getLowestPrice())
+                    .topItemName(item.getTopItemName())
+                    .sampleCount(item.getSampleCount())
+                    .totalListings(item.getTotalListings())
+                    .competitionLevel(item.getCompetitionLevel())
+                    .searchVolumeRatio(item.getSearchVolumeRatio())
+                    .marketAttractiveness(item.getMarketAttractiveness())
+                    .sourcingScore(item.getSourcingScore())
+                    .analysisDate(analysisDate)
+                    .build();
+            savedResults.add(saved);
+        }
+        latestRepository.upsertAll(savedResults);
+        savedResults.forEach(saved -> eventPublisher.publishEvent(new AnalysisSavedEvent(saved)));
+    }
+
+    private static String validate(MarketAnalysisResponse item) {
+        if (item == null) {
+            return "JSON 파싱 실패";
+        }
+        if (item.getSearchKeyword() == null || item.getSearchKeyword().isBlank()) {
+            return "searchKeyword 가 비어있습니다";
+        }
+        if (item.getTopItemName() != null && item.getTopItemName().length() > TOP_ITEM_NAME_MAX_LENGTH) {
+            return "topItemName 은 " + TOP_ITEM_NAME_MAX_LENGTH + "자를 넘을 수 없습니다";
+        }
+        return null;
+    }
+}
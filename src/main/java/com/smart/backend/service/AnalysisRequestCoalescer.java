@@ -0,0 +1,252 @@
+package com.smart.backend.service;
+
+import com.smart.backend.dto.MarketAnalysisResponse;
+import com.smart.backend.event.AnalysisSavedEvent;
+import com.smart.backend.event.RemoteAnalysisSavedEvent;
+import com.smart.backend.repository.MarketAnalysisLatestRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * SourcingService.sendAnalysisRequest 앞단의 요청 병합(coalescing) 계층.
+ *
+ * 1. 이 노드가 받은 정규화 키워드의 최근 결과(freshTtl 이내)가 있으면 SQS 로 보내지 않고 바로 반환합니다.
+ * 2. 같은 키워드가 이미 처리 중(SQS 전송 후 결과 미수신)이면 새 메시지를 보내지 않고 합류합니다. (DB 조회 없음)
+ * 3. in-flight 로 등록한 뒤 market_analysis_latest 에서 최근 결과를 확인하고, 없으면 SQS 로 전송합니다.
+ *    등록 후에 조회하므로 같은 키워드의 동시 요청은 DB 를 다시 조회하지 않고 합류합니다.
+ *
+ * 결과 저장은 이 노드의 커밋(AnalysisSavedEvent)과 다른 노드의 커밋(AnalysisSavedRelay)을 모두 받아 대기 중인 요청을 완료합니다.
+ * in-flight / 최근 결과 맵은 최대 크기가 정해져 있으며, 결과가 오지 않는 in-flight 항목은 inFlightTtl 후 만료됩니다.
+ */
+@Slf4j
+@Service
+public class AnalysisRequestCoalescer {
+
+    private final SourcingService sourcingService;
+    private final MarketAnalysisLatestRepository latestRepository;
+    private final TrendingKeywordService trendingKeywordService;
+
+    private final Duration freshTtl;
+    private final Duration inFlightTtl;
+    private final int maxInFlight;
+    private final int maxRecent;
+
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, MarketAnalysisResponse> recentResults = new ConcurrentHashMap<>();
+
+    private final Counter sent;
+    private final Counter joined;
+    private final Counter cached;
+    private final Timer turnaround;
+    private final Counter turnaroundTimeouts;
+
+    public AnalysisRequestCoalescer(SourcingService sourcingService,
+                                    MarketAnalysisLatestRepository latestRepository,
+                                    TrendingKeywordService trendingKeywordService,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${smart.sourcing.coalesce.fresh-ttl-seconds:600}") long freshTtlSeconds,
+                                    @Value("${smart.sourcing.coalesce.in-flight-ttl-seconds:120}") long inFlightTtlSeconds,
+                                    @Value("${smart.sourcing.coalesce.max-in-flight:10000}") int maxInFlight,
+                                    @Value("${smart.sourcing.coalesce.max-recent:10000}") int maxRecent) {
+        this.sourcingService = sourcingService;
+        this.latestRepository = latestRepository;
+        this.trendingKeywordService = trendingKeywordService;
+        this.freshTtl = Duration.ofSeconds(freshTtlSeconds);
+        this.inFlightTtl = Duration.ofSeconds(inFlightTtlSeconds);
+        this.maxInFlight = maxInFlight;
+        this.maxRecent = maxRecent;
+
+        this.sent = requestCounter(meterRegistry, "sent");
+        this.joined = requestCounter(meterRegistry, "joined");
+        this.cached = requestCounter(meterRegistry, "cached");
+        // 키워드를 태그로 달면 시계열이 무한히 늘어나므로 태그 없이 기록하고, 키워드별 값은 debug 로그로 남깁니다.
+        this.turnaround = Timer.builder("sourcing.turnaround")
+                .description("분석 요청(SQS 전송)부터 결과 저장(커밋)까지 걸린 시간")
+                .register(meterRegistry);
+        this.turnaroundTimeouts = Counter.builder("sourcing.turnaround.timeouts")
+                .description("in-flight TTL 안에 결과가 오지 않은 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("sourcing.dedup.ratio", this, AnalysisRequestCoalescer::dedupRatio)
+                .description("SQS 전송 없이 처리된 요청 비율 (joined + cached) / 전체")
+                .register(meterRegistry);
+        Gauge.builder("sourcing.inflight.size", inFlight, Map::size)
+                .description("결과를 기다리는 중인 키워드 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("sourcing.requests")
+                .description("분석 요청 처리 결과별 건수")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    public AnalysisTicket submit(String keyword) {
+        String trimmed = keyword.trim();
+        String key = KeywordNormalizer.normalize(trimmed);
+        // 인기 요청 키워드 집계 (캐시 응답/합류 여부와 무관하게 모든 요청)
+        trendingKeywordService.record(key);
+        LocalDateTime threshold = LocalDateTime.now().minus(freshTtl);
+
+        // 1. 이 노드가 받은 최근 결과 단축 응답
+        MarketAnalysisResponse recent = recentResults.get(key);
+        if (recent != null && !isStale(recent, threshold)) {
+            cached.increment();
+            log.debug("♻️ [요청 병합] 최근 결과 반환 - 키워드: '{}'", trimmed);
+            return AnalysisTicket.cached(recent);
+        }
+
+        // 2. 진행 중인 요청에 합류
+        long nowNanos = System.nanoTime();
+        InFlight created = new InFlight(nowNanos);
+        InFlight existing = inFlight.get(key);
+        if (existing != null) {
+            if (!existing.isExpired(nowNanos, inFlightTtl)) {
+                joined.increment();
+                log.debug("🔗 [요청 병합] 진행 중인 요청에 합류 - 키워드: '{}'", trimmed);
+                return AnalysisTicket.joined(existing.future);
+            }
+            // 만료된 항목에 이미 합류한 요청도 sweep 과 같은 타임아웃으로 끝냄
+            expire(key, existing);
+        }
+
+        boolean tracked = inFlight.size() < maxInFlight;
+        if (tracked) {
+            existing = inFlight.putIfAbsent(key, created);
+            if (existing != null) {
+                // 동시에 같은 키워드를 먼저 등록한 요청이 있음
+                joined.increment();
+                return AnalysisTicket.joined(existing.future);
+            }
+        }
+
+        // 3. 다른 노드가 받은 최근 결과 확인 (market_analysis_latest PK 조회)
+        MarketAnalysisResponse fresh;
+        try {
+            fresh = latestRepository.findFreshByKey(key, threshold).orElse(null);
+        } catch (RuntimeException e) {
+            release(key, created, e);
+            throw e;
+        }
+        if (fresh != null) {
+            remember(key, fresh);
+            inFlight.remove(key, created);
+            // 조회하는 동안 합류한 요청도 같은 결과로 완료
+            created.future.complete(fresh);
+            cached.increment();
+            log.debug("♻️ [요청 병합] 최근 결과 반환 (DB) - 키워드: '{}'", trimmed);
+            return AnalysisTicket.cached(fresh);
+        }
+
+        // 4. SQS 전송 (in-flight 맵이 가득 찬 경우에는 병합 없이 그냥 전송)
+        try {
+            sourcingService.sendAnalysisRequest(trimmed)
+                    .whenComplete((messageId, error) -> {
+                        if (error != null) {
+                            release(key, created, error);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            release(key, created, e);
+            throw e;
+        }
+        sent.increment();
+        return AnalysisTicket.sent(created.future);
+    }
+
+    // 분석 결과 저장(커밋) 시: 최근 결과 갱신 + 대기 중인 요청 완료
+    @TransactionalEventListener
+    public void onAnalysisSaved(AnalysisSavedEvent event) {
+        complete(event.getResult());
+    }
+
+    // 다른 노드에서 저장된 결과: 이 노드에서 기다리는 요청도 완료
+    @EventListener
+    public void onRemoteAnalysisSaved(RemoteAnalysisSavedEvent event) {
+        event.getResults().forEach(this::complete);
+    }
+
+    private void complete(MarketAnalysisResponse result) {
+        String key = KeywordNormalizer.normalize(result.getSearchKeyword());
+        remember(key, result);
+        InFlight pending = inFlight.remove(key);
+        if (pending != null) {
+            long elapsed = System.nanoTime() - pending.createdAt;
+            turnaround.record(elapsed, TimeUnit.NANOSECONDS);
+            log.debug("⏱️ [분석 소요] 키워드: '{}' | {}ms", result.getSearchKeyword(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+            pending.future.complete(result);
+        }
+    }
+
+    // 결과가 오지 않는 in-flight 항목과 오래된 최근 결과 정리
+    @Scheduled(fixedDelayString = "${smart.sourcing.coalesce.sweep-interval-ms:10000}")
+    public void sweep() {
+        long nowNanos = System.nanoTime();
+        inFlight.forEach((key, entry) -> {
+            if (entry.isExpired(nowNanos, inFlightTtl)) {
+                expire(key, entry);
+            }
+        });
+        LocalDateTime threshold = LocalDateTime.now().minus(freshTtl);
+        recentResults.values().removeIf(result -> isStale(result, threshold));
+    }
+
+    public double dedupRatio() {
+        double deduplicated = joined.count() + cached.count();
+        double total = deduplicated + sent.count();
+        return total == 0 ? 0.0 : deduplicated / total;
+    }
+
+    private void remember(String key, MarketAnalysisResponse result) {
+        if (recentResults.size() < maxRecent || recentResults.containsKey(key)) {
+            recentResults.put(key, result);
+        }
+    }
+
+    // 결과를 기다리다 만료된 in-flight 항목 정리 (submit / sweep 중 먼저 제거한 쪽만 완료)
+    private void expire(String key, InFlight entry) {
+        if (inFlight.remove(key, entry)) {
+            turnaroundTimeouts.increment();
+            entry.future.completeExceptionally(new TimeoutException("분석 결과 대기 시간 초과: " + key));
+        }
+    }
+
+    private void release(String key, InFlight entry, Throwable error) {
+        if (inFlight.remove(key, entry)) {
+            entry.future.completeExceptionally(error);
+        }
+    }
+
+    private static boolean isStale(MarketAnalysisResponse result, LocalDateTime threshold) {
+        return result.getAnalysisDate() == null || result.getAnalysisDate().isBefore(threshold);
+    }
+
+    private static final class InFlight {
+        private final long createdAt;
+        private final CompletableFuture<MarketAnalysisResponse> future = new CompletableFuture<>();
+
+        private InFlight(long createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        private boolean isExpired(long nowNanos, Duration ttl) {
+            return nowNanos - createdAt > ttl.toNanos();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.smart.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQS 분석 요청 메시지 본문 {"keyword": "..."} 생성 (SourcingService, JMH SourcingPayloadBenchmark 공용).
+ */
+final class AnalysisRequestPayload {
+
+    private AnalysisRequestPayload() {
+    }
+
+    static String build(ObjectMapper objectMapper, String keyword) throws JsonProcessingException {
+        // 1. Map을 사용하여 JSON 객체 생성 (String.format보다 안전함)
+        Map<String, String> payload = new HashMap<>();
+        payload.put("keyword", keyword);
+
+        // 2. Jackson ObjectMapper를 통해 JSON 문자열로 변환
+        // 예: keyword가 '아이폰 "케이스"'여도 -> {"keyword": "아이폰 \"케이스\""} 로 안전하게 변환됨
+        return objectMapper.writeValueAsString(payload);
+    }
+}
@@ -0,0 +1,184 @@
+package com.smart.backend.service;
+
+import com.smart.backend.repository.JobLockRepository;
+import com.smart.backend.repository.MarketAnalysisDailyRepository;
+import com.smart.backend.repository.MarketAnalysisDailyRepositoryCustom.RawPosition;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * market_analysis 보존 기간 관리 (smart.retention.enabled=true 일 때 주기 실행).
+ * AOT 이미지에서도 실행 시점 값으로 켜고 끌 수 있도록 빈은 항상 등록하고, 스위치는 실행할 때마다 확인합니다.
+ *
+ * 1. raw-days 일 이전 원본을 (analysis_date, id) 순서로 chunkSize 씩 잘라, 청크마다 짧은 트랜잭션 하나에서
+ *    키워드/일 단위로 market_analysis_daily 에 더하고 같은 범위의 원본을 지웁니다.
+ *    합치기와 삭제가 같은 트랜잭션이라 중간에 멈춰도 다시 실행하면 이중 집계 없이 이어서 처리됩니다.
+ * 2. rollup-days 일 이전 일 집계를 청크 단위로 지웁니다. (0 이면 보관)
+ *
+ * 새로 저장되는 행은 항상 기준 시각 이후라 실시간 저장과 범위가 겹치지 않습니다.
+ *
+ * 원본을 영구 삭제하는 작업이라 기본은 꺼져 있습니다. 켜도 job_lock 임대를 가진 노드 하나만 실행하고,
+ * 청크마다 대상 행을 먼저 잠가(FOR UPDATE) 다른 트랜잭션과 같은 행을 두 번 합치지 않습니다.
+ */
+@Slf4j
+@Component
+public class AnalysisRetentionJob {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    static final String LOCK_NAME = "analysis-retention";
+
+    private final MarketAnalysisDailyRepository dailyRepository;
+    private final JobLockRepository jobLockRepository;
+    private final String lockOwner = UUID.randomUUID().toString();
+    private final long leaseMillis;
+    private final TransactionTemplate transactionTemplate;
+    private final int rawDays;
+    private final int rollupDays;
+    private final int chunkSize;
+    private final long chunkPauseMs;
+    private final boolean enabled;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final Timer runTimer;
+    private final Counter failedRuns;
+    private final Counter rolledUpRows;
+    private final Counter deletedDailyRows;
+
+    public AnalysisRetentionJob(MarketAnalysisDailyRepository dailyRepository,
+                                JobLockRepository jobLockRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${smart.retention.raw-days:30}") int rawDays,
+                                @Value("${smart.retention.rollup-days:730}") int rollupDays,
+                                @Value("${smart.retention.chunk-size:1000}") int chunkSize,
+                                @Value("${smart.retention.chunk-pause-ms:50}") long chunkPauseMs,
+                                @Value("${smart.retention.lock-lease-minutes:10}") long leaseMinutes,
+                                @Value("${smart.retention.enabled:false}") boolean enabled) {
+        this.dailyRepository = dailyRepository;
+        this.jobLockRepository = jobLockRepository;
+        this.leaseMillis = Math.max(leaseMinutes, 1) * 60_000;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rawDays = Math.max(rawDays, 1);
+        this.rollupDays = rollupDays;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.chunkPauseMs = chunkPauseMs;
+        this.enabled = enabled;
+        this.runTimer = Timer.builder("market.retention.run")
+                .description("보존 기간 정리 1회 실행 시간")
+                .register(meterRegistry);
+        this.failedRuns = Counter.builder("market.retention.failures")
+                .description("실패한 보존 기간 정리 실행 수")
+                .register(meterRegistry);
+        this.rolledUpRows = Counter.builder("market.retention.rows")
+                .description("보존 기간 정리로 처리된 행 수")
+                .tag("stage", "rolled-up")
+                .register(meterRegistry);
+        this.deletedDailyRows = Counter.builder("market.retention.rows")
+                .description("보존 기간 정리로 처리된 행 수")
+                .tag("stage", "daily-deleted")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${smart.retention.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void run() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        if (!jobLockRepository.tryAcquire(LOCK_NAME, lockOwner, System.currentTimeMillis(), leaseMillis)) {
+            running.set(false);
+            log.info("⏭️ [보존 기간 정리] 다른 노드에서 실행 중 - 건너뜀");
+            return;
+        }
+        Timer.Sample sample = Timer.start();
+        try {
+            LocalDate today = LocalDate.now(ZONE);
+            // 일 경계 기준이라 한 날짜가 원본/집계에 나뉘어 남지 않습니다. (실행 중 중단된 경우 제외)
+            long rolled = rollUpBefore(today.minusDays(rawDays).atStartOfDay());
+            long dailyDeleted = rollupDays > 0 ? deleteDailyBefore(today.minusDays(rollupDays)) : 0;
+            log.info("🧹 [보존 기간 정리] 원본 {}건 일 집계로 이동, 오래된 일 집계 {}건 삭제", rolled, dailyDeleted);
+        } catch (RuntimeException e) {
+            failedRuns.increment();
+            log.error("❌ [보존 기간 정리] 실패 (다음 실행 때 이어서 처리): {}", e.getMessage(), e);
+        } finally {
+            sample.stop(runTimer);
+            jobLockRepository.release(LOCK_NAME, lockOwner);
+            running.set(false);
+        }
+    }
+
+    long rollUpBefore(LocalDateTime cutoff) {
+        long total = 0;
+        while (true) {
+            renewLock();
+            Optional<RawPosition> end = dailyRepository.findRawChunkEnd(cutoff, chunkSize);
+            Integer deleted = transactionTemplate.execute(status -> {
+                int locked = dailyRepository.lockRaw(cutoff, end.orElse(null));
+                dailyRepository.rollUpRaw(cutoff, end.orElse(null));
+                int removed = dailyRepository.deleteRaw(cutoff, end.orElse(null));
+                if (removed != locked) {
+                    // 잠근 행과 지운 행이 다르면 합친 값도 믿을 수 없으므로 청크 전체를 롤백
+                    throw new IllegalStateException("청크 행 수 불일치 (잠금 " + locked + ", 삭제 " + removed + ")");
+                }
+                return removed;
+            });
+            int rows = deleted != null ? deleted : 0;
+            total += rows;
+            rolledUpRows.increment(rows);
+            if (end.isEmpty() || rows == 0) {
+                return total;
+            }
+            pause();
+        }
+    }
+
+    long deleteDailyBefore(LocalDate before) {
+        long total = 0;
+        int deleted;
+        do {
+            renewLock();
+            Integer chunk = transactionTemplate.execute(status -> dailyRepository.deleteDailyChunk(before, chunkSize));
+            deleted = chunk != null ? chunk : 0;
+            total += deleted;
+            deletedDailyRows.increment(deleted);
+        } while (deleted >= chunkSize);
+        return total;
+    }
+
+    String lockOwner() {
+        return lockOwner;
+    }
+
+    // 임대를 잃었으면(다른 노드가 가져감) 더 진행하지 않고 중단
+    private void renewLock() {
+        if (!jobLockRepository.renew(LOCK_NAME, lockOwner, System.currentTimeMillis(), leaseMillis)) {
+            throw new IllegalStateException("job_lock 임대를 잃음 - 다른 노드가 이어서 처리합니다");
+        }
+    }
+
+    // 청크 사이에 쉬어 실시간 저장/복제가 밀리지 않게 합니다.
+    private void pause() {
+        if (chunkPauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("보존 기간 정리 중단", e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.smart.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smart.backend.cache.ClusterBus;
+import com.smart.backend.dto.MarketAnalysisResponse;
+import com.smart.backend.event.AnalysisSavedEvent;
+import com.smart.backend.event.RemoteAnalysisSavedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 분석 결과 저장을 다른 노드에 전파합니다.
+ *
+ * AnalysisSavedEvent 는 커밋한 노드에서만 발생하므로, 노드 메모리 상태(검색 인덱스, 통계, 요청 병합)가
+ * 다른 노드에서 저장된 결과도 반영하도록 커밋된 결과를 ClusterBus 로 보내고, 받은 노드는 RemoteAnalysisSavedEvent 로 다시 발행합니다.
+ * 요청 경로에서 Redis 호출을 하지 않도록 모아서 주기적으로 보냅니다. (pub/sub 특성상 Redis 장애 중 저장분은 유실될 수 있음)
+ */
+@Slf4j
+@Component
+public class AnalysisSavedRelay {
+
+    static final String TOPIC = "analysis-saved";
+
+    private final ClusterBus clusterBus;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final JavaType listType;
+    private final Queue<MarketAnalysisResponse> outbox = new ConcurrentLinkedQueue<>();
+
+    public AnalysisSavedRelay(ClusterBus clusterBus,
+                              ObjectMapper objectMapper,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${smart.cluster.analysis-relay.batch-size:100}") int batchSize) {
+        this.clusterBus = clusterBus;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = Math.max(batchSize, 1);
+        this.listType = objectMapper.getTypeFactory().constructCollectionType(List.class, MarketAnalysisResponse.class);
+        clusterBus.subscribe(TOPIC, this::onRemote);
+    }
+
+    @TransactionalEventListener
+    public void onAnalysisSaved(AnalysisSavedEvent event) {
+        outbox.add(event.getResult());
+    }
+
+    @Scheduled(fixedDelayString = "${smart.cluster.analysis-relay.interval-ms:100}")
+    public void flush() {
+        List<MarketAnalysisResponse> batch = new ArrayList<>(batchSize);
+        MarketAnalysisResponse result;
+        while ((result = outbox.poll()) != null) {
+            batch.add(result);
+            if (batch.size() >= batchSize) {
+                send(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    private void send(List<MarketAnalysisResponse> batch) {
+        try {
+            clusterBus.publish(TOPIC, objectMapper.writeValueAsString(batch));
+        } catch (JsonProcessingException e) {
+            log.warn("⚠️ 분석 결과 전파 직렬화 실패 ({}건): {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private void onRemote(String payload) {
+        try {
+            List<MarketAnalysisResponse> results = objectMapper.readValue(payload, listType);
+            if (!results.isEmpty()) {
+                eventPublisher.publishEvent(new RemoteAnalysisSavedEvent(results));
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("⚠️ 잘못된 분석 결과 전파 메시지: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.smart.backend.service;
+
+import com.smart.backend.dto.MarketAnalysisResponse;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * AnalysisRequestCoalescer.submit 결과.
+ * SENT: 새 SQS 메시지 전송 / JOINED: 진행 중인 동일 키워드 요청에 합류 / CACHED: 최근 결과 즉시 반환
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class AnalysisTicket {
+
+    public enum Status { SENT, JOINED, CACHED }
+
+    private final Status status;
+    // 결과가 저장되면 완료되는 future (CACHED 인 경우 이미 완료 상태)
+    private final CompletableFuture<MarketAnalysisResponse> result;
+
+    static AnalysisTicket sent(CompletableFuture<MarketAnalysisResponse> result) {
+        return new AnalysisTicket(Status.SENT, result);
+    }
+
+    static AnalysisTicket joined(CompletableFuture<MarketAnalysisResponse> result) {
+        return new AnalysisTicket(Status.JOINED, result);
+    }
+
+    static AnalysisTicket cached(MarketAnalysisResponse result) {
+        return new AnalysisTicket(Status.CACHED, CompletableFuture.completedFuture(result));
+    }
+
+    public boolean isCached() {
+        return status == Status.CACHED;
+    }
+
+    public MarketAnalysisResponse getCachedResult() {
+        return isCached() ? result.join() : null;
+    }
+}
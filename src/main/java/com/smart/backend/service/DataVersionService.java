@@ -0,0 +1,147 @@
+package com.smart.backend.service;
+
+import com.smart.backend.cache.ClusterBus;
+import com.smart.backend.entity.RankingPointer;
+import com.smart.backend.event.AnalysisSavedEvent;
+import com.smart.backend.event.RankingUpdatedEvent;
+import com.smart.backend.repository.MarketAnalysisRepository;
+import com.smart.backend.repository.RankingPointerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조회 API 의 ETag 를 만들기 위한 데이터 버전.
+ *
+ * 버전은 노드마다 다른 값(기동 시각 등)이 아니라 공유 상태에서 나옵니다.
+ * - 랭킹: 현재 랭킹 스냅샷 id (ranking_current 포인터는 앞으로만 움직임)
+ * - 분석: 저장된 market_analysis 의 최대 id. 커밋 순서가 id 순서와 달라 늦게 커밋된 행이 최대 id 를 넘지 못하면 1 올립니다.
+ * 기동 직후와 주기적으로(resync) DB 에서 다시 읽고, 커밋될 때마다 올린 값은 ClusterBus 로 다른 노드에 전파합니다.
+ * 각 노드는 받은 값과 자기 값 중 큰 값을 취하므로 ALB 뒤의 노드들이 같은 데이터에 같은 ETag 를 돌려줍니다.
+ * 전파가 끊기는 경우(Redis 장애)를 대비해 ETag 에는 maxStale 단위 시간 구간도 포함되어 그 주기마다 재검증됩니다.
+ */
+@Slf4j
+@Service
+public class DataVersionService {
+
+    private static final String VERSION_TOPIC = "data-version";
+    private static final String RANKING = "ranking";
+    private static final String ANALYSIS = "analysis";
+
+    private final ClusterBus clusterBus;
+    private final RankingPointerRepository pointerRepository;
+    private final MarketAnalysisRepository analysisRepository;
+    private final long maxStaleMillis;
+
+    private final AtomicLong rankingVersion = new AtomicLong();
+    private final AtomicLong analysisVersion = new AtomicLong();
+    // 요청 경로에서 Redis 호출을 하지 않도록 전파는 주기적으로 모아서 합니다.
+    private final AtomicBoolean rankingDirty = new AtomicBoolean();
+    private final AtomicBoolean analysisDirty = new AtomicBoolean();
+
+    public DataVersionService(ClusterBus clusterBus,
+                              RankingPointerRepository pointerRepository,
+                              MarketAnalysisRepository analysisRepository,
+                              @Value("${smart.etag.max-stale-seconds:30}") long maxStaleSeconds) {
+        this.clusterBus = clusterBus;
+        this.pointerRepository = pointerRepository;
+        this.analysisRepository = analysisRepository;
+        this.maxStaleMillis = Math.max(maxStaleSeconds, 1) * 1000;
+        clusterBus.subscribe(VERSION_TOPIC, this::onRemoteVersion);
+    }
+
+    // 공유 상태(DB)에서 버전을 다시 읽음 - 기동 직후 한 번, 이후 주기적으로 (전파를 놓친 노드도 따라잡음)
+    // 버전은 줄어들지 않으므로 이미 더 큰 값이 있으면 그대로 둡니다.
+    @Scheduled(initialDelay = 0, fixedDelayString = "${smart.etag.resync-interval-ms:10000}")
+    public void resync() {
+        try {
+            Long snapshotId = pointerRepository.findById(RankingPointer.CURRENT_ID)
+                    .map(RankingPointer::getSnapshotId)
+                    .orElse(null);
+            Long maxAnalysisId = analysisRepository.findMaxId();
+            rankingVersion.accumulateAndGet(snapshotId != null ? snapshotId : 0, Math::max);
+            analysisVersion.accumulateAndGet(maxAnalysisId != null ? maxAnalysisId : 0, Math::max);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 데이터 버전 동기화 실패 (다음 주기에 재시도): {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onRankingUpdated(RankingUpdatedEvent event) {
+        rankingVersion.accumulateAndGet(event.getSnapshotId(), Math::max);
+        rankingDirty.set(true);
+    }
+
+    @TransactionalEventListener
+    public void onAnalysisSaved(AnalysisSavedEvent event) {
+        Long id = event.getResult().getId();
+        analysisVersion.accumulateAndGet(id != null ? id : 0, DataVersionService::advance);
+        analysisDirty.set(true);
+    }
+
+    public long rankingVersion() {
+        return rankingVersion.get();
+    }
+
+    public long analysisVersion() {
+        return analysisVersion.get();
+    }
+
+    // /market/ranking
+    public String rankingEtag() {
+        return "\"r" + rankingVersion.get() + "-" + staleEpoch() + "\"";
+    }
+
+    // /market/ranking/category?categoryLabel= (카테고리별로 다른 ETag)
+    public String categoryEtag(String categoryLabel) {
+        String label = categoryLabel != null ? categoryLabel.trim() : "";
+        return "\"r" + rankingVersion.get() + "-" + staleEpoch() + "-c" + Integer.toHexString(label.hashCode()) + "\"";
+    }
+
+    // /market/list (모든 보기 방식 공통)
+    public String analysisEtag() {
+        return "\"a" + analysisVersion.get() + "-" + staleEpoch() + "\"";
+    }
+
+    @Scheduled(fixedDelayString = "${smart.etag.propagate-interval-ms:50}")
+    public void propagate() {
+        if (rankingDirty.getAndSet(false)) {
+            clusterBus.publish(VERSION_TOPIC, RANKING + ":" + rankingVersion.get());
+        }
+        if (analysisDirty.getAndSet(false)) {
+            clusterBus.publish(VERSION_TOPIC, ANALYSIS + ":" + analysisVersion.get());
+        }
+    }
+
+    private void onRemoteVersion(String payload) {
+        int sep = payload.indexOf(':');
+        if (sep < 0) {
+            return;
+        }
+        try {
+            long remote = Long.parseLong(payload.substring(sep + 1));
+            String scope = payload.substring(0, sep);
+            if (RANKING.equals(scope)) {
+                rankingVersion.accumulateAndGet(remote, Math::max);
+            } else if (ANALYSIS.equals(scope)) {
+                analysisVersion.accumulateAndGet(remote, Math::max);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("⚠️ 잘못된 데이터 버전 메시지: {}", payload);
+        }
+    }
+
+    // 새 id 가 현재 버전보다 크면 그 값, 아니면(늦게 커밋된 행) 1 올림 - 어느 쪽이든 버전이 바뀌어 캐시가 재검증됩니다.
+    private static long advance(long current, long savedId) {
+        return savedId > current ? savedId : current + 1;
+    }
+
+    private long staleEpoch() {
+        return System.currentTimeMillis() / maxStaleMillis;
+    }
+}
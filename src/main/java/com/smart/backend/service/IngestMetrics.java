@@ -0,0 +1,45 @@
+package com.smart.backend.service;
+
+import com.smart.backend.event.AnalysisSavedEvent;
+import com.smart.backend.event.RankingUpdatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 워커 결과 수신량 지표 (/market/analysis, /market/analysis/batch, /market/ranking/receive).
+ * 커밋된 건만 세도록 저장 이벤트를 커밋 이후에 받아 카운터만 올립니다.
+ */
+@Component
+public class IngestMetrics {
+
+    private final Counter analysisItems;
+    private final Counter rankingUpdates;
+    private final Counter rankingItems;
+
+    public IngestMetrics(MeterRegistry meterRegistry) {
+        this.analysisItems = Counter.builder("market.ingest.items")
+                .description("저장된 워커 결과 건수")
+                .tag("type", "analysis")
+                .register(meterRegistry);
+        this.rankingItems = Counter.builder("market.ingest.items")
+                .description("저장된 워커 결과 건수")
+                .tag("type", "ranking")
+                .register(meterRegistry);
+        this.rankingUpdates = Counter.builder("market.ingest.ranking.updates")
+                .description("저장된 랭킹 스냅샷 수")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener
+    public void onAnalysisSaved(AnalysisSavedEvent event) {
+        analysisItems.increment();
+    }
+
+    @TransactionalEventListener
+    public void onRankingUpdated(RankingUpdatedEvent event) {
+        rankingUpdates.increment();
+        rankingItems.increment(event.getRankingList().size());
+    }
+}
@@ -0,0 +1,22 @@
+package com.smart.backend.service;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 키워드 정규화: 같은 검색어가 공백/대소문자/유니코드 조합 차이로 서로 다른 키가 되지 않도록 합니다.
+ * 예: "  아이폰   케이스 " / "아이폰 케이스" -> "아이폰 케이스"
+ */
+public final class KeywordNormalizer {
+
+    private KeywordNormalizer() {
+    }
+
+    public static String normalize(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(keyword, Normalizer.Form.NFC);
+        return composed.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,110 @@
+package com.smart.backend.service;
+
+import com.smart.backend.dto.KeywordSearchResponse;
+import com.smart.backend.dto.MarketAnalysisResponse;
+import com.smart.backend.event.AnalysisSavedEvent;
+import com.smart.backend.event.RemoteAnalysisSavedEvent;
+import com.smart.backend.repository.MarketAnalysisLatestRepository;
+import com.smart.backend.search.KeywordSearchIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * 분석된 키워드 부분 검색 (GET /market/search).
+ *
+ * 기동 후 market_analysis_latest 를 키워드 키 순서로 청크 단위로 읽어 인덱스를 만들고,
+ * 이후 저장되는 분석 결과는 이벤트로 바로 반영합니다. (다른 노드의 저장분은 AnalysisSavedRelay 를 통해 받음)
+ * 인덱스 갱신은 분석 시각이 더 최신일 때만 점수를 바꾸므로, 구축 스캔과 실시간 이벤트가 섞여도 최신 점수가 남습니다.
+ */
+@Slf4j
+@Service
+public class KeywordSearchService {
+
+    private final MarketAnalysisLatestRepository latestRepository;
+    private final int buildChunkSize;
+    private final KeywordSearchIndex index = new KeywordSearchIndex();
+    private volatile boolean complete;
+
+    public KeywordSearchService(MarketAnalysisLatestRepository latestRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${smart.search.build-chunk-size:5000}") int buildChunkSize) {
+        this.latestRepository = latestRepository;
+        this.buildChunkSize = buildChunkSize;
+        Gauge.builder("search.index.keywords", index, KeywordSearchIndex::size)
+                .description("검색 인덱스의 키워드 수")
+                .register(meterRegistry);
+        Gauge.builder("search.index.postings", index, KeywordSearchIndex::postingCount)
+                .description("검색 인덱스 posting 항목 수 (항목당 4바이트)")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener
+    public void onAnalysisSaved(AnalysisSavedEvent event) {
+        add(event.getResult());
+    }
+
+    @EventListener
+    public void onRemoteAnalysisSaved(RemoteAnalysisSavedEvent event) {
+        event.getResults().forEach(this::add);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBuild() {
+        Thread worker = new Thread(this::build, "search-index-build");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    void build() {
+        long started = System.currentTimeMillis();
+        String lastKey = "";
+        long total = 0;
+        try {
+            while (true) {
+                List<MarketAnalysisResponse> chunk = latestRepository.findChunkAfterKey(lastKey, PageRequest.of(0, buildChunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                chunk.forEach(this::add);
+                total += chunk.size();
+                lastKey = KeywordNormalizer.normalize(chunk.get(chunk.size() - 1).getSearchKeyword());
+            }
+            index.trimToSize();
+            complete = true;
+            log.info("🔎 [검색 인덱스] 키워드 {}건 구축 완료 (posting {}건, {}ms)",
+                    total, index.postingCount(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("❌ [검색 인덱스] 구축 실패 - {}건까지 반영됨: {}", total, e.getMessage(), e);
+        }
+    }
+
+    public KeywordSearchResponse search(String query, int limit) {
+        String normalized = KeywordNormalizer.normalize(query);
+        KeywordSearchIndex.Result result = index.search(normalized, limit);
+        List<KeywordSearchResponse.Item> items = result.matches().stream()
+                .map(match -> new KeywordSearchResponse.Item(match.keyword(), match.sourcingScore()))
+                .toList();
+        return new KeywordSearchResponse(normalized, result.total(), complete, items);
+    }
+
+    private void add(MarketAnalysisResponse result) {
+        String keyword = result.getSearchKeyword();
+        if (keyword == null) {
+            return;
+        }
+        LocalDateTime analyzedAt = result.getAnalysisDate();
+        long analyzedAtMillis = analyzedAt != null ? analyzedAt.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+        index.upsert(KeywordNormalizer.normalize(keyword), keyword.trim(), result.getSourcingScore(), analyzedAtMillis);
+    }
+}
@@ -0,0 +1,72 @@
+package com.smart.backend.service;
+
+import com.smart.backend.dto.MarketAnalysisResponse;
+import com.smart.backend.repository.MarketAnalysisLatestRepository;
+import com.smart.backend.repository.MarketAnalysisRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * market_analysis_latest 1회성 백필 (smart.latest.backfill-on-startup=true 일 때 기동 후 실행).
+ *
+ * market_analysis 를 PK 순서로 chunkSize 씩 읽어(잠금 없는 일관된 읽기) 청크마다 짧은 트랜잭션으로 upsert 합니다.
+ * upsert 는 analysis_date 가 더 최신일 때만 덮어쓰므로, 실행 중에 들어오는 실시간 저장과 순서가 섞여도 안전합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "smart.latest.backfill-on-startup", havingValue = "true")
+public class LatestAnalysisBackfillJob {
+
+    private final MarketAnalysisRepository analysisRepository;
+    private final MarketAnalysisLatestRepository latestRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public LatestAnalysisBackfillJob(MarketAnalysisRepository analysisRepository,
+                                     MarketAnalysisLatestRepository latestRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${smart.latest.backfill-chunk-size:1000}") int chunkSize) {
+        this.analysisRepository = analysisRepository;
+        this.latestRepository = latestRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBackfill() {
+        // 기동(헬스체크)을 막지 않도록 별도 스레드에서 실행
+        Thread worker = new Thread(this::backfill, "latest-backfill");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public void backfill() {
+        log.info("🔁 [최신 결과 백필] 시작 (chunk: {})", chunkSize);
+        long lastId = 0;
+        long total = 0;
+        try {
+            while (true) {
+                List<MarketAnalysisResponse> chunk = analysisRepository.findChunkAfter(lastId, PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                transactionTemplate.executeWithoutResult(status -> latestRepository.upsertAll(chunk));
+                lastId = chunk.get(chunk.size() - 1).getId();
+                total += chunk.size();
+                log.debug("최신 결과 백필 진행 - {}건 (lastId: {})", total, lastId);
+            }
+            log.info("✅ [최신 결과 백필] 완료 - 총 {}건 처리", total);
+        } catch (Exception e) {
+            log.error("❌ [최신 결과 백필] 실패 (lastId: {}) - 다시 실행하면 처음부터 안전하게 재처리됩니다.", lastId, e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.smart.backend.service;
+
+import com.smart.backend.dto.KeywordHistoryResponse;
+import com.smart.backend.repository.MarketAnalysisDailyRepository;
+import com.smart.backend.repository.MarketAnalysisDailyRepositoryCustom.DailyAggregate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 키워드 이력 조회.
+ *
+ * 보존 기간이 지난 날짜는 market_analysis_daily, 최근 날짜는 market_analysis 원본에서 같은 형태(일 집계)로 읽어 합칩니다.
+ * 정리 작업이 도중에 멈춰 한 날짜가 양쪽에 나뉘어 있어도 합계/건수로 합치므로 결과가 같습니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class MarketHistoryService {
+
+    private final MarketAnalysisDailyRepository dailyRepository;
+    private final int maxDays;
+
+    public MarketHistoryService(MarketAnalysisDailyRepository dailyRepository,
+                                @Value("${smart.retention.history-max-days:366}") int maxDays) {
+        this.dailyRepository = dailyRepository;
+        this.maxDays = maxDays;
+    }
+
+    public KeywordHistoryResponse history(String keyword, LocalDate from, LocalDate to) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("keyword 는 필수입니다.");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from 이 to 보다 늦습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxDays) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + maxDays + "일입니다.");
+        }
+        String searchKeyword = keyword.trim();
+
+        Map<LocalDate, DailyAggregate> byDate = new TreeMap<>();
+        for (DailyAggregate daily : dailyRepository.findDaily(searchKeyword, from, to)) {
+            byDate.merge(daily.date(), daily, DailyAggregate::merge);
+        }
+        for (DailyAggregate raw : dailyRepository.aggregateRaw(searchKeyword, from, to)) {
+            byDate.merge(raw.date(), raw, DailyAggregate::merge);
+        }
+
+        List<KeywordHistoryResponse.Point> points = new ArrayList<>(byDate.size());
+        for (DailyAggregate day : byDate.values()) {
+            long n = Math.max(day.rowCount(), 1);
+            points.add(new KeywordHistoryResponse.Point(day.date(), day.category(), day.rowCount(),
+                    Math.round((double) day.sumAveragePrice() / n),
+                    Math.round((double) day.sumLowestPrice() / n),
+                    day.minLowestPrice(),
+                    Math.round((double) day.sumSourcingScore() / n),
+                    day.maxSourcingScore(),
+                    Math.round((double) day.sumSearchVolumeRatio() / n),
+                    Math.round((double) day.sumTotalListings() / n)));
+        }
+        return new KeywordHistoryResponse(searchKeyword, from, to, points);
+    }
+}
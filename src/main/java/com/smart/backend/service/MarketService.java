@@ -1,21 +1,35 @@
 package com.smart.backend.service;
 
+import com.smart.backend.dto.AnalysisCursor;
+import com.smart.backend.dto.AnalysisPage;
+import com.smart.backend.dto.CurrentRanking;
 import com.smart.backend.dto.MarketAnalysisResponse;
 import com.smart.backend.dto.RankingItem;
 import com.smart.backend.entity.MarketAnalysis;
-import com.smart.backend.entity.NaverRanking;
+import com.smart.backend.entity.RankingPointer;
+import com.smart.backend.entity.RankingSnapshot;
+import com.smart.backend.event.AnalysisSavedEvent;
+import com.smart.backend.event.RankingUpdatedEvent;
+import com.smart.backend.repository.MarketAnalysisLatestRepository;
 import com.smart.backend.repository.MarketAnalysisRepository;
 import com.smart.backend.repository.NaverRankingRepository;
+import com.smart.backend.repository.RankingPointerRepository;
+import com.smart.backend.repository.RankingSnapshotRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.CacheEvict; // 👈 [추가됨] CacheEvict를 위한 import
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -24,17 +38,63 @@ import java.util.stream.Collectors;
 public class MarketService {
 
     private final MarketAnalysisRepository analysisRepository;
+    private final MarketAnalysisLatestRepository latestRepository;
     private final NaverRankingRepository rankingRepository;
+    private final RankingSnapshotRepository snapshotRepository;
+    private final RankingPointerRepository pointerRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
 
+    private static final int MAX_PAGE_SIZE = 100;
+    // 전체 목록 스트리밍의 청크 크기 (청크마다 커넥션을 잡았다가 바로 돌려줌)
+    private static final int STREAM_CHUNK_SIZE = 500;
+
     // React 상세 분석 목록 조회 (우측 표) - 이 목록은 자주 변하므로 캐싱하지 않습니다.
-    public List<MarketAnalysisResponse> findAllAnalysis() {
-        // log.info("MarketService.findAllAnalysis 요청 처리");
-        List<MarketAnalysisResponse> responses = analysisRepository.findAllByOrderByAnalysisDateDesc().stream()
-                .map(MarketAnalysisResponse::from)
-                .collect(Collectors.toList());
-        log.debug("분석 목록 반환 크기: {}건", responses.size());
-        return responses;
+    // (analysisDate, id) 키셋 페이지네이션: 테이블 크기와 무관하게 인덱스 범위 스캔 한 번으로 끝납니다.
+    public AnalysisPage findAnalysisPage(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<MarketAnalysisResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = analysisRepository.findFirstPage(limit);
+        } else {
+            AnalysisCursor after = AnalysisCursor.decode(cursor);
+            rows = analysisRepository.findPageAfter(after.getAnalysisDate(), after.getId(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<MarketAnalysisResponse> items = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? AnalysisCursor.of(items.get(items.size() - 1)).encode() : null;
+        log.debug("분석 목록 페이지 반환 크기: {}건 (hasNext={})", items.size(), hasNext);
+        return new AnalysisPage(items, nextCursor, hasNext);
+    }
+
+    // 키워드별 최신 결과 목록 (/market/list?view=latest) - sort: score(소싱 점수순) | date(최근 분석순)
+    public List<MarketAnalysisResponse> findLatestAnalysis(String sort, int size) {
+        Pageable limit = PageRequest.of(0, Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        if ("date".equalsIgnoreCase(sort)) {
+            return latestRepository.findTopByDate(limit);
+        }
+        return latestRepository.findTopByScore(limit);
+    }
+
+    // 전체 분석 목록 스트리밍 - (analysisDate, id) 키셋 청크 단위로 읽어 consumer로 넘기므로 요청당 메모리가 일정합니다.
+    // 응답 쓰기가 느린 클라이언트가 트랜잭션(커넥션)을 붙잡지 않도록 바깥 트랜잭션 없이 실행하고,
+    // 청크 조회마다 짧은 읽기 트랜잭션을 따로 엽니다. (청크 사이에 저장된 더 최신 행은 포함되지 않음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void streamAllAnalysis(Consumer<MarketAnalysisResponse> consumer) {
+        Pageable chunk = PageRequest.of(0, STREAM_CHUNK_SIZE);
+        List<MarketAnalysisResponse> rows = analysisRepository.findFirstPage(chunk);
+        while (!rows.isEmpty()) {
+            rows.forEach(consumer);
+            if (rows.size() < STREAM_CHUNK_SIZE) {
+                return;
+            }
+            MarketAnalysisResponse last = rows.get(rows.size() - 1);
+            rows = analysisRepository.findPageAfter(last.getAnalysisDate(), last.getId(), chunk);
+        }
     }
 
     // Python Worker 분석 결과 저장 (DTO -> Entity 변환 로직 추가 필요)
@@ -44,51 +104,76 @@ public class MarketService {
         // DTO에 AnalysisDate가 없다면 현재 시간을 사용합니다.
         MarketAnalysis entity = MarketAnalysis.from(dto);
         entity.setAnalysisDate(LocalDateTime.now());
-        log.info("MarketService.saveAnalysisResult - 키워드: {}", dto.getSearchKeyword());
-        analysisRepository.save(entity);
+        log.debug("MarketService.saveAnalysisResult - 키워드: {}", dto.getSearchKeyword());
+        MarketAnalysis saved = analysisRepository.save(entity);
+        MarketAnalysisResponse savedResult = MarketAnalysisResponse.from(saved);
+        // 키워드별 최신 결과 읽기 모델도 같은 트랜잭션에서 갱신
+        latestRepository.upsertAll(List.of(savedResult));
+        // 커밋 이후 요청 병합/집계 등 후속 처리를 위한 이벤트
+        eventPublisher.publishEvent(new AnalysisSavedEvent(savedResult));
     }
 
     // Worker가 전송한 랭킹 결과를 DB에 저장
-    // ⭐️ [핵심 수정] DB에 새로운 랭킹을 저장하는 순간, 이전 캐시를 무효화(삭제)합니다.
+    // 버전 스냅샷 방식: 새 스냅샷 id 로 항목을 배치 INSERT 한 뒤 ranking_current 포인터 한 행만 전환합니다.
+    // 기존 랭킹을 지우지 않으므로 읽기 요청은 갱신 중에도 항상 완전한 이전/새 스냅샷 중 하나만 봅니다.
+    // 이전 스냅샷은 RankingSnapshotCleaner 가 비동기로 정리합니다.
     @Transactional
     @CacheEvict(value = "rankingCache", key = "'currentRankings'") // 👈 [추가됨] 이 키의 캐시를 삭제!
     public void saveNaverRanking(List<RankingItem> rankingList) {
 
-        // 🔥 한 방에 전체 삭제 (기존 데이터 클린)
-        log.info("MarketService.saveNaverRanking - 기존 랭킹 삭제 및 새로운 {}건 저장 시작", rankingList.size());
-        rankingRepository.deleteAllInBatch();
-
+        log.info("MarketService.saveNaverRanking - 새 랭킹 스냅샷 {}건 저장 시작", rankingList.size());
         LocalDateTime now = LocalDateTime.now();
 
-        List<NaverRanking> entities = rankingList.stream()
-                .map(item -> {
-                    NaverRanking entity = new NaverRanking();
-                    entity.setRanking(item.getRank());
-                    entity.setKeyword(item.getKeyword());
-                    entity.setSearchRatio(item.getSearchRatio());
-                    entity.setSaveTime(now);
-                    return entity;
-                })
-                .collect(Collectors.toList());
-
-        rankingRepository.saveAll(entities);
-        log.info("MarketService.saveNaverRanking - 저장 완료 ({}건)", entities.size());
-        // 이 시점에 @CacheEvict가 실행되어 Redis의 'rankingCache'에 있는 'currentRankings' 키가 삭제됩니다.
+        // 1. 새 스냅샷 id 발급 후 항목 배치 INSERT
+        RankingSnapshot snapshot = snapshotRepository.save(new RankingSnapshot(null, now, rankingList.size()));
+        rankingRepository.insertSnapshotItems(snapshot.getId(), rankingList, now);
+
+        // 2. 현재 스냅샷 포인터 전환 (더 새로운 스냅샷이 이미 현재면 전환하지 않음)
+        if (pointerRepository.switchTo(snapshot.getId(), now) == 0) {
+            if (!pointerRepository.existsById(RankingPointer.CURRENT_ID)) {
+                throw new IllegalStateException("ranking_current 포인터 행이 없습니다 (마이그레이션 확인 필요)");
+            }
+            // 이 스냅샷은 RankingSnapshotCleaner 가 이전 스냅샷으로 정리합니다.
+            log.warn("⚠️ MarketService.saveNaverRanking - 더 새로운 스냅샷이 이미 현재 랭킹이라 스냅샷 #{} 은 반영하지 않음",
+                    snapshot.getId());
+            return;
+        }
+        log.info("MarketService.saveNaverRanking - 저장 완료 (스냅샷 #{}, {}건)", snapshot.getId(), rankingList.size());
+        // 커밋 이후 카테고리 랭킹 인덱스(RankingIndex) 재구성
+        eventPublisher.publishEvent(new RankingUpdatedEvent(snapshot.getId(), List.copyOf(rankingList)));
+        // 커밋 이후 @CacheEvict가 실행되어 L1/L2(Redis)의 'currentRankings' 키가 삭제되고, 다른 노드의 L1도 pub/sub으로 비워집니다.
     }
 
     // DB에서 랭킹 조회 - ⭐️ 캐시가 삭제된 경우에만 DB 접근하여 새로운 데이터를 가져와 캐싱합니다.
-    @Cacheable(value = "rankingCache", key = "'currentRankings'")
+    // sync = true: 캐시 미스 시 같은 키의 동시 요청은 한 번만 DB 를 조회합니다 (TwoTierCache L1 로딩 병합)
+    // readOnly 가 아니므로 읽기 복제본을 쓰더라도 primary 에서 읽습니다.
+    // 갱신 직후 캐시를 채우는 조회라, 복제본 지연으로 이전 스냅샷을 읽으면 L2 TTL 동안 모든 노드에 남기 때문입니다.
+    @Transactional
+    @Cacheable(value = "rankingCache", key = "'currentRankings'", sync = true)
     public List<RankingItem> getNaverShoppingRanking() {
         log.info("MarketService.getNaverShoppingRanking 호출 (DB 접근 또는 캐시 사용)");
-        List<RankingItem> rankingItems = rankingRepository.findAllByOrderByRankingAsc()
-                .stream()
-                .map(e -> new RankingItem(
-                        e.getRanking(),
-                        e.getKeyword(),
-                        e.getSearchRatio()
-                ))
-                .toList();
+        List<RankingItem> rankingItems = readCurrentRanking().getItems();
         log.debug("랭킹 조회 결과: {}건", rankingItems.size());
-        return rankingItems;
+        // L2(Redis) JSON 직렬화 시 타입 정보가 복원 가능한 ArrayList 로 반환
+        return new ArrayList<>(rankingItems);
+    }
+
+    // RankingIndex 재구성용 - 캐시(L1/L2)를 거치지 않고 primary 에서 포인터와 항목을 같은 트랜잭션으로 읽습니다.
+    // 다른 노드의 갱신 알림이 캐시 무효화보다 먼저 도착해도 이전 랭킹을 다시 읽지 않도록
+    @Transactional
+    public CurrentRanking loadCurrentRanking() {
+        return readCurrentRanking();
+    }
+
+    // 포인터와 항목을 같은 트랜잭션(일관된 읽기)에서 조회해 전환 중인 스냅샷이 섞여 보이지 않습니다.
+    // 포인터가 아직 스냅샷을 가리키지 않으면(첫 랭킹 저장 전) 스냅샷 도입 이전 데이터를 사용
+    private CurrentRanking readCurrentRanking() {
+        Long snapshotId = pointerRepository.findById(RankingPointer.CURRENT_ID)
+                .map(RankingPointer::getSnapshotId)
+                .orElse(null);
+        List<RankingItem> items = snapshotId != null
+                ? rankingRepository.findSnapshotRanking(snapshotId)
+                : rankingRepository.findLegacyRanking();
+        return new CurrentRanking(snapshotId, items);
     }
-}
\ No newline at end of file
+}
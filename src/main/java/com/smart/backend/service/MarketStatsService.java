@@ -0,0 +1,154 @@
+package com.smart.backend.service;
+
+import com.smart.backend.dto.MarketAnalysisResponse;
+import com.smart.backend.dto.MarketStatsResponse;
+import com.smart.backend.event.AnalysisSavedEvent;
+import com.smart.backend.event.RemoteAnalysisSavedEvent;
+import com.smart.backend.repository.MarketAnalysisRepository;
+import com.smart.backend.stats.CategoryStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카테고리별 시장 통계 엔진 (GET /market/stats).
+ *
+ * 분석 결과가 저장될 때마다 메모리 누적 집계기(CategoryStats)를 갱신하므로 조회 시 DB GROUP BY 가 없습니다.
+ * 기동 시에는 market_analysis 를 id 청크 단위로 읽어 재구성하며, 재구성 시작 시점의 최대 id(watermark)를 기준으로
+ * 그 이하는 스캔이, 그 이후는 실시간 이벤트가 담당해 중복/누락 없이 합쳐집니다.
+ * 실시간 이벤트는 이 노드의 커밋(AnalysisSavedEvent)과 다른 노드의 커밋(AnalysisSavedRelay 가 전달)을 모두 받습니다.
+ */
+@Slf4j
+@Service
+public class MarketStatsService {
+
+    public static final String ALL = "전체";
+    private static final String UNKNOWN = "Unknown";
+    // 재구성 전(기준 id 미정) 상태
+    private static final long PENDING = Long.MIN_VALUE;
+
+    private final MarketAnalysisRepository analysisRepository;
+    private final int maxCategories;
+    private final int rebuildChunkSize;
+
+    private final CategoryStats overall = new CategoryStats(ALL);
+    private final Map<String, CategoryStats> byCategory = new ConcurrentHashMap<>();
+
+    private volatile long watermark = PENDING;
+    private final Object pendingLock = new Object();
+    private List<MarketAnalysisResponse> pendingEvents = new ArrayList<>();
+
+    public MarketStatsService(MarketAnalysisRepository analysisRepository,
+                              @Value("${smart.stats.max-categories:500}") int maxCategories,
+                              @Value("${smart.stats.rebuild-chunk-size:5000}") int rebuildChunkSize) {
+        this.analysisRepository = analysisRepository;
+        this.maxCategories = maxCategories;
+        this.rebuildChunkSize = rebuildChunkSize;
+    }
+
+    @TransactionalEventListener
+    public void onAnalysisSaved(AnalysisSavedEvent event) {
+        accept(event.getResult());
+    }
+
+    @EventListener
+    public void onRemoteAnalysisSaved(RemoteAnalysisSavedEvent event) {
+        event.getResults().forEach(this::accept);
+    }
+
+    private void accept(MarketAnalysisResponse result) {
+        if (watermark == PENDING) {
+            synchronized (pendingLock) {
+                if (watermark == PENDING) {
+                    pendingEvents.add(result);
+                    return;
+                }
+            }
+        }
+        if (result.getId() == null || result.getId() > watermark) {
+            record(result);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRebuild() {
+        Thread worker = new Thread(this::rebuild, "stats-rebuild");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    void rebuild() {
+        long started = System.currentTimeMillis();
+        Long maxId = analysisRepository.findMaxId();
+        long upTo = maxId != null ? maxId : 0L;
+
+        List<MarketAnalysisResponse> buffered;
+        synchronized (pendingLock) {
+            watermark = upTo;
+            buffered = pendingEvents;
+            pendingEvents = new ArrayList<>();
+        }
+        buffered.stream()
+                .filter(result -> result.getId() == null || result.getId() > upTo)
+                .forEach(this::record);
+
+        long lastId = 0;
+        long total = 0;
+        while (lastId < upTo) {
+            List<MarketAnalysisResponse> chunk = analysisRepository.findChunkAfter(lastId, PageRequest.of(0, rebuildChunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            for (MarketAnalysisResponse result : chunk) {
+                if (result.getId() > upTo) {
+                    lastId = upTo;
+                    break;
+                }
+                record(result);
+                lastId = result.getId();
+                total++;
+            }
+        }
+        log.info("📈 [통계 재구성] {}건 반영 완료 ({}ms)", total, System.currentTimeMillis() - started);
+    }
+
+    public void record(MarketAnalysisResponse result) {
+        overall.record(result);
+        String category = result.getCategory() != null ? result.getCategory() : UNKNOWN;
+        CategoryStats stats = byCategory.get(category);
+        if (stats == null) {
+            // 카테고리 수 상한을 넘으면 전체 집계에만 반영 (메모리 상한 유지)
+            if (byCategory.size() >= maxCategories) {
+                return;
+            }
+            stats = byCategory.computeIfAbsent(category, CategoryStats::new);
+        }
+        stats.record(result);
+    }
+
+    public MarketStatsResponse overall() {
+        return overall.snapshot();
+    }
+
+    public Map<String, MarketStatsResponse> allCategories() {
+        Map<String, MarketStatsResponse> result = new TreeMap<>();
+        byCategory.forEach((category, stats) -> result.put(category, stats.snapshot()));
+        return result;
+    }
+
+    // 없는 카테고리면 null
+    public MarketStatsResponse category(String category) {
+        CategoryStats stats = byCategory.get(category);
+        return stats != null ? stats.snapshot() : null;
+    }
+}
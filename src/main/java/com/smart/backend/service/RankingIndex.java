@@ -0,0 +1,203 @@
+package com.smart.backend.service;
+
+import com.smart.backend.cache.ClusterBus;
+import com.smart.backend.dto.CurrentRanking;
+import com.smart.backend.dto.RankingItem;
+import com.smart.backend.event.RankingUpdatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 카테고리별 랭킹 인덱스.
+ *
+ * 랭킹이 갱신될 때 한 번만 "[카테고리] 상품명" 키워드를 카테고리별로 나누고 정렬/상위 N개/순위 부여까지 끝낸
+ * 불변 스냅샷을 만들어 AtomicReference 로 교체합니다.
+ * 조회는 Map 조회 한 번(O(1))이며, 캐시에 있는 공유 RankingItem 을 수정하지 않습니다.
+ * 갱신 알림(pub/sub)을 놓쳐도 계속 이전 랭킹을 보여주지 않도록 스냅샷은 max-age 가 지나면 다시 만듭니다. (L1 TTL 과 같은 안전장치)
+ */
+@Slf4j
+@Component
+public class RankingIndex {
+
+    private static final String RANKING_TOPIC = "ranking-updated";
+
+    private final MarketService marketService;
+    private final ClusterBus clusterBus;
+    private final int categoryTopN;
+    private final long maxAgeNanos;
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    // invalidate 마다 증가 - 재구성 도중 무효화되면 만든 스냅샷을 설치하지 않음 (무효화 이전 데이터일 수 있음)
+    private final AtomicLong generation = new AtomicLong();
+
+    public RankingIndex(MarketService marketService,
+                        ClusterBus clusterBus,
+                        @Value("${smart.ranking.category-top-n:10}") int categoryTopN,
+                        @Value("${smart.ranking.index-max-age-seconds:30}") long maxAgeSeconds) {
+        this.marketService = marketService;
+        this.clusterBus = clusterBus;
+        this.categoryTopN = categoryTopN;
+        this.maxAgeNanos = TimeUnit.SECONDS.toNanos(Math.max(maxAgeSeconds, 1));
+        // 다른 노드에서 랭킹이 갱신되면 새 스냅샷 id 를 받아, 이 노드의 스냅샷이 그보다 오래됐으면 버리고
+        // 다음 조회 때 primary 에서 다시 만듭니다. (캐시 무효화 메시지와 순서가 보장되지 않으므로 캐시를 거치지 않음)
+        clusterBus.subscribe(RANKING_TOPIC, this::onRemoteUpdate);
+    }
+
+    public Snapshot current() {
+        Snapshot snapshot = current.get();
+        if (snapshot != null && System.nanoTime() - snapshot.builtAtNanos <= maxAgeNanos) {
+            return snapshot;
+        }
+        // 기동 후 첫 조회, 무효화 이후 또는 max-age 경과: primary 의 현재 랭킹으로 스냅샷 생성
+        long generationBefore = generation.get();
+        CurrentRanking ranking = marketService.loadCurrentRanking();
+        Snapshot rebuilt = Snapshot.build(idOf(ranking.getSnapshotId()), ranking.getItems(), categoryTopN);
+        while (true) {
+            Snapshot existing = current.get();
+            if (generation.get() != generationBefore) {
+                // 재구성 중 무효화됨: 이번 요청에만 쓰고 설치하지 않음 (다음 조회가 다시 만듦)
+                return rebuilt;
+            }
+            if (existing != null && existing != snapshot && existing.snapshotId >= rebuilt.snapshotId) {
+                return existing;
+            }
+            if (current.compareAndSet(existing, rebuilt)) {
+                return rebuilt;
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onRankingUpdated(RankingUpdatedEvent event) {
+        long snapshotId = idOf(event.getSnapshotId());
+        publish(snapshotId, event.getRankingList());
+        clusterBus.publish(RANKING_TOPIC, String.valueOf(snapshotId));
+    }
+
+    // 이미 같거나 더 새로운 스냅샷이 있으면 교체하지 않습니다. (늦게 도착한 이전 갱신이 되돌리지 않도록)
+    public void publish(long snapshotId, List<RankingItem> rankingList) {
+        Snapshot snapshot = Snapshot.build(snapshotId, rankingList, categoryTopN);
+        Snapshot existing;
+        do {
+            existing = current.get();
+            if (existing != null && existing.snapshotId > snapshotId) {
+                return;
+            }
+        } while (!current.compareAndSet(existing, snapshot));
+        log.debug("랭킹 인덱스 갱신 - 스냅샷 #{}, 전체 {}건, 카테고리 {}개",
+                snapshotId, snapshot.getAll().size(), snapshot.categoryCount());
+    }
+
+    // 다음 조회 시 primary 에서 다시 만들도록 비웁니다.
+    public void invalidate() {
+        generation.incrementAndGet();
+        current.set(null);
+    }
+
+    private void onRemoteUpdate(String payload) {
+        long snapshotId;
+        try {
+            snapshotId = Long.parseLong(payload);
+        } catch (NumberFormatException e) {
+            invalidate();
+            return;
+        }
+        Snapshot snapshot = current.get();
+        if (snapshot == null || snapshot.snapshotId < snapshotId) {
+            invalidate();
+        }
+    }
+
+    // 포인터가 스냅샷을 가리키지 않는 경우(이전 방식 데이터)는 0
+    private static long idOf(Long snapshotId) {
+        return snapshotId != null ? snapshotId : 0;
+    }
+
+    /**
+     * "[카테고리] 상품명" 형식에서 카테고리 라벨을 추출합니다. 형식이 아니면 null.
+     */
+    static String categoryOf(String keyword) {
+        if (keyword == null || !keyword.startsWith("[")) {
+            return null;
+        }
+        int end = keyword.indexOf(']');
+        return end > 1 ? keyword.substring(1, end) : null;
+    }
+
+    /**
+     * 한 번 만들어진 뒤에는 변경되지 않는 랭킹 스냅샷.
+     */
+    public static final class Snapshot {
+        private final long snapshotId;
+        private final List<RankingItem> all;
+        private final Map<String, List<RankingItem>> byCategory;
+        private final long builtAtNanos = System.nanoTime();
+
+        private Snapshot(long snapshotId, List<RankingItem> all, Map<String, List<RankingItem>> byCategory) {
+            this.snapshotId = snapshotId;
+            this.all = all;
+            this.byCategory = byCategory;
+        }
+
+        static Snapshot build(List<RankingItem> rankingList, int topN) {
+            return build(0, rankingList, topN);
+        }
+
+        static Snapshot build(long snapshotId, List<RankingItem> rankingList, int topN) {
+            List<RankingItem> source = rankingList != null ? rankingList : List.of();
+
+            // 원본(캐시) 객체와 분리된 복사본으로 구성
+            List<RankingItem> all = new ArrayList<>(source.size());
+            Map<String, List<RankingItem>> grouped = new LinkedHashMap<>();
+            for (RankingItem item : source) {
+                all.add(new RankingItem(item.getRank(), item.getKeyword(), item.getSearchRatio()));
+                String category = categoryOf(item.getKeyword());
+                if (category != null) {
+                    grouped.computeIfAbsent(category, key -> new ArrayList<>()).add(item);
+                }
+            }
+
+            Map<String, List<RankingItem>> byCategory = new HashMap<>(grouped.size() * 2);
+            grouped.forEach((category, items) -> {
+                items.sort(Comparator.comparingInt(RankingItem::getRank));
+                int size = Math.min(topN, items.size());
+                List<RankingItem> top = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    RankingItem item = items.get(i);
+                    // 카테고리 내 순위(1부터)를 미리 부여
+                    top.add(new RankingItem(i + 1, item.getKeyword(), item.getSearchRatio()));
+                }
+                byCategory.put(category, Collections.unmodifiableList(top));
+            });
+            return new Snapshot(snapshotId, Collections.unmodifiableList(all), Collections.unmodifiableMap(byCategory));
+        }
+
+        public long getSnapshotId() {
+            return snapshotId;
+        }
+
+        public List<RankingItem> getAll() {
+            return all;
+        }
+
+        public List<RankingItem> category(String categoryLabel) {
+            return byCategory.getOrDefault(categoryLabel, List.of());
+        }
+
+        public int categoryCount() {
+            return byCategory.size();
+        }
+    }
+}
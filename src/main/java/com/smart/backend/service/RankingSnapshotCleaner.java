@@ -0,0 +1,78 @@
+package com.smart.backend.service;
+
+import com.smart.backend.entity.RankingPointer;
+import com.smart.backend.repository.NaverRankingRepository;
+import com.smart.backend.repository.RankingPointerRepository;
+import com.smart.backend.repository.RankingSnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 오래된 랭킹 스냅샷 정리 (비동기, 주기 실행).
+ * 현재 스냅샷 + 직전 retain 개를 제외한 스냅샷 항목을 작은 청크 단위 DELETE(각각 짧은 트랜잭션)로 지웁니다.
+ */
+@Slf4j
+@Component
+public class RankingSnapshotCleaner {
+
+    private final NaverRankingRepository rankingRepository;
+    private final RankingSnapshotRepository snapshotRepository;
+    private final RankingPointerRepository pointerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int retain;
+    private final int chunkSize;
+
+    public RankingSnapshotCleaner(NaverRankingRepository rankingRepository,
+                                  RankingSnapshotRepository snapshotRepository,
+                                  RankingPointerRepository pointerRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${smart.ranking.snapshot.retain:2}") int retain,
+                                  @Value("${smart.ranking.snapshot.delete-chunk-size:1000}") int chunkSize) {
+        this.rankingRepository = rankingRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.pointerRepository = pointerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retain = retain;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${smart.ranking.snapshot.cleanup-interval-ms:60000}")
+    public void cleanup() {
+        Long currentId = pointerRepository.findById(RankingPointer.CURRENT_ID)
+                .map(RankingPointer::getSnapshotId)
+                .orElse(null);
+        if (currentId == null) {
+            return;
+        }
+
+        // 포인터가 생긴 이후에는 스냅샷 도입 이전 데이터도 필요 없음
+        int legacyDeleted = deleteInChunks(null);
+        if (legacyDeleted > 0) {
+            log.info("🧹 이전 방식 랭킹 데이터 정리 완료 ({}건)", legacyDeleted);
+        }
+
+        List<Long> older = snapshotRepository.findIdsOlderThan(currentId);
+        for (Long snapshotId : older.subList(Math.min(retain, older.size()), older.size())) {
+            int deleted = deleteInChunks(snapshotId);
+            transactionTemplate.executeWithoutResult(status -> snapshotRepository.deleteById(snapshotId));
+            log.info("🧹 랭킹 스냅샷 #{} 정리 완료 ({}건)", snapshotId, deleted);
+        }
+    }
+
+    private int deleteInChunks(Long snapshotId) {
+        int total = 0;
+        int deleted;
+        do {
+            Integer chunk = transactionTemplate.execute(status -> rankingRepository.deleteSnapshotChunk(snapshotId, chunkSize));
+            deleted = chunk != null ? chunk : 0;
+            total += deleted;
+        } while (deleted >= chunkSize);
+        return total;
+    }
+}
@@ -0,0 +1,120 @@
+package com.smart.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smart.backend.cache.EncodedJson;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 자주 조회되는 읽기 API 의 응답 본문(JSON byte[]) 캐시.
+ *
+ * 데이터가 바뀔 때 뷰마다 한 번만 직렬화하고, 이후 요청은 Jackson 을 거치지 않고 같은 byte[] 를 그대로 씁니다.
+ * - 랭킹(/ranking, /ranking/category): RankingIndex 스냅샷 객체 단위로 묶여 있어 스냅샷이 바뀌면 통째로 버립니다.
+ * - 최신 분석 목록(/list?view=latest): 분석 데이터 버전 단위. 버전은 조회 전에 읽으므로 본문이 버전보다 오래될 수 없습니다.
+ */
+@Slf4j
+@Component
+public class ResponseBodyCache {
+
+    private static final String ALL_CATEGORIES = "";
+    private static final int MAX_LATEST_SIZE = 100;
+
+    private final MarketService marketService;
+    private final RankingIndex rankingIndex;
+    private final DataVersionService dataVersionService;
+    private final ObjectMapper objectMapper;
+    private final int gzipMinBytes;
+
+    private final EncodedJson emptyList;
+    private final AtomicReference<Views<RankingIndex.Snapshot>> rankingViews = new AtomicReference<>();
+    private final AtomicReference<Views<Long>> latestViews = new AtomicReference<>();
+
+    public ResponseBodyCache(MarketService marketService,
+                             RankingIndex rankingIndex,
+                             DataVersionService dataVersionService,
+                             ObjectMapper objectMapper,
+                             @Value("${smart.response-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.marketService = marketService;
+        this.rankingIndex = rankingIndex;
+        this.dataVersionService = dataVersionService;
+        this.objectMapper = objectMapper;
+        this.gzipMinBytes = gzipMinBytes;
+        this.emptyList = EncodedJson.encode(objectMapper, List.of(), gzipMinBytes);
+    }
+
+    // /market/ranking (전체 랭킹)
+    public EncodedJson ranking() {
+        return rankingView(ALL_CATEGORIES);
+    }
+
+    // /market/ranking/category - 없는 카테고리는 공용 빈 배열 (임의 라벨로 캐시가 커지지 않도록)
+    public EncodedJson rankingCategory(String categoryLabel) {
+        return rankingView(categoryLabel);
+    }
+
+    // /market/list?view=latest
+    public EncodedJson latestAnalysis(String sort, int size) {
+        long version = dataVersionService.analysisVersion();
+        Views<Long> views = latestViews.get();
+        // 버전은 증가만 하므로 더 새로운 묶음이 이미 있으면 그대로 사용 (뒤늦은 요청이 되돌리지 않도록)
+        while (views == null || views.source < version) {
+            Views<Long> fresh = new Views<>(version);
+            if (latestViews.compareAndSet(views, fresh)) {
+                views = fresh;
+                break;
+            }
+            views = latestViews.get();
+        }
+        String normalizedSort = "date".equalsIgnoreCase(sort) ? "date" : "score";
+        int normalizedSize = Math.min(Math.max(size, 1), MAX_LATEST_SIZE);
+        return views.get(normalizedSort + ":" + normalizedSize,
+                () -> marketService.findLatestAnalysis(normalizedSort, normalizedSize));
+    }
+
+    private EncodedJson rankingView(String categoryLabel) {
+        RankingIndex.Snapshot snapshot = rankingIndex.current();
+        if (!ALL_CATEGORIES.equals(categoryLabel) && snapshot.category(categoryLabel).isEmpty()) {
+            return emptyList;
+        }
+        Views<RankingIndex.Snapshot> views = rankingViews.get();
+        // 스냅샷이 바뀌었으면 이전 뷰 묶음을 통째로 버리고 교체
+        while (views == null || views.source != snapshot) {
+            Views<RankingIndex.Snapshot> fresh = new Views<>(snapshot);
+            if (rankingViews.compareAndSet(views, fresh)) {
+                views = fresh;
+                break;
+            }
+            views = rankingViews.get();
+        }
+        return views.get(categoryLabel, () -> ALL_CATEGORIES.equals(categoryLabel)
+                ? snapshot.getAll() : snapshot.category(categoryLabel));
+    }
+
+    private final class Views<T> {
+        private final T source;
+        private final Map<String, EncodedJson> bodies = new ConcurrentHashMap<>();
+
+        private Views(T source) {
+            this.source = source;
+        }
+
+        // 같은 뷰의 동시 미스는 computeIfAbsent 로 한 번만 직렬화
+        EncodedJson get(String key, Supplier<Object> loader) {
+            EncodedJson body = bodies.get(key);
+            if (body != null) {
+                return body;
+            }
+            return bodies.computeIfAbsent(key, k -> {
+                log.debug("응답 본문 캐시 재생성 - 뷰: '{}'", k);
+                return EncodedJson.encode(objectMapper, loader.get(), gzipMinBytes);
+            });
+        }
+    }
+}
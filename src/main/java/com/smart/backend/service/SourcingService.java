@@ -1,51 +1,132 @@
 package com.smart.backend.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smart.backend.admission.ConcurrencyLimiter;
+import com.smart.backend.logging.LogSampler;
+import io.awspring.cloud.sqs.operations.SendResult;
 import io.awspring.cloud.sqs.operations.SqsTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class SourcingService {
 
-    private final SqsTemplate sqsTemplate;
+    // 지연 생성 빈 (AwsConfig) - 첫 전송 또는 기동 후 워밍업 때 SQS 클라이언트와 함께 만들어집니다.
+    private final ObjectProvider<SqsTemplate> sqsTemplate;
     private final ObjectMapper objectMapper; // Spring Boot가 기본 제공하는 Bean 주입
+    // smart.sqs.batch.enabled=true 일 때만 존재 (없으면 기존 동기 전송)
+    private final ObjectProvider<SqsBatchProducer> batchProducer;
+    // 가상 스레드 모드(VirtualThreadConfig)에서만 존재 - 동기 전송 동시 호출 수 상한
+    private final ObjectProvider<ConcurrencyLimiter> sqsSendLimiter;
+    private final MeterRegistry meterRegistry;
+    // 키워드마다 남던 전송 로그는 샘플링 (실패는 항상)
+    private final LogSampler logSampler;
+
+    // 요청 경로에서 태그 조회/등록 비용이 들지 않도록 미리 등록해 둡니다.
+    private Timer batchSuccess;
+    private Timer batchError;
+    private Timer directSuccess;
+    private Timer directError;
+    private Counter serializeErrors;
+    private Counter sendErrors;
 
     // application.yml에 설정된 실제 Queue URL을 가져옵니다.
     // 예: https://sqs.ap-northeast-2.amazonaws.com/123456789/market-analysis-queue
     @Value("${spring.cloud.aws.sqs.endpoint}")
     private String queueUrl;
 
+    @PostConstruct
+    void registerMetrics() {
+        batchSuccess = sendTimer("batch", "success");
+        batchError = sendTimer("batch", "error");
+        directSuccess = sendTimer("direct", "success");
+        directError = sendTimer("direct", "error");
+        serializeErrors = errorCounter("serialize");
+        sendErrors = errorCounter("send");
+    }
+
+    private Timer sendTimer(String mode, String outcome) {
+        // batch 모드는 버퍼 대기 + SendMessageBatch 완료까지의 시간
+        return Timer.builder("sourcing.send")
+                .description("SQS 분석 요청 전송 시간")
+                .tag("mode", mode)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private Counter errorCounter(String stage) {
+        return Counter.builder("sourcing.send.errors")
+                .description("SQS 분석 요청 전송 실패 건수")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
     /**
      * 분석 요청 키워드를 SQS 대기열에 메시지로 전송합니다.
+     * 배치 모드에서는 버퍼에 넣고 즉시 반환하며, 반환된 future 는 실제 전송 완료 시 messageId 로 완료됩니다.
+     * 버퍼가 가득 차면 SqsBackpressureException 이 발생합니다.
      */
-    public void sendAnalysisRequest(String keyword) {
-        log.info("🚀 SQS 요청 준비 - 키워드: {}", keyword);
-
+    public CompletableFuture<String> sendAnalysisRequest(String keyword) {
+        String messageBody;
+        long serializeStart = System.nanoTime();
         try {
-            // 1. Map을 사용하여 JSON 객체 생성 (String.format보다 안전함)
-            Map<String, String> payload = new HashMap<>();
-            payload.put("keyword", keyword);
-
-            // 2. Jackson ObjectMapper를 통해 JSON 문자열로 변환
-            // 예: keyword가 '아이폰 "케이스"'여도 -> {"keyword": "아이폰 \"케이스\""} 로 안전하게 변환됨
-            String messageBody = objectMapper.writeValueAsString(payload);
+            messageBody = AnalysisRequestPayload.build(objectMapper, keyword);
+        } catch (Exception e) {
+            serializeErrors.increment();
+            logSampler.error(log, "sqs-serialize", keyword, serializeStart, e);
+            throw new RuntimeException("SQS 메시지 생성 중 오류 발생", e);
+        }
 
-            // 3. SQS 전송
-            sqsTemplate.send(queueUrl, messageBody);
+        // 3-A. 배치 모드: 버퍼에 넣고 즉시 반환 (SendMessageBatch 로 묶어서 전송)
+        long start = System.nanoTime();
+        SqsBatchProducer producer = batchProducer.getIfAvailable();
+        if (producer != null) {
+            return producer.enqueue(messageBody)
+                    .whenComplete((messageId, error) -> {
+                        long elapsed = System.nanoTime() - start;
+                        if (error != null) {
+                            batchError.record(elapsed, TimeUnit.NANOSECONDS);
+                            sendErrors.increment();
+                            logSampler.error(log, "sqs-send-batch", keyword, start, error);
+                        } else {
+                            batchSuccess.record(elapsed, TimeUnit.NANOSECONDS);
+                            logSampler.request(log, "sqs-send-batch", keyword, 200, start);
+                        }
+                    });
+        }
 
-            log.info("✅ SQS 전송 성공: {}", messageBody);
+        // 3-B. 동기 모드: 기존과 동일하게 요청 스레드에서 바로 전송
+        ConcurrencyLimiter limiter = sqsSendLimiter.getIfAvailable();
+        if (limiter != null && !limiter.tryAcquire()) {
+            throw new SqsBackpressureException("SQS 동시 전송 수가 한도를 넘었습니다. 잠시 후 다시 시도해주세요.");
+        }
+        try {
+            SendResult<String> result = sqsTemplate.getObject().send(queueUrl, messageBody);
+            directSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            logSampler.request(log, "sqs-send", keyword, 200, start);
+            return CompletableFuture.completedFuture(String.valueOf(result.messageId()));
         } catch (Exception e) {
-            log.error("❌ SQS 메시지 전송 실패 (키워드: {}): {}", keyword, e.getMessage());
+            directError.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            sendErrors.increment();
+            logSampler.error(log, "sqs-send", keyword, start, e);
             // 비즈니스 로직에 따라 예외를 다시 던지거나, 여기서 처리(Alert 등)할 수 있음
             throw new RuntimeException("SQS 메시지 전송 중 오류 발생", e);
+        } finally {
+            if (limiter != null) {
+                limiter.release();
+            }
         }
     }
-}
\ No newline at end of file
+}
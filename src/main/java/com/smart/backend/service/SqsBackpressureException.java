@@ -0,0 +1,12 @@
+package com.smart.backend.service;
+
+/**
+ * SQS 전송 버퍼가 가득 차서 요청을 받을 수 없을 때 발생합니다.
+ * 컨트롤러에서 503 + Retry-After 로 변환됩니다.
+ */
+public class SqsBackpressureException extends RuntimeException {
+
+    public SqsBackpressureException(String message) {
+        super(message);
+    }
+}
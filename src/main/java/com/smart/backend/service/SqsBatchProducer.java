@@ -0,0 +1,232 @@
+package com.smart.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQS 배치 전송기 (smart.sqs.batch.enabled=true 일 때만 활성화).
+ *
+ * 요청 스레드는 메시지를 bounded 버퍼에 넣고 즉시 반환하며,
+ * 전용 flusher 스레드가 batchSize(최대 10)개가 모이거나 lingerMs 가 지나면
+ * SqsAsyncClient.sendMessageBatch 로 한 번에 전송합니다.
+ * 버퍼가 가득 차면 SqsBackpressureException 으로 즉시 거절합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "smart.sqs.batch.enabled", havingValue = "true")
+public class SqsBatchProducer {
+
+    // SQS SendMessageBatch 한 번에 보낼 수 있는 최대 엔트리 수
+    public static final int MAX_BATCH_SIZE = 10;
+
+    private final SqsAsyncClient sqsAsyncClient;
+    private final String queueUrl;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final BlockingQueue<PendingMessage> buffer;
+    // 동시에 진행 중인 배치 수 제한 - 초과 시 flusher 가 대기하고, 결국 버퍼가 차서 backpressure 로 이어집니다.
+    private final Semaphore inFlightBatches;
+
+    private final DistributionSummary flushSize;
+    private final Timer lingerTime;
+    private final Counter rejected;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    @Autowired
+    public SqsBatchProducer(SqsAsyncClient sqsAsyncClient,
+                            MeterRegistry meterRegistry,
+                            @Value("${spring.cloud.aws.sqs.endpoint}") String queueUrl,
+                            @Value("${smart.sqs.batch.size:10}") int batchSize,
+                            @Value("${smart.sqs.batch.linger-ms:20}") long lingerMs,
+                            @Value("${smart.sqs.batch.buffer-capacity:10000}") int bufferCapacity,
+                            @Value("${smart.sqs.batch.max-in-flight:32}") int maxInFlight) {
+        this.sqsAsyncClient = sqsAsyncClient;
+        this.queueUrl = queueUrl;
+        this.batchSize = Math.min(Math.max(batchSize, 1), MAX_BATCH_SIZE);
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.inFlightBatches = new Semaphore(maxInFlight);
+
+        this.flushSize = DistributionSummary.builder("sqs.producer.flush.size")
+                .description("SendMessageBatch 1회당 메시지 수")
+                .register(meterRegistry);
+        this.lingerTime = Timer.builder("sqs.producer.linger")
+                .description("배치의 첫 메시지가 버퍼에 들어온 뒤 전송되기까지의 대기 시간")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("sqs.producer.rejected")
+                .description("버퍼 포화로 거절된 메시지 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("sqs.producer.failed")
+                .description("SQS 전송에 실패한 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("sqs.producer.buffer.depth", buffer, BlockingQueue::size)
+                .description("전송 대기 중인 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = new Thread(this::runFlushLoop, "sqs-batch-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("🚚 SQS 배치 전송기 시작 - batchSize: {}, lingerMs: {}, buffer: {}",
+                batchSize, TimeUnit.NANOSECONDS.toMillis(lingerNanos), buffer.remainingCapacity());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            flusher.interrupt();
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    /**
+     * 메시지를 전송 버퍼에 넣습니다. 반환된 future 는 SQS 가 메시지를 수락하면 messageId 로 완료됩니다.
+     */
+    public CompletableFuture<String> enqueue(String messageBody) {
+        PendingMessage message = new PendingMessage(messageBody, System.nanoTime());
+        if (!running || !buffer.offer(message)) {
+            rejected.increment();
+            throw new SqsBackpressureException("SQS 전송 버퍼가 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        }
+        // running 확인과 offer 사이에 종료가 시작됐다면 flusher 의 마지막 drain 이 이 메시지를 못 볼 수 있습니다.
+        // 아직 버퍼에 남아 있으면 되찾아 거절하고, 이미 빠져나갔다면 drain 이 전송합니다.
+        if (!running && buffer.remove(message)) {
+            rejected.increment();
+            throw new SqsBackpressureException("SQS 전송기가 종료 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        return message.future;
+    }
+
+    public int bufferDepth() {
+        return buffer.size();
+    }
+
+    private void runFlushLoop() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        try {
+            while (running) {
+                PendingMessage first = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 크기 트리거(batchSize) 또는 시간 트리거(첫 메시지 기준 linger) 중 먼저 도달하는 쪽에서 전송
+                long deadline = first.enqueuedAt + lingerNanos;
+                while (batch.size() < batchSize) {
+                    buffer.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingMessage next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                inFlightBatches.acquire();
+                flush(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 종료 시 남은 메시지는 linger 없이 모두 전송
+        buffer.drainTo(batch);
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            List<PendingMessage> chunk = new ArrayList<>(batch.subList(from, Math.min(from + batchSize, batch.size())));
+            inFlightBatches.acquireUninterruptibly();
+            flush(chunk);
+        }
+    }
+
+    private void flush(List<PendingMessage> batch) {
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            entries.add(SendMessageBatchRequestEntry.builder()
+                    .id(Integer.toString(i))
+                    .messageBody(batch.get(i).body)
+                    .build());
+        }
+        flushSize.record(batch.size());
+        lingerTime.record(System.nanoTime() - batch.get(0).enqueuedAt, TimeUnit.NANOSECONDS);
+
+        SendMessageBatchRequest request = SendMessageBatchRequest.builder()
+                .queueUrl(queueUrl)
+                .entries(entries)
+                .build();
+        try {
+            sqsAsyncClient.sendMessageBatch(request)
+                    .whenComplete((response, error) -> {
+                        inFlightBatches.release();
+                        complete(batch, response, error);
+                    });
+        } catch (RuntimeException e) {
+            inFlightBatches.release();
+            complete(batch, null, e);
+        }
+    }
+
+    private void complete(List<PendingMessage> batch, SendMessageBatchResponse response, Throwable error) {
+        if (error != null) {
+            log.error("❌ SQS 배치 전송 실패 ({}건): {}", batch.size(), error.getMessage());
+            failed.increment(batch.size());
+            batch.forEach(message -> message.future.completeExceptionally(error));
+            return;
+        }
+        for (SendMessageBatchResultEntry entry : response.successful()) {
+            batch.get(Integer.parseInt(entry.id())).future.complete(entry.messageId());
+        }
+        for (BatchResultErrorEntry entry : response.failed()) {
+            log.error("❌ SQS 배치 항목 전송 실패 - code: {}, message: {}", entry.code(), entry.message());
+            failed.increment();
+            batch.get(Integer.parseInt(entry.id())).future.completeExceptionally(
+                    new IllegalStateException("SQS 배치 항목 전송 실패: " + entry.code()));
+        }
+    }
+
+    private static final class PendingMessage {
+        private final String body;
+        private final long enqueuedAt;
+        private final CompletableFuture<String> future = new CompletableFuture<>();
+
+        private PendingMessage(String body, long enqueuedAt) {
+            this.body = body;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.smart.backend.service;
+
+import com.smart.backend.dto.TrendingKeywordsResponse;
+import com.smart.backend.stats.SlidingTopK;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 분석 요청(/market/sourcing/request, /market/sourcing/test)이 몰리는 키워드 실시간 추적.
+ * 요청 경로에서는 정규화된 키워드를 SlidingTopK 에 기록만 하고(stripe 잠금 하나), 집계는 조회 시에만 합니다.
+ */
+@Service
+public class TrendingKeywordService {
+
+    private final SlidingTopK topK;
+    private final LongSupplier clock;
+
+    @Autowired
+    public TrendingKeywordService(@Value("${smart.trending.slots:60}") int slots,
+                                  @Value("${smart.trending.slot-seconds:60}") long slotSeconds,
+                                  @Value("${smart.trending.stripes:16}") int stripes,
+                                  @Value("${smart.trending.capacity-per-stripe:64}") int capacityPerStripe) {
+        this(slots, slotSeconds, stripes, capacityPerStripe, System::currentTimeMillis);
+    }
+
+    TrendingKeywordService(int slots, long slotSeconds, int stripes, int capacityPerStripe, LongSupplier clock) {
+        this.topK = new SlidingTopK(slots, Duration.ofSeconds(slotSeconds).toMillis(), stripes, capacityPerStripe);
+        this.clock = clock;
+    }
+
+    // 정규화된 키워드 (KeywordNormalizer) 를 받습니다.
+    public void record(String normalizedKeyword) {
+        if (!normalizedKeyword.isEmpty()) {
+            topK.record(normalizedKeyword, clock.getAsLong());
+        }
+    }
+
+    public Duration maxWindow() {
+        return Duration.ofMillis(topK.slotCount() * topK.slotMillis());
+    }
+
+    /**
+     * 최근 window 동안 가장 많이 요청된 키워드. window 는 구간 길이 단위로 올림됩니다.
+     */
+    public TrendingKeywordsResponse top(Duration window, int limit) {
+        if (window.isNegative() || window.isZero() || window.compareTo(maxWindow()) > 0) {
+            throw new IllegalArgumentException("window 는 0 보다 크고 " + maxWindow().toMinutes() + "분 이하여야 합니다.");
+        }
+        long now = clock.getAsLong();
+        int span = (int) ((window.toMillis() + topK.slotMillis() - 1) / topK.slotMillis());
+        List<TrendingKeywordsResponse.Item> items = topK.top(limit, span, now).stream()
+                .map(hitter -> new TrendingKeywordsResponse.Item(hitter.key(), hitter.count(), hitter.error()))
+                .toList();
+        long from = (now / topK.slotMillis() - span + 1) * topK.slotMillis();
+        return new TrendingKeywordsResponse(Instant.ofEpochMilli(from), Instant.ofEpochMilli(now), items);
+    }
+}
@@ -0,0 +1,78 @@
+package com.smart.backend.stats;
+
+import com.smart.backend.dto.MarketAnalysisResponse;
+import com.smart.backend.dto.MarketStatsResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 카테고리 하나의 누적 집계기. 모든 필드가 LongAdder / LongAccumulator / Atomic 배열이라
+ * 여러 요청 스레드가 락 없이 동시에 record 할 수 있습니다.
+ */
+public class CategoryStats {
+
+    private static final int SCORE_BUCKETS = 11;
+    // 가격 최대 약 1.1조 원까지 기록
+    private static final int PRICE_MAX_EXPONENT = 40;
+
+    private final String category;
+    private final LongAdder count = new LongAdder();
+    private final PriceAccumulator averagePrice = new PriceAccumulator();
+    private final PriceAccumulator lowestPrice = new PriceAccumulator();
+    private final AtomicLongArray scoreHistogram = new AtomicLongArray(SCORE_BUCKETS);
+    private final Map<String, LongAdder> competitionLevels = new ConcurrentHashMap<>();
+
+    public CategoryStats(String category) {
+        this.category = category;
+    }
+
+    public void record(MarketAnalysisResponse result) {
+        count.increment();
+        averagePrice.record(result.getAveragePrice());
+        lowestPrice.record(result.getLowestPrice());
+        scoreHistogram.incrementAndGet(Math.min(Math.max(result.getSourcingScore(), 0) / 10, SCORE_BUCKETS - 1));
+        String level = result.getCompetitionLevel() != null ? result.getCompetitionLevel() : "Unknown";
+        competitionLevels.computeIfAbsent(level, key -> new LongAdder()).increment();
+    }
+
+    public MarketStatsResponse snapshot() {
+        List<Long> histogram = new ArrayList<>(SCORE_BUCKETS);
+        for (int i = 0; i < SCORE_BUCKETS; i++) {
+            histogram.add(scoreHistogram.get(i));
+        }
+        Map<String, Long> levels = new TreeMap<>();
+        competitionLevels.forEach((level, adder) -> levels.put(level, adder.sum()));
+        return new MarketStatsResponse(category, count.sum(), averagePrice.snapshot(), lowestPrice.snapshot(),
+                histogram, levels);
+    }
+
+    private static final class PriceAccumulator {
+        private final LongAdder sum = new LongAdder();
+        private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+        private final QuantileSketch sketch = new QuantileSketch(PRICE_MAX_EXPONENT);
+
+        private void record(long value) {
+            sum.add(value);
+            min.accumulate(value);
+            max.accumulate(value);
+            sketch.record(value);
+        }
+
+        private MarketStatsResponse.PriceStats snapshot() {
+            long n = sketch.count();
+            if (n == 0) {
+                return new MarketStatsResponse.PriceStats(0, 0, 0, 0, 0, 0);
+            }
+            return new MarketStatsResponse.PriceStats(sum.sum() / n, min.get(), max.get(),
+                    sketch.quantile(0.5), sketch.quantile(0.9), sketch.quantile(0.99));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.smart.backend.stats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 락 없는 로그-선형 버킷 분위수 스케치 (HdrHistogram 방식 단순화).
+ *
+ * 0 ~ 127 은 값 그대로, 그 이상은 2의 거듭제곱 구간마다 128 개 하위 버킷으로 나눕니다.
+ * 버킷 중앙값을 대표값으로 쓰므로 상대 오차는 최대 약 0.4% 이며, 메모리는 값의 개수와 무관하게 고정입니다.
+ * 같은 설정의 스케치끼리는 버킷을 더하기만 하면 병합됩니다.
+ */
+public class QuantileSketch {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final int maxExponent;
+    private final long maxValue;
+    private final AtomicLongArray counts;
+    private final LongAdder total = new LongAdder();
+
+    /**
+     * @param maxExponent 기록 가능한 최대값의 2진 지수 (예: 40 -> 약 1.1조). 초과 값은 최대값으로 기록됩니다.
+     */
+    public QuantileSketch(int maxExponent) {
+        this.maxExponent = Math.max(maxExponent, SUB_BUCKET_BITS);
+        this.maxValue = (1L << (this.maxExponent + 1)) - 1;
+        this.counts = new AtomicLongArray((this.maxExponent - SUB_BUCKET_BITS + 2) * SUB_BUCKETS);
+    }
+
+    public void record(long value) {
+        counts.incrementAndGet(indexOf(Math.min(Math.max(value, 0), maxValue)));
+        total.increment();
+    }
+
+    public long count() {
+        return total.sum();
+    }
+
+    /**
+     * q (0.0 ~ 1.0) 분위수 근사값. 기록된 값이 없으면 0.
+     */
+    public long quantile(double q) {
+        long n = total.sum();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(Math.max(q, 0.0), 1.0) * n));
+        long seen = 0;
+        int last = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            long c = counts.get(i);
+            if (c == 0) {
+                continue;
+            }
+            last = i;
+            seen += c;
+            if (seen >= rank) {
+                return representative(i);
+            }
+        }
+        // 동시 기록으로 total 과 버킷 합이 잠시 어긋난 경우
+        return representative(last);
+    }
+
+    public void mergeFrom(QuantileSketch other) {
+        if (other.counts.length() != counts.length()) {
+            throw new IllegalArgumentException("버킷 설정이 다른 스케치는 병합할 수 없습니다.");
+        }
+        for (int i = 0; i < counts.length(); i++) {
+            long c = other.counts.get(i);
+            if (c != 0) {
+                counts.addAndGet(i, c);
+                total.add(c);
+            }
+        }
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int mantissa = (int) (value >>> shift);
+        return (shift + 1) * SUB_BUCKETS + (mantissa - SUB_BUCKETS);
+    }
+
+    // 버킷 [lower, upper] 의 중앙값
+    static long representative(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long mantissa = SUB_BUCKETS + (index % SUB_BUCKETS);
+        long lower = mantissa << shift;
+        long upper = ((mantissa + 1) << shift) - 1;
+        return lower + (upper - lower) / 2;
+    }
+}
@@ -0,0 +1,188 @@
+package com.smart.backend.stats;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시간 구간(slot)별 Space-Saving 요약으로 최근 N 구간의 상위 K 키를 구하는 스트리밍 heavy-hitter 추적기.
+ *
+ * - 메모리 고정: slot 수 x stripe 수 x stripe 당 용량 만큼의 항목만 유지하며 키 종류 수와 무관합니다.
+ * - 기록: 키 해시로 stripe 를 고르고 해당 stripe 만 잠급니다 (같은 키는 항상 같은 stripe).
+ *   용량이 차면 가장 작은 카운터를 새 키로 교체하고 그 값을 오차(error)로 남깁니다 (Space-Saving).
+ * - 구간 교체: 각 stripe 가 자기 구간 번호를 기억하고, 다른 구간의 기록이 들어오면 그때 비웁니다 (전역 잠금/타이머 없음).
+ * - 조회: 최근 구간들의 요약을 합산합니다. 어떤 구간의 (가득 찬) stripe 에 키가 없으면 그 구간에서 밀려났을 수 있으므로
+ *   그 stripe 의 최소 카운터(밀려난 키의 빈도 상한)를 count 와 error 에 함께 더합니다.
+ *   따라서 count 는 실제 빈도 이상이며 count - error 는 실제 빈도 이하입니다.
+ */
+public class SlidingTopK {
+
+    private final long slotMillis;
+    private final Slot[] slots;
+    private final int stripeMask;
+
+    /**
+     * @param slotCount         유지할 구간 수 (조회 가능한 최대 창 = slotCount x slotMillis)
+     * @param slotMillis        구간 길이
+     * @param stripes           구간당 stripe 수 (2의 거듭제곱으로 올림)
+     * @param capacityPerStripe stripe 당 추적 키 수
+     */
+    public SlidingTopK(int slotCount, long slotMillis, int stripes, int capacityPerStripe) {
+        this.slotMillis = slotMillis;
+        int stripeCount = Integer.highestOneBit(Math.max(stripes, 1) * 2 - 1);
+        this.stripeMask = stripeCount - 1;
+        this.slots = new Slot[Math.max(slotCount, 1)];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new Slot(stripeCount, Math.max(capacityPerStripe, 1));
+        }
+    }
+
+    public int slotCount() {
+        return slots.length;
+    }
+
+    public long slotMillis() {
+        return slotMillis;
+    }
+
+    public void record(String key, long nowMillis) {
+        long epoch = nowMillis / slotMillis;
+        Slot slot = slots[(int) (epoch % slots.length)];
+        slot.stripes[stripeOf(key)].add(key, epoch);
+    }
+
+    /**
+     * 현재 구간을 포함한 최근 slotSpan 개 구간의 상위 limit 개 (count 내림차순).
+     */
+    public List<HeavyHitter> top(int limit, int slotSpan, long nowMillis) {
+        long currentEpoch = nowMillis / slotMillis;
+        int span = Math.min(Math.max(slotSpan, 1), slots.length);
+        // 키 -> {count, error, 키가 있던 stripe 들의 최소 카운터 합}
+        Map<String, long[]> merged = new HashMap<>();
+        // stripe 번호별 창 안 모든 구간의 최소 카운터 합
+        long[] floorTotals = new long[stripeMask + 1];
+        for (long epoch = currentEpoch - span + 1; epoch <= currentEpoch; epoch++) {
+            if (epoch < 0) {
+                continue;
+            }
+            Stripe[] stripes = slots[(int) (epoch % slots.length)].stripes;
+            for (int i = 0; i < stripes.length; i++) {
+                floorTotals[i] += stripes[i].copyInto(merged, epoch);
+            }
+        }
+        List<HeavyHitter> hitters = new ArrayList<>(merged.size());
+        merged.forEach((key, value) -> {
+            // 키가 없던 구간에서 밀려났을 수 있는 최대 빈도
+            long missing = floorTotals[stripeOf(key)] - value[2];
+            hitters.add(new HeavyHitter(key, value[0] + missing, value[1] + missing));
+        });
+        hitters.sort((a, b) -> Long.compare(b.count(), a.count()));
+        return hitters.size() > limit ? new ArrayList<>(hitters.subList(0, Math.max(limit, 0))) : hitters;
+    }
+
+    private int stripeOf(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & stripeMask;
+    }
+
+    /**
+     * @param count 추정 빈도 (실제 빈도 이상)
+     * @param error 추정 오차 상한 (count - error 는 실제 빈도 이하)
+     */
+    public record HeavyHitter(String key, long count, long error) {
+    }
+
+    private static final class Slot {
+        private final Stripe[] stripes;
+
+        private Slot(int stripeCount, int capacity) {
+            this.stripes = new Stripe[stripeCount];
+            for (int i = 0; i < stripeCount; i++) {
+                stripes[i] = new Stripe(capacity);
+            }
+        }
+    }
+
+    private static final class Stripe {
+        private final String[] keys;
+        private final long[] counts;
+        private final long[] errors;
+        private final Map<String, Integer> index;
+        private int size;
+        private long epoch = -1;
+
+        private Stripe(int capacity) {
+            this.keys = new String[capacity];
+            this.counts = new long[capacity];
+            this.errors = new long[capacity];
+            this.index = new HashMap<>(capacity * 2);
+        }
+
+        private synchronized void add(String key, long currentEpoch) {
+            if (epoch > currentEpoch) {
+                // 이미 다음 바퀴 구간으로 넘어간 자리에 뒤늦게 도착한 기록은 버림
+                return;
+            }
+            if (epoch < currentEpoch) {
+                // 이 자리의 이전 구간 데이터는 창 밖이므로 비우고 재사용
+                clear(currentEpoch);
+            }
+            Integer slot = index.get(key);
+            if (slot != null) {
+                counts[slot]++;
+                return;
+            }
+            if (size < keys.length) {
+                put(size++, key, 1, 0);
+                return;
+            }
+            // 가장 작은 카운터를 새 키로 교체 (stripe 용량이 작아 선형 탐색이 충분히 빠름)
+            int min = 0;
+            for (int i = 1; i < size; i++) {
+                if (counts[i] < counts[min]) {
+                    min = i;
+                }
+            }
+            index.remove(keys[min]);
+            put(min, key, counts[min] + 1, counts[min]);
+        }
+
+        // 항목을 합산하고, 이 stripe 에 없는 키가 이 구간에 가졌을 수 있는 최대 빈도를 반환합니다.
+        // (가득 차지 않았으면 밀려난 키가 없으므로 0, 가득 찼으면 최소 카운터)
+        private synchronized long copyInto(Map<String, long[]> merged, long wantedEpoch) {
+            if (epoch != wantedEpoch) {
+                return 0;
+            }
+            long floor = 0;
+            if (size == keys.length) {
+                floor = counts[0];
+                for (int i = 1; i < size; i++) {
+                    floor = Math.min(floor, counts[i]);
+                }
+            }
+            for (int i = 0; i < size; i++) {
+                long[] value = merged.computeIfAbsent(keys[i], key -> new long[3]);
+                value[0] += counts[i];
+                value[1] += errors[i];
+                value[2] += floor;
+            }
+            return floor;
+        }
+
+        private void put(int slot, String key, long count, long error) {
+            keys[slot] = key;
+            counts[slot] = count;
+            errors[slot] = error;
+            index.put(key, slot);
+        }
+
+        private void clear(long newEpoch) {
+            index.clear();
+            Arrays.fill(keys, 0, size, null);
+            size = 0;
+            epoch = newEpoch;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+-- 초기 스키마: Flyway 도입 전 ddl-auto=update 가 원래 엔티티(MarketAnalysis, NaverRanking)로 만든 것과 같은 구조
+-- 이미 이 테이블들이 있는 운영 DB 는 baseline(1) 으로 기록되고 이 파일은 실행되지 않습니다. (빈 DB 에서만 실행)
+
+CREATE TABLE market_analysis (
+    id                     BIGINT       NOT NULL AUTO_INCREMENT,
+    search_keyword         VARCHAR(255) NOT NULL,
+    category               VARCHAR(255),
+    average_price          INT          NOT NULL,
+    lowest_price           INT          NOT NULL,
+    top_item_name          VARCHAR(500),
+    sample_count           INT          NOT NULL,
+    total_listings         INT          NOT NULL,
+    competition_level      VARCHAR(255),
+    search_volume_ratio    INT          NOT NULL,
+    market_attractiveness  VARCHAR(255),
+    sourcing_score         INT          NOT NULL,
+    analysis_date          DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE naver_ranking (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    ranking      INT          NOT NULL,
+    keyword      VARCHAR(255),
+    search_ratio BIGINT       NOT NULL,
+    save_time    DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,70 @@
+-- V1(초기 스키마) 이후 추가된 컬럼/인덱스/테이블
+-- 운영 DB 처럼 V1 테이블이 이미 있는 경우에도 이 파일부터 실행되어 같은 스키마가 됩니다.
+
+-- 랭킹 스냅샷 (기존 행은 snapshot_id 가 NULL 인 레거시 랭킹)
+ALTER TABLE naver_ranking ADD COLUMN snapshot_id BIGINT;
+CREATE INDEX idx_snapshot_ranking ON naver_ranking (snapshot_id, ranking);
+
+-- 키셋 페이지네이션/보존 기간 정리용 (analysis_date, id), 키워드 이력 조회용 (search_keyword, analysis_date)
+CREATE INDEX idx_analysis_date_id ON market_analysis (analysis_date, id);
+CREATE INDEX idx_keyword_date ON market_analysis (search_keyword, analysis_date);
+
+CREATE TABLE ranking_snapshot (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6),
+    item_count INT    NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE ranking_current (
+    id          BIGINT NOT NULL,
+    snapshot_id BIGINT,
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE market_analysis_latest (
+    keyword_key            VARCHAR(255) NOT NULL,
+    analysis_id            BIGINT,
+    search_keyword         VARCHAR(255) NOT NULL,
+    category               VARCHAR(255),
+    average_price          INT          NOT NULL,
+    lowest_price           INT          NOT NULL,
+    top_item_name          VARCHAR(500),
+    sample_count           INT          NOT NULL,
+    total_listings         INT          NOT NULL,
+    competition_level      VARCHAR(255),
+    search_volume_ratio    INT          NOT NULL,
+    market_attractiveness  VARCHAR(255),
+    sourcing_score         INT          NOT NULL,
+    analysis_date          DATETIME(6),
+    PRIMARY KEY (keyword_key),
+    KEY idx_latest_score (sourcing_score, analysis_date),
+    KEY idx_latest_date (analysis_date)
+) ENGINE = InnoDB;
+
+CREATE TABLE market_analysis_daily (
+    id                      BIGINT       NOT NULL AUTO_INCREMENT,
+    search_keyword          VARCHAR(255) NOT NULL,
+    stat_date               DATE         NOT NULL,
+    category                VARCHAR(255),
+    row_count               BIGINT       NOT NULL,
+    sum_average_price       BIGINT       NOT NULL,
+    sum_lowest_price        BIGINT       NOT NULL,
+    min_lowest_price        INT          NOT NULL,
+    sum_sourcing_score      BIGINT       NOT NULL,
+    max_sourcing_score      INT          NOT NULL,
+    sum_search_volume_ratio BIGINT       NOT NULL,
+    sum_total_listings      BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_daily_keyword_date (search_keyword, stat_date),
+    KEY idx_daily_date (stat_date)
+) ENGINE = InnoDB;
+
+-- 읽기 복제본 지연 감시 (ReplicaLagMonitor 가 primary 의 beat_at 을 갱신하고 복제본에서 읽음)
+CREATE TABLE replica_heartbeat (
+    id      INT    NOT NULL,
+    beat_at BIGINT NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, 0);
@@ -0,0 +1,8 @@
+-- 한 노드에서만 실행하는 배치 작업의 잠금 (JobLockRepository)
+CREATE TABLE job_lock (
+    name         VARCHAR(64)  NOT NULL,
+    locked_by    VARCHAR(64),
+    locked_until BIGINT       NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
+INSERT INTO job_lock (name, locked_by, locked_until) VALUES ('analysis-retention', NULL, 0);
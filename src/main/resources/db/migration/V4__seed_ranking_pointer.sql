@@ -0,0 +1,3 @@
+-- 현재 랭킹 스냅샷 포인터 행 (첫 랭킹 저장 전에는 snapshot_id 가 NULL -> 이전 방식 랭킹 사용)
+-- 애플리케이션은 이 행을 UPDATE 만 하므로 첫 저장 시 노드끼리 행을 만들며 경쟁하지 않습니다.
+INSERT INTO ranking_current (id, snapshot_id, updated_at) VALUES (1, NULL, NULL);
@@ -0,0 +1,94 @@
+package com.smart.backend.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlFilterTest {
+
+    private static final FilterChain OK = (req, res) -> { };
+
+    @Test
+    void sourcingBudgetIsSeparateFromReadBudget() throws Exception {
+        AdmissionControlFilter filter = filter(1, 2);
+
+        assertThat(call(filter, "POST", "/market/sourcing/request", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(call(filter, "POST", "/market/sourcing/request", "10.0.0.1").getStatus()).isEqualTo(200);
+        MockHttpServletResponse rejected = call(filter, "POST", "/market/sourcing/request", "10.0.0.1");
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+
+        // 분석 요청 예산을 다 써도 조회와 다른 클라이언트는 영향 없음
+        assertThat(call(filter, "GET", "/market/ranking", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(call(filter, "GET", "/api/market/sourcing/test", "10.0.0.2").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void workerIngestIsNotLimited() throws Exception {
+        AdmissionControlFilter filter = filter(1, 1);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(call(filter, "POST", "/market/analysis", "10.0.0.9").getStatus()).isEqualTo(200);
+            assertThat(call(filter, "POST", "/market/ranking/receive", "10.0.0.9").getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    void rejectsSourcingBeyondGlobalConcurrency() throws Exception {
+        AdmissionControlFilter filter = filter(1, 1000);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blocking = (req, res) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> {
+                filter.doFilter(request("POST", "/market/sourcing/request", "10.0.0.1"), new MockHttpServletResponse(), blocking);
+                return null;
+            });
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(call(filter, "POST", "/market/sourcing/request", "10.0.0.2").getStatus()).isEqualTo(429);
+            assertThat(call(filter, "GET", "/market/list", "10.0.0.2").getStatus()).isEqualTo(200);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(call(filter, "POST", "/market/sourcing/request", "10.0.0.2").getStatus()).isEqualTo(200);
+    }
+
+    private static AdmissionControlFilter filter(int sourcingConcurrency, int sourcingBurst) {
+        return new AdmissionControlFilter(new SimpleMeterRegistry(),
+                1, 100, 1, sourcingBurst, sourcingConcurrency, 1024, 4);
+    }
+
+    private static MockHttpServletResponse call(AdmissionControlFilter filter, String method, String uri, String ip)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(method, uri, ip), response, OK);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, String ip) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(ip);
+        return request;
+    }
+}
@@ -0,0 +1,124 @@
+package com.smart.backend.analysis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smart.backend.dto.MarketAnalysisResponse;
+import com.smart.backend.service.MarketService;
+import com.smart.backend.support.FakeMarketDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class AnalysisQueueConsumerTest {
+
+    private final MarketService marketService = mock(MarketService.class);
+    private AnalysisQueueConsumer consumer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        consumer.shutdown();
+    }
+
+    private AnalysisQueueConsumer consumer(FakeMarketDataSource dataSource, int shoppingConcurrency) {
+        consumer = new AnalysisQueueConsumer(dataSource, marketService, new ObjectMapper(),
+                new SimpleMeterRegistry(), shoppingConcurrency, 4);
+        return consumer;
+    }
+
+    private static Message<String> message(String body) {
+        return MessageBuilder.withPayload(body).build();
+    }
+
+    @Test
+    void analyzesLikeWorkerAndSavesThroughMarketService() {
+        FakeMarketDataSource dataSource = new FakeMarketDataSource(0).register("텀블러", 42, 12000, 8000, 10001);
+
+        List<Message<String>> completed = consumer(dataSource, 2).processBatch(List.of(message("{\"keyword\":\"텀블러\"}")));
+
+        assertThat(completed).hasSize(1);
+        ArgumentCaptor<MarketAnalysisResponse> saved = ArgumentCaptor.forClass(MarketAnalysisResponse.class);
+        verify(marketService).saveAnalysisResult(saved.capture());
+        MarketAnalysisResponse result = saved.getValue();
+        assertThat(result.getSearchKeyword()).isEqualTo("텀블러");
+        assertThat(result.getCategory()).isEqualTo("생활/건강");
+        assertThat(result.getAveragePrice()).isEqualTo(10000); // int(mean) 과 같이 버림
+        assertThat(result.getLowestPrice()).isEqualTo(8000);
+        assertThat(result.getSampleCount()).isEqualTo(3);
+        assertThat(result.getTotalListings()).isEqualTo(30);
+        assertThat(result.getTopItemName()).isEqualTo("텀블러 상품 0");
+        assertThat(result.getSearchVolumeRatio()).isEqualTo(42);
+        assertThat(result.getSourcingScore()).isEqualTo(42);
+        assertThat(result.getCompetitionLevel()).isEqualTo("보통");
+        assertThat(result.getMarketAttractiveness()).isEqualTo("높음");
+    }
+
+    @Test
+    void invalidAndEmptyMessagesAreAcknowledgedWithoutSaving() {
+        FakeMarketDataSource dataSource = new FakeMarketDataSource(0);
+        List<Message<String>> batch = List.of(message("not json"), message("{}"), message("{\"keyword\":\"없는 키워드\"}"));
+
+        List<Message<String>> completed = consumer(dataSource, 2).processBatch(batch);
+
+        assertThat(completed).containsExactlyElementsOf(batch);
+        verifyNoInteractions(marketService);
+    }
+
+    @Test
+    void failedSaveIsNotAcknowledged() {
+        FakeMarketDataSource dataSource = new FakeMarketDataSource(0)
+                .register("성공", 10, 1000)
+                .register("실패", 10, 1000);
+        doThrow(new IllegalStateException("DB down"))
+                .when(marketService).saveAnalysisResult(argThat(result -> "실패".equals(result.getSearchKeyword())));
+        Message<String> ok = message("{\"keyword\":\"성공\"}");
+        Message<String> broken = message("{\"keyword\":\"실패\"}");
+
+        assertThat(consumer(dataSource, 2).processBatch(List.of(ok, broken))).containsExactly(ok);
+    }
+
+    @Test
+    void upstreamFailureIsNotAcknowledgedSoSqsRedelivers() {
+        FakeMarketDataSource dataSource = new FakeMarketDataSource(0)
+                .register("성공", 10, 1000)
+                .unavailable("한도초과");
+        Message<String> ok = message("{\"keyword\":\"성공\"}");
+        Message<String> limited = message("{\"keyword\":\"한도초과\"}");
+
+        assertThat(consumer(dataSource, 2).processBatch(List.of(ok, limited))).containsExactly(ok);
+        verify(marketService, times(1)).saveAnalysisResult(any());
+    }
+
+    @Test
+    void batchFansOutWithinUpstreamLimit() {
+        FakeMarketDataSource dataSource = new FakeMarketDataSource(50);
+        List<Message<String>> batch = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            dataSource.register("키워드" + i, i, 1000 + i);
+            batch.add(message("{\"keyword\":\"키워드" + i + "\"}"));
+        }
+
+        long start = System.nanoTime();
+        List<Message<String>> completed = consumer(dataSource, 3).processBatch(batch);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(completed).hasSize(10);
+        assertThat(dataSource.maxActiveSearches()).isEqualTo(3);
+        // 순차 처리(10 x (50 + 50)ms) 보다 훨씬 빨라야 함: 쇼핑 검색 3개씩 4회 ≈ 200ms
+        assertThat(elapsedMillis).isLessThan(800);
+        verify(marketService, times(10)).saveAnalysisResult(any());
+    }
+}
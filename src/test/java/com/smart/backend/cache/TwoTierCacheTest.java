@@ -0,0 +1,190 @@
+package com.smart.backend.cache;
+
+import com.smart.backend.support.InProcessClusterBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoTierCacheTest {
+
+    // 모든 노드가 공유하는 L2 (Redis 대체)
+    private final Map<String, Cache> sharedL2 = new ConcurrentHashMap<>();
+    private final InProcessClusterBus.Hub hub = new InProcessClusterBus.Hub();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TwoTierCacheManager node() {
+        return new TwoTierCacheManager(100, Duration.ofMinutes(5),
+                name -> sharedL2.computeIfAbsent(name, ConcurrentMapCache::new),
+                hub.join(), meterRegistry);
+    }
+
+    @Test
+    void secondNodeIsServedFromL2() {
+        TwoTierCacheManager nodeA = node();
+        TwoTierCacheManager nodeB = node();
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(nodeA.getCache("rankingCache").get("k", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(nodeB.getCache("rankingCache").get("k", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void evictOnOneNodeDropsL1OnEveryNode() {
+        TwoTierCacheManager nodeA = node();
+        TwoTierCacheManager nodeB = node();
+        AtomicInteger loads = new AtomicInteger();
+        nodeA.getCache("rankingCache").get("k", () -> "v" + loads.incrementAndGet());
+        nodeB.getCache("rankingCache").get("k", () -> "v" + loads.incrementAndGet());
+
+        nodeA.getCache("rankingCache").evict("k");
+
+        // 노드 B 의 L1 도 비워졌으므로 새 값을 로딩해야 합니다.
+        assertThat(nodeB.getCache("rankingCache").get("k", () -> "v" + loads.incrementAndGet())).isEqualTo("v2");
+        assertThat(nodeA.getCache("rankingCache").get("k", () -> "v" + loads.incrementAndGet())).isEqualTo("v2");
+    }
+
+    @Test
+    void concurrentMissesLoadOnce() throws Exception {
+        TwoTierCacheManager nodeA = node();
+        Cache cache = nodeA.getCache("rankingCache");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return cache.get("cold", () -> {
+                        loads.incrementAndGet();
+                        Thread.sleep(50);
+                        return "loaded";
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void concurrentMissesShareLoaderFailure() throws Exception {
+        Cache cache = node().getCache("rankingCache");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> leader = pool.submit(() -> cache.get("cold", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                release.await();
+                throw new IllegalStateException("db down");
+            }));
+            loading.await(5, TimeUnit.SECONDS);
+            Future<Object> follower = pool.submit(() -> cache.get("cold", () -> {
+                loads.incrementAndGet();
+                return "unexpected";
+            }));
+            Thread.sleep(50);
+            release.countDown();
+
+            for (Future<Object> result : List.of(leader, follower)) {
+                assertThat(catchFailure(result)).isInstanceOf(Cache.ValueRetrievalException.class);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+        // 실패는 캐시되지 않음
+        assertThat(cache.get("cold", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    void valueLoadedDuringInvalidationIsNotWrittenToL2() {
+        TwoTierCacheManager nodeA = node();
+        TwoTierCacheManager nodeB = node();
+        Cache cacheA = nodeA.getCache("rankingCache");
+        Cache cacheB = nodeB.getCache("rankingCache");
+
+        // 노드 A 가 DB 에서 읽는 동안 노드 B 에서 데이터가 바뀌어 무효화
+        String value = cacheA.get("k", () -> {
+            cacheB.evict("k");
+            return "stale";
+        });
+
+        // 이번 호출은 읽은 값으로 응답하지만 L1/L2 어디에도 남지 않음
+        assertThat(value).isEqualTo("stale");
+        assertThat(sharedL2.get("rankingCache").get("k")).isNull();
+        assertThat(cacheA.get("k", () -> "fresh")).isEqualTo("fresh");
+        assertThat(cacheB.get("k", () -> "other")).isEqualTo("fresh");
+    }
+
+    @Test
+    void l2WriteRacingAnInvalidationIsUndone() {
+        AtomicReference<Runnable> beforePut = new AtomicReference<>();
+        Cache l2 = new ConcurrentMapCache("rankingCache") {
+            @Override
+            public void put(Object key, Object value) {
+                Runnable hook = beforePut.getAndSet(null);
+                if (hook != null) {
+                    hook.run();
+                }
+                super.put(key, value);
+            }
+        };
+        TwoTierCacheManager nodeA = new TwoTierCacheManager(100, Duration.ofMinutes(5), name -> l2, hub.join(), meterRegistry);
+        TwoTierCacheManager nodeB = new TwoTierCacheManager(100, Duration.ofMinutes(5), name -> l2, hub.join(), meterRegistry);
+        Cache cacheB = nodeB.getCache("rankingCache");
+        // 노드 A 의 무효화 확인 직후, L2 쓰기 직전에 노드 B 의 evict 가 끼어듦
+        beforePut.set(() -> cacheB.evict("k"));
+
+        nodeA.getCache("rankingCache").get("k", () -> "stale");
+
+        assertThat(l2.get("k")).isNull();
+        assertThat(cacheB.get("k", () -> "fresh")).isEqualTo("fresh");
+    }
+
+    private static Throwable catchFailure(Future<?> future) throws Exception {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            return null;
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+    }
+
+    @Test
+    void recordsMetricsPerTier() {
+        TwoTierCacheManager nodeA = node();
+        TwoTierCacheManager nodeB = node();
+        nodeA.getCache("rankingCache").get("k", () -> "v");
+        nodeB.getCache("rankingCache").get("k", () -> "v");
+
+        assertThat(meterRegistry.get("cache.gets").tags("tier", "l2", "result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tags("tier", "l2", "result", "miss").counter().count()).isEqualTo(1.0);
+    }
+}
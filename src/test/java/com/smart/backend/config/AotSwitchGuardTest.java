@@ -0,0 +1,44 @@
+package com.smart.backend.config;
+
+import com.smart.backend.admission.AdmissionControlFilter;
+import com.smart.backend.service.SqsBatchProducer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AotSwitchGuardTest {
+
+    // 기본값(redis/admission 켜짐)으로 빌드된 이미지의 빈 구성
+    private DefaultListableBeanFactory defaultImage() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("redisMessageListenerContainer",
+                new RootBeanDefinition(RedisMessageListenerContainer.class));
+        beanFactory.registerBeanDefinition("admissionControlFilter", new RootBeanDefinition(AdmissionControlFilter.class));
+        return beanFactory;
+    }
+
+    @Test
+    void defaultSettingsMatchDefaultImage() {
+        AotSwitchGuard guard = new AotSwitchGuard(new MockEnvironment(), defaultImage());
+
+        assertThat(guard.mismatches()).isEmpty();
+    }
+
+    @Test
+    void reportsRuntimeOverridesTheImageIgnores() {
+        DefaultListableBeanFactory image = defaultImage();
+        image.registerBeanDefinition("sqsBatchProducer", new RootBeanDefinition(SqsBatchProducer.class));
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("smart.sqs.batch.enabled", "true")
+                .withProperty("smart.datasource.replica.enabled", "true")
+                .withProperty("smart.cache.redis.enabled", "false");
+
+        assertThat(new AotSwitchGuard(environment, image).mismatches()).containsExactly(
+                "smart.cache.redis.enabled=false (이미지: true)",
+                "smart.datasource.replica.enabled=true (이미지: false)");
+    }
+}
@@ -0,0 +1,112 @@
+package com.smart.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smart.backend.dto.MarketAnalysisResponse;
+import com.smart.backend.logging.LogSampler;
+import com.smart.backend.repository.MarketAnalysisLatestRepository;
+import com.smart.backend.repository.MarketAnalysisRepository;
+import com.smart.backend.repository.RankingPointerRepository;
+import com.smart.backend.service.AnalysisIngestService;
+import com.smart.backend.service.AnalysisRequestCoalescer;
+import com.smart.backend.service.DataVersionService;
+import com.smart.backend.service.MarketService;
+import com.smart.backend.service.ResponseBodyCache;
+import com.smart.backend.support.InProcessClusterBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * POST /market/analysis/batch 를 H2(MySQL 모드)에 실제로 저장하며 항목별 실패 보고를 확인합니다.
+ */
+class MarketControllerBatchIngestTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JdbcTemplate jdbc;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:ingest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP ALL OBJECTS");
+        jdbc.execute("CREATE TABLE market_analysis (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "search_keyword VARCHAR(255) NOT NULL, category VARCHAR(255), average_price INT NOT NULL, "
+                + "lowest_price INT NOT NULL, top_item_name VARCHAR(500), sample_count INT NOT NULL, "
+                + "total_listings INT NOT NULL, competition_level VARCHAR(255), search_volume_ratio INT NOT NULL, "
+                + "market_attractiveness VARCHAR(255), sourcing_score INT NOT NULL, analysis_date TIMESTAMP(6))");
+
+        // 청크 3건씩: [0,1,2] [3,4]
+        AnalysisIngestService ingestService = new AnalysisIngestService(jdbc,
+                mock(MarketAnalysisLatestRepository.class), new DataSourceTransactionManager(dataSource),
+                mock(ApplicationEventPublisher.class), objectMapper, 3);
+        MarketService marketService = mock(MarketService.class);
+        DataVersionService dataVersionService = new DataVersionService(new InProcessClusterBus.Hub().join(),
+                mock(RankingPointerRepository.class), mock(MarketAnalysisRepository.class), 3600);
+        MarketController controller = new MarketController(marketService, mock(AnalysisRequestCoalescer.class),
+                ingestService, objectMapper, dataVersionService, mock(ResponseBodyCache.class),
+                new LogSampler(new MockEnvironment(), new SimpleMeterRegistry()));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void oneBadRowIsReportedWhileTheRestOfItsChunkIsCommitted() throws Exception {
+        List<MarketAnalysisResponse> items = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            items.add(item("키워드" + i, "생활/건강"));
+        }
+        // 검증은 통과하지만 DB 에서 거부되는 행 (category VARCHAR(255) 초과) -> 첫 청크 배치 INSERT 실패
+        items.set(1, item("키워드1", "가".repeat(300)));
+
+        mockMvc.perform(post("/market/analysis/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(items)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.received").value(5))
+                .andExpect(jsonPath("$.saved").value(4))
+                .andExpect(jsonPath("$.failures.length()").value(1))
+                .andExpect(jsonPath("$.failures[0].index").value(1))
+                .andExpect(jsonPath("$.failures[0].searchKeyword").value("키워드1"));
+
+        assertThat(jdbc.queryForList("SELECT search_keyword FROM market_analysis ORDER BY id", String.class))
+                .containsExactly("키워드0", "키워드2", "키워드3", "키워드4");
+    }
+
+    @Test
+    void allRowsSavedReturnsOk() throws Exception {
+        List<MarketAnalysisResponse> items = List.of(item("텀블러", "생활/건강"), item("캠핑의자", "스포츠/레저"));
+
+        mockMvc.perform(post("/market/analysis/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(items)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.saved").value(2))
+                .andExpect(jsonPath("$.failures.length()").value(0));
+    }
+
+    private static MarketAnalysisResponse item(String keyword, String category) {
+        return MarketAnalysisResponse.builder().searchKeyword(keyword).category(category)
+                .averagePrice(20_000).lowestPrice(9_000).sampleCount(10).totalListings(1_000)
+                .searchVolumeRatio(50).sourcingScore(70).build();
+    }
+}
@@ -0,0 +1,192 @@
+package com.smart.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smart.backend.dto.CurrentRanking;
+import com.smart.backend.dto.MarketAnalysisResponse;
+import com.smart.backend.dto.RankingItem;
+import com.smart.backend.entity.RankingPointer;
+import com.smart.backend.event.AnalysisSavedEvent;
+import com.smart.backend.event.RankingUpdatedEvent;
+import com.smart.backend.logging.LogSampler;
+import com.smart.backend.repository.MarketAnalysisRepository;
+import com.smart.backend.repository.RankingPointerRepository;
+import com.smart.backend.service.AnalysisIngestService;
+import com.smart.backend.service.AnalysisRequestCoalescer;
+import com.smart.backend.service.DataVersionService;
+import com.smart.backend.service.MarketService;
+import com.smart.backend.service.RankingIndex;
+import com.smart.backend.service.ResponseBodyCache;
+import com.smart.backend.support.InProcessClusterBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class MarketControllerEtagTest {
+
+    private final InProcessClusterBus.Hub hub = new InProcessClusterBus.Hub();
+
+    private MarketService marketService;
+    private RankingIndex rankingIndex;
+    private DataVersionService dataVersionService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        marketService = mock(MarketService.class);
+        rankingIndex = new RankingIndex(marketService, hub.join(), 10, 30);
+        dataVersionService = newNode(mock(RankingPointerRepository.class), mock(MarketAnalysisRepository.class));
+        ObjectMapper objectMapper = new ObjectMapper();
+        ResponseBodyCache responseBodyCache = new ResponseBodyCache(marketService, rankingIndex, dataVersionService,
+                objectMapper, 1024);
+        MarketController controller = new MarketController(marketService, mock(AnalysisRequestCoalescer.class),
+                mock(AnalysisIngestService.class), objectMapper, dataVersionService, responseBodyCache,
+                new LogSampler(new MockEnvironment(), new SimpleMeterRegistry()));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void notModifiedNeverTouchesServiceLayer() throws Exception {
+        mockMvc.perform(get("/market/ranking").header(HttpHeaders.IF_NONE_MATCH, dataVersionService.rankingEtag()))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/market/ranking/category").param("categoryLabel", "패션")
+                        .header(HttpHeaders.IF_NONE_MATCH, dataVersionService.categoryEtag("패션")))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/market/list").header(HttpHeaders.IF_NONE_MATCH, dataVersionService.analysisEtag()))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/market/list").param("size", "20")
+                        .header(HttpHeaders.IF_NONE_MATCH, dataVersionService.analysisEtag()))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/market/list").param("view", "latest")
+                        .header(HttpHeaders.IF_NONE_MATCH, dataVersionService.analysisEtag()))
+                .andExpect(status().isNotModified());
+
+        verifyNoInteractions(marketService);
+    }
+
+    @Test
+    void rankingUpdateChangesEtag() throws Exception {
+        when(marketService.loadCurrentRanking())
+                .thenReturn(new CurrentRanking(1L, List.of(new RankingItem(1, "[패션] 원피스", 100))));
+        String before = dataVersionService.rankingEtag();
+
+        mockMvc.perform(get("/market/ranking"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, before));
+
+        // 랭킹 저장 커밋 이후와 같은 순서: 인덱스 교체 + 버전 증가
+        List<RankingItem> updated = List.of(new RankingItem(1, "[식품] 사과", 90));
+        rankingIndex.onRankingUpdated(new RankingUpdatedEvent(2L, updated));
+        dataVersionService.onRankingUpdated(new RankingUpdatedEvent(2L, updated));
+        String after = dataVersionService.rankingEtag();
+        assertThat(after).isNotEqualTo(before);
+
+        mockMvc.perform(get("/market/ranking").header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, after))
+                .andExpect(content().json("[{\"rank\":1,\"keyword\":\"[식품] 사과\",\"searchRatio\":90}]"));
+        // 첫 조회 때 한 번만 DB 에서 스냅샷을 만들고, 이후는 이벤트로 받은 랭킹을 사용
+        verify(marketService, times(1)).loadCurrentRanking();
+    }
+
+    @Test
+    void largeRankingIsServedPreGzippedWithWeakEtag() throws Exception {
+        List<RankingItem> ranking = new ArrayList<>();
+        for (int i = 1; i <= 200; i++) {
+            ranking.add(new RankingItem(i, "[패션] 상품" + i, 1000 - i));
+        }
+        when(marketService.loadCurrentRanking()).thenReturn(new CurrentRanking(1L, ranking));
+        String etag = dataVersionService.rankingEtag();
+
+        mockMvc.perform(get("/market/ranking").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "W/" + etag));
+        // 약한 ETag 로 재검증해도 304
+        mockMvc.perform(get("/market/ranking").header(HttpHeaders.IF_NONE_MATCH, "W/" + etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/market/ranking"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
+    @Test
+    void categoryEtagsDifferPerCategory() {
+        assertThat(dataVersionService.categoryEtag("패션")).isNotEqualTo(dataVersionService.categoryEtag("식품"));
+        assertThat(dataVersionService.categoryEtag(" 패션 ")).isEqualTo(dataVersionService.categoryEtag("패션"));
+    }
+
+    @Test
+    void versionsConvergeAcrossNodes() {
+        DataVersionService other = newNode(mock(RankingPointerRepository.class), mock(MarketAnalysisRepository.class));
+
+        dataVersionService.onAnalysisSaved(new AnalysisSavedEvent(saved(10L)));
+        dataVersionService.propagate();
+        assertThat(other.analysisVersion()).isEqualTo(10L);
+
+        other.onAnalysisSaved(new AnalysisSavedEvent(saved(11L)));
+        other.propagate();
+        assertThat(dataVersionService.analysisEtag()).isEqualTo(other.analysisEtag());
+
+        // id 순서와 다르게 늦게 커밋된 행도 버전을 바꿔 캐시가 재검증됨
+        String before = other.analysisEtag();
+        other.onAnalysisSaved(new AnalysisSavedEvent(saved(9L)));
+        other.propagate();
+        assertThat(other.analysisEtag()).isNotEqualTo(before);
+        assertThat(dataVersionService.analysisEtag()).isEqualTo(other.analysisEtag());
+    }
+
+    @Test
+    void freshNodesSeededFromTheSameDatabaseServeTheSameEtags() {
+        RankingPointerRepository pointerRepository = mock(RankingPointerRepository.class);
+        when(pointerRepository.findById(RankingPointer.CURRENT_ID))
+                .thenReturn(Optional.of(new RankingPointer(RankingPointer.CURRENT_ID, 42L, LocalDateTime.now())));
+        MarketAnalysisRepository analysisRepository = mock(MarketAnalysisRepository.class);
+        when(analysisRepository.findMaxId()).thenReturn(1234L);
+
+        // 서로 다른 시각에 기동해도 (전파 없이) 같은 DB 상태면 같은 ETag
+        DataVersionService first = new DataVersionService(new InProcessClusterBus.Hub().join(),
+                pointerRepository, analysisRepository, 3600);
+        DataVersionService second = new DataVersionService(new InProcessClusterBus.Hub().join(),
+                pointerRepository, analysisRepository, 3600);
+        first.resync();
+        second.resync();
+
+        assertThat(first.rankingVersion()).isEqualTo(42L);
+        assertThat(first.analysisVersion()).isEqualTo(1234L);
+        assertThat(first.rankingEtag()).isEqualTo(second.rankingEtag());
+        assertThat(first.categoryEtag("패션")).isEqualTo(second.categoryEtag("패션"));
+        assertThat(first.analysisEtag()).isEqualTo(second.analysisEtag());
+    }
+
+    private DataVersionService newNode(RankingPointerRepository pointerRepository,
+                                       MarketAnalysisRepository analysisRepository) {
+        return new DataVersionService(hub.join(), pointerRepository, analysisRepository, 3600);
+    }
+
+    private static MarketAnalysisResponse saved(long id) {
+        MarketAnalysisResponse response = new MarketAnalysisResponse();
+        response.setId(id);
+        return response;
+    }
+}
@@ -0,0 +1,58 @@
+package com.smart.backend.datasource;
+
+import com.smart.backend.admission.ConcurrencyLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConnectionLimitingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ConcurrencyLimiter limiter;
+    private ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        // 동시 1개, 대기 없이 바로 거절
+        limiter = new ConcurrencyLimiter("db-test", 1, 0, 0, meterRegistry);
+        dataSource = new ConnectionLimitingDataSource(
+                new DriverManagerDataSource("jdbc:h2:mem:limited;DB_CLOSE_DELAY=-1", "sa", ""), limiter);
+    }
+
+    @Test
+    void rejectsBorrowBeyondLimitUntilConnectionIsClosed() throws Exception {
+        Connection first = dataSource.getConnection();
+        assertThat(limiter.active()).isEqualTo(1);
+
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(meterRegistry.get("concurrency.limit.rejected").tags("limiter", "db-test", "reason", "queue-full")
+                .counter().count()).isEqualTo(1.0);
+
+        first.close();
+        try (Connection second = dataSource.getConnection()) {
+            assertThat(second.isValid(1)).isTrue();
+            assertThat(((ConnectionProxy) second).getTargetConnection()).isNotSameAs(second);
+        }
+        assertThat(limiter.active()).isZero();
+    }
+
+    @Test
+    void closingTwiceReleasesPermitOnce() throws Exception {
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        Connection next = dataSource.getConnection();
+        assertThat(limiter.active()).isEqualTo(1);
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        next.close();
+    }
+}
@@ -0,0 +1,114 @@
+package com.smart.backend.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 H2 인메모리 DB 를 primary / 복제본으로 두고 라우팅을 확인합니다.
+ * (복제가 없으므로 복제본의 heartbeat 는 테스트가 직접 맞춥니다)
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+    private ReplicaLagMonitor monitor;
+    private JdbcTemplate routedJdbc;
+    private TransactionTemplate readOnlyTx;
+    private TransactionTemplate writeTx;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        DataSource replica = h2("replica");
+        primaryJdbc = new JdbcTemplate(primary);
+        replicaJdbc = new JdbcTemplate(replica);
+        for (JdbcTemplate jdbc : new JdbcTemplate[]{primaryJdbc, replicaJdbc}) {
+            jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16))");
+            // V2 마이그레이션과 같은 테이블
+            jdbc.execute("CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT NOT NULL PRIMARY KEY, beat_at BIGINT NOT NULL)");
+            jdbc.update("DELETE FROM node");
+            jdbc.update("DELETE FROM replica_heartbeat");
+        }
+        primaryJdbc.update("INSERT INTO node VALUES ('primary')");
+        primaryJdbc.update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, 0)");
+        replicaJdbc.update("INSERT INTO node VALUES ('replica')");
+
+        monitor = new ReplicaLagMonitor(primaryJdbc, replicaJdbc, 2_000, 1_000, clock::get);
+        DataSource routed = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replica, monitor, new SimpleMeterRegistry()));
+        routedJdbc = new JdbcTemplate(routed);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routed);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        writeTx = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplicaWhileLagIsWithinTolerance() {
+        monitor.initialize();
+        replicate();
+        clock.addAndGet(500);
+        monitor.check();
+
+        assertThat(monitor.replicaUsable()).isTrue();
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("replica");
+        assertThat(writeTx.execute(status -> currentNode())).isEqualTo("primary");
+        // 트랜잭션 밖의 조회는 primary
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaLagsOrHeartbeatIsMissing() {
+        monitor.initialize();
+        // 복제본에 heartbeat 행이 아직 없음
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("primary");
+
+        replicate();
+        clock.addAndGet(5_000);
+        monitor.check();
+
+        assertThat(monitor.lagMillis()).isEqualTo(5_000);
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    void stopsUsingReplicaWhenChecksStop() {
+        monitor.initialize();
+        replicate();
+        monitor.check();
+        assertThat(monitor.replicaUsable()).isTrue();
+
+        clock.addAndGet(10_000);
+
+        assertThat(monitor.replicaUsable()).isFalse();
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    // 복제 대신 primary 의 heartbeat 를 복제본에 복사
+    private void replicate() {
+        Long beat = primaryJdbc.queryForObject("SELECT beat_at FROM replica_heartbeat WHERE id = 1", Long.class);
+        replicaJdbc.update("DELETE FROM replica_heartbeat");
+        replicaJdbc.update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)", beat);
+    }
+
+    private String currentNode() {
+        return routedJdbc.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
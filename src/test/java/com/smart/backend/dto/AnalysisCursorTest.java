@@ -0,0 +1,40 @@
+package com.smart.backend.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AnalysisCursorTest {
+
+    @Test
+    void roundTripsDateWithNanosAndId() {
+        LocalDateTime analyzedAt = LocalDateTime.of(2025, 3, 1, 12, 30, 5, 123_456_000);
+
+        String token = new AnalysisCursor(analyzedAt, 42L).encode();
+        AnalysisCursor decoded = AnalysisCursor.decode(token);
+
+        // URL 에 그대로 넣을 수 있는 토큰
+        assertThat(token).doesNotContain("+", "/", "=");
+        assertThat(decoded.getAnalysisDate()).isEqualTo(analyzedAt);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertThatThrownBy(() -> AnalysisCursor.decode("%%%")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AnalysisCursor.decode(encode("2025-03-01T12:30")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AnalysisCursor.decode(encode("어제|42"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AnalysisCursor.decode(encode("2025-03-01T12:30|abc")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,89 @@
+package com.smart.backend.logging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogSamplerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LogSampler sampler(MockEnvironment environment) {
+        return new LogSampler(environment, meterRegistry);
+    }
+
+    private double suppressed(String endpoint) {
+        return meterRegistry.get("logging.events.suppressed").tag("endpoint", endpoint).counter().count();
+    }
+
+    @Test
+    void keepsOneInNRequests() {
+        LogSampler sampler = sampler(new MockEnvironment()
+                .withProperty("smart.logging.sampling.one-in", "10")
+                .withProperty("smart.logging.sampling.max-per-second", "1000"));
+
+        int logged = 0;
+        for (int i = 0; i < 100; i++) {
+            if (sampler.sample("sourcing-request", 0)) {
+                logged++;
+            }
+        }
+
+        assertThat(logged).isEqualTo(10);
+        assertThat(suppressed("sourcing-request")).isEqualTo(90.0);
+    }
+
+    @Test
+    void limitsLoggedRequestsPerSecondPerEndpoint() {
+        LogSampler sampler = sampler(new MockEnvironment()
+                .withProperty("smart.logging.sampling.one-in", "1")
+                .withProperty("smart.logging.sampling.max-per-second", "2"));
+        long second = TimeUnit.SECONDS.toNanos(1);
+
+        assertThat(sampler.sample("ranking-category", 0)).isTrue();
+        assertThat(sampler.sample("ranking-category", 10)).isTrue();
+        assertThat(sampler.sample("ranking-category", 20)).isFalse();
+        // 다른 엔드포인트는 따로 센다
+        assertThat(sampler.sample("sqs-send", 20)).isTrue();
+        // 다음 1초 구간
+        assertThat(sampler.sample("ranking-category", second)).isTrue();
+
+        assertThat(suppressed("ranking-category")).isEqualTo(1.0);
+    }
+
+    @Test
+    void endpointOverrideTakesPrecedence() {
+        LogSampler sampler = sampler(new MockEnvironment()
+                .withProperty("smart.logging.sampling.one-in", "100")
+                .withProperty("smart.logging.sampling.endpoints.analysis-receive.one-in", "1"));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(sampler.sample("analysis-receive", i)).isTrue();
+        }
+        assertThat(sampler.sample("sourcing-test", 0)).isTrue();
+        assertThat(sampler.sample("sourcing-test", 1)).isFalse();
+    }
+
+    @Test
+    void rejectedRequestsHaveTheirOwnRateLimitWithoutSampling() {
+        LogSampler sampler = sampler(new MockEnvironment()
+                .withProperty("smart.logging.sampling.one-in", "1000")
+                .withProperty("smart.logging.sampling.max-per-second", "1")
+                .withProperty("smart.logging.sampling.rejected-max-per-second", "3"));
+
+        // 정상 요청 샘플이 초당 제한을 다 써도 거절 로그는 따로 남음
+        assertThat(sampler.sample("sourcing-test", 0)).isTrue();
+        assertThat(sampler.sample("sourcing-test", 1)).isFalse();
+        for (int i = 0; i < 3; i++) {
+            assertThat(sampler.sampleRejected("sourcing-test", i)).isTrue();
+        }
+        assertThat(sampler.sampleRejected("sourcing-test", 3)).isFalse();
+        assertThat(sampler.sampleRejected("sourcing-test", TimeUnit.SECONDS.toNanos(1))).isTrue();
+
+        assertThat(suppressed("sourcing-test-rejected")).isEqualTo(1.0);
+    }
+}
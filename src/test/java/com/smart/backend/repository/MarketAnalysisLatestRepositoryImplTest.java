@@ -0,0 +1,80 @@
+package com.smart.backend.repository;
+
+import com.smart.backend.dto.MarketAnalysisResponse;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2(MySQL 모드)에서 최신 결과 upsert SQL 을 실제로 실행합니다. (스키마는 db/migration 스크립트)
+ */
+class MarketAnalysisLatestRepositoryImplTest {
+
+    private static final LocalDateTime NEWER = LocalDateTime.of(2025, 3, 2, 12, 0);
+    private static final LocalDateTime OLDER = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    private JdbcTemplate jdbc;
+    private MarketAnalysisLatestRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:latest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP ALL OBJECTS");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        repository = new MarketAnalysisLatestRepositoryImpl(jdbc);
+    }
+
+    @Test
+    void olderResultArrivingLateDoesNotOverwriteNewerRow() {
+        repository.upsertAll(List.of(result(2L, "캠핑의자", NEWER, 80, 30_000)));
+        // 재전송/지연된 이전 분석 결과
+        repository.upsertAll(List.of(result(1L, "캠핑의자", OLDER, 40, 90_000)));
+
+        assertNewest("캠핑의자", 2L, 80, 30_000, NEWER);
+    }
+
+    @Test
+    void outOfOrderRowsInOneBatchKeepTheNewest() {
+        repository.upsertAll(List.of(
+                result(2L, "텀블러", NEWER, 70, 15_000),
+                result(1L, "텀블러", OLDER, 20, 99_000)));
+
+        assertNewest("텀블러", 2L, 70, 15_000, NEWER);
+    }
+
+    @Test
+    void newerResultReplacesOlderRow() {
+        repository.upsertAll(List.of(result(1L, "캠핑의자", OLDER, 40, 90_000)));
+        repository.upsertAll(List.of(result(2L, "캠핑의자", NEWER, 80, 30_000)));
+
+        assertNewest("캠핑의자", 2L, 80, 30_000, NEWER);
+    }
+
+    private void assertNewest(String keyword, long analysisId, int sourcingScore, int averagePrice, LocalDateTime date) {
+        List<Map<String, Object>> rows = jdbc.queryForList("SELECT * FROM market_analysis_latest");
+        assertThat(rows).hasSize(1);
+        Map<String, Object> row = rows.get(0);
+        assertThat(row.get("search_keyword")).isEqualTo(keyword);
+        assertThat(((Number) row.get("analysis_id")).longValue()).isEqualTo(analysisId);
+        assertThat(((Number) row.get("sourcing_score")).intValue()).isEqualTo(sourcingScore);
+        assertThat(((Number) row.get("average_price")).intValue()).isEqualTo(averagePrice);
+        assertThat(jdbc.queryForObject("SELECT analysis_date FROM market_analysis_latest", LocalDateTime.class))
+                .isEqualTo(date);
+    }
+
+    private static MarketAnalysisResponse result(Long id, String keyword, LocalDateTime date, int score, int averagePrice) {
+        return new MarketAnalysisResponse(id, keyword, "생활/건강", averagePrice, averagePrice / 2, "상품", 40,
+                1_000, "보통", 50, "보통", score, date);
+    }
+}
@@ -0,0 +1,75 @@
+package com.smart.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordSearchIndexTest {
+
+    private static KeywordSearchIndex index(String... keywords) {
+        KeywordSearchIndex index = new KeywordSearchIndex();
+        for (int i = 0; i < keywords.length; i++) {
+            index.upsert(keywords[i], keywords[i], i, 1000L);
+        }
+        return index;
+    }
+
+    private static KeywordSearchIndex.Match match(String keyword, int score) {
+        return new KeywordSearchIndex.Match(keyword, score);
+    }
+
+    @Test
+    void findsSubstringAnywhereInKeyword() {
+        KeywordSearchIndex index = index("캠핑 의자", "초경량 캠핑 테이블", "아이폰 케이스", "캠핑카");
+
+        KeywordSearchIndex.Result result = index.search("캠핑", 10);
+
+        assertThat(result.total()).isEqualTo(3);
+        assertThat(result.matches()).extracting(KeywordSearchIndex.Match::keyword)
+                .containsExactly("캠핑카", "초경량 캠핑 테이블", "캠핑 의자");
+    }
+
+    @Test
+    void matchesSyllableStillBeingTyped() {
+        KeywordSearchIndex index = index("아이폰 케이스", "아이패드", "갤럭시 케이스");
+
+        assertThat(index.search("아이포", 10).matches()).containsExactly(match("아이폰 케이스", 0));
+        assertThat(index.search("케익", 10).total()).isEqualTo(0);
+        assertThat(index.search("케이", 10).total()).isEqualTo(2);
+    }
+
+    @Test
+    void shortQueriesMatchKeywordPrefixOnly() {
+        KeywordSearchIndex index = index("캠핑", "크록스", "스키");
+
+        assertThat(index.search("ㅋ", 10).matches()).extracting(KeywordSearchIndex.Match::keyword)
+                .containsExactly("크록스", "캠핑");
+        assertThat(index.search("캐", 10).matches()).containsExactly(match("캠핑", 0));
+    }
+
+    @Test
+    void ranksByScoreThenShorterKeywordAndLimits() {
+        KeywordSearchIndex index = new KeywordSearchIndex();
+        index.upsert("무선 이어폰", "무선 이어폰", 70, 1L);
+        index.upsert("무선 이어폰 케이스", "무선 이어폰 케이스", 90, 1L);
+        index.upsert("무선 이어폰 충전기", "무선 이어폰 충전기", 70, 1L);
+        index.upsert("유선 이어폰", "유선 이어폰", 95, 1L);
+
+        KeywordSearchIndex.Result result = index.search("무선 이어", 2);
+
+        assertThat(result.total()).isEqualTo(3);
+        assertThat(result.matches()).containsExactly(match("무선 이어폰 케이스", 90), match("무선 이어폰", 70));
+    }
+
+    @Test
+    void keepsScoreOfLatestAnalysisOnly() {
+        KeywordSearchIndex index = new KeywordSearchIndex();
+        index.upsert("텀블러", "텀블러", 50, 2000L);
+        index.upsert("텀블러", "텀블러", 10, 1000L);
+        assertThat(index.search("텀블러", 10).matches()).containsExactly(match("텀블러", 50));
+
+        index.upsert("텀블러", "텀블러", 80, 3000L);
+        assertThat(index.search("텀블러", 10).matches()).containsExactly(match("텀블러", 80));
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,128 @@
+package com.smart.backend.service;
+
+import com.smart.backend.dto.MarketAnalysisResponse;
+import com.smart.backend.event.AnalysisSavedEvent;
+import com.smart.backend.event.RemoteAnalysisSavedEvent;
+import com.smart.backend.repository.MarketAnalysisLatestRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AnalysisRequestCoalescerTest {
+
+    private final SourcingService sourcingService = mock(SourcingService.class);
+    private final MarketAnalysisLatestRepository latestRepository = mock(MarketAnalysisLatestRepository.class);
+
+    private AnalysisRequestCoalescer coalescer(long inFlightTtlSeconds) {
+        when(sourcingService.sendAnalysisRequest(anyString())).thenReturn(CompletableFuture.completedFuture("message-id"));
+        when(latestRepository.findFreshByKey(anyString(), any())).thenReturn(Optional.empty());
+        return new AnalysisRequestCoalescer(sourcingService, latestRepository, mock(TrendingKeywordService.class),
+                new SimpleMeterRegistry(), 600, inFlightTtlSeconds, 100, 100);
+    }
+
+    @Test
+    void sendsOnceAndJoinsConcurrentRequestsWithoutQueryingAgain() {
+        AnalysisRequestCoalescer coalescer = coalescer(120);
+
+        AnalysisTicket first = coalescer.submit(" 캠핑 의자 ");
+        AnalysisTicket second = coalescer.submit("캠핑   의자");
+
+        assertThat(first.getStatus()).isEqualTo(AnalysisTicket.Status.SENT);
+        assertThat(second.getStatus()).isEqualTo(AnalysisTicket.Status.JOINED);
+        verify(sourcingService, times(1)).sendAnalysisRequest("캠핑 의자");
+        // 합류는 in-flight 확인만으로 끝나고 DB 를 조회하지 않음
+        verify(latestRepository, times(1)).findFreshByKey(eq("캠핑 의자"), any());
+    }
+
+    @Test
+    void completesWaitingRequestsWhenResultIsSavedAndServesItFromMemory() {
+        AnalysisRequestCoalescer coalescer = coalescer(120);
+        AnalysisTicket sent = coalescer.submit("캠핑 의자");
+        AnalysisTicket joined = coalescer.submit("캠핑 의자");
+
+        MarketAnalysisResponse result = result("캠핑 의자", LocalDateTime.now());
+        coalescer.onAnalysisSaved(new AnalysisSavedEvent(result));
+
+        assertThat(sent.getResult()).isCompletedWithValue(result);
+        assertThat(joined.getResult()).isCompletedWithValue(result);
+        AnalysisTicket cached = coalescer.submit("캠핑 의자");
+        assertThat(cached.getCachedResult()).isSameAs(result);
+        verify(latestRepository, times(1)).findFreshByKey(anyString(), any());
+    }
+
+    @Test
+    void completesWaitingRequestsWhenAnotherNodeSavesTheResult() {
+        AnalysisRequestCoalescer coalescer = coalescer(120);
+        AnalysisTicket sent = coalescer.submit("텀블러");
+
+        MarketAnalysisResponse result = result("텀블러", LocalDateTime.now());
+        coalescer.onRemoteAnalysisSaved(new RemoteAnalysisSavedEvent(List.of(result)));
+
+        assertThat(sent.getResult()).isCompletedWithValue(result);
+    }
+
+    @Test
+    void returnsFreshResultFromLatestReadModelByNormalizedKey() {
+        AnalysisRequestCoalescer coalescer = coalescer(120);
+        MarketAnalysisResponse stored = result("Tumbler", LocalDateTime.now().minusMinutes(1));
+        when(latestRepository.findFreshByKey(eq("tumbler"), any())).thenReturn(Optional.of(stored));
+
+        AnalysisTicket ticket = coalescer.submit("  TUMBLER ");
+
+        assertThat(ticket.getStatus()).isEqualTo(AnalysisTicket.Status.CACHED);
+        assertThat(ticket.getCachedResult()).isSameAs(stored);
+        verify(sourcingService, never()).sendAnalysisRequest(anyString());
+        // in-flight 로 남지 않고, 다음 요청은 메모리의 최근 결과로 응답
+        assertThat(coalescer.submit("tumbler").getStatus()).isEqualTo(AnalysisTicket.Status.CACHED);
+        verify(latestRepository, times(1)).findFreshByKey(anyString(), any());
+    }
+
+    @Test
+    void expiredInFlightRequestsTimeOutAndAreSentAgain() throws Exception {
+        AnalysisRequestCoalescer coalescer = coalescer(0);
+        AnalysisTicket first = coalescer.submit("선풍기");
+        Thread.sleep(5);
+
+        coalescer.sweep();
+
+        assertThat(first.getResult()).isCompletedExceptionally();
+        assertThat(first.getResult().handle((value, error) -> error).join()).isInstanceOf(TimeoutException.class);
+        assertThat(coalescer.submit("선풍기").getStatus()).isEqualTo(AnalysisTicket.Status.SENT);
+        verify(sourcingService, times(2)).sendAnalysisRequest("선풍기");
+    }
+
+    @Test
+    void joinersOfAnExpiredEntryTimeOutWhenANewRequestReplacesIt() throws Exception {
+        AnalysisRequestCoalescer coalescer = coalescer(0);
+        AnalysisTicket first = coalescer.submit("선풍기");
+        Thread.sleep(5);
+
+        // sweep 전에 새 요청이 만료된 항목을 교체
+        AnalysisTicket second = coalescer.submit("선풍기");
+
+        assertThat(first.getResult()).isCompletedExceptionally();
+        assertThat(first.getResult().handle((value, error) -> error).join()).isInstanceOf(TimeoutException.class);
+        assertThat(second.getStatus()).isEqualTo(AnalysisTicket.Status.SENT);
+        assertThat(second.getResult()).isNotDone();
+    }
+
+    private static MarketAnalysisResponse result(String keyword, LocalDateTime analyzedAt) {
+        return MarketAnalysisResponse.builder().id(1L).searchKeyword(keyword).sourcingScore(80)
+                .analysisDate(analyzedAt).build();
+    }
+}
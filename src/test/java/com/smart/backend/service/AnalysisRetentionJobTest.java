@@ -0,0 +1,162 @@
+package com.smart.backend.service;
+
+import com.smart.backend.repository.JobLockRepository;
+import com.smart.backend.repository.MarketAnalysisDailyRepository;
+import com.smart.backend.repository.MarketAnalysisDailyRepositoryImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.mock;
+
+/**
+ * H2(MySQL 모드)에서 일 집계 합치기/청크 삭제 SQL 과 job_lock 을 실제로 실행합니다.
+ */
+class AnalysisRetentionJobTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 1, 10, 0, 0);
+
+    private JdbcTemplate jdbc;
+    private JobLockRepository jobLockRepository;
+    private DataSourceTransactionManager transactionManager;
+    private MarketAnalysisDailyRepository dailyRepository;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:retention;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP ALL OBJECTS");
+        jdbc.execute("CREATE TABLE market_analysis (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "search_keyword VARCHAR(255) NOT NULL, category VARCHAR(255), average_price INT NOT NULL, "
+                + "lowest_price INT NOT NULL, top_item_name VARCHAR(500), sample_count INT NOT NULL, "
+                + "total_listings INT NOT NULL, competition_level VARCHAR(255), search_volume_ratio INT NOT NULL, "
+                + "market_attractiveness VARCHAR(255), sourcing_score INT NOT NULL, analysis_date TIMESTAMP(6))");
+        jdbc.execute("CREATE TABLE market_analysis_daily (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "search_keyword VARCHAR(255) NOT NULL, stat_date DATE NOT NULL, category VARCHAR(255), "
+                + "row_count BIGINT NOT NULL, sum_average_price BIGINT NOT NULL, sum_lowest_price BIGINT NOT NULL, "
+                + "min_lowest_price INT NOT NULL, sum_sourcing_score BIGINT NOT NULL, max_sourcing_score INT NOT NULL, "
+                + "sum_search_volume_ratio BIGINT NOT NULL, sum_total_listings BIGINT NOT NULL, "
+                + "CONSTRAINT uk_daily_keyword_date UNIQUE (search_keyword, stat_date))");
+        jdbc.execute("CREATE TABLE job_lock (name VARCHAR(64) PRIMARY KEY, locked_by VARCHAR(64), locked_until BIGINT NOT NULL)");
+        jdbc.update("INSERT INTO job_lock (name, locked_by, locked_until) VALUES (?, NULL, 0)", AnalysisRetentionJob.LOCK_NAME);
+
+        jobLockRepository = new JobLockRepository(jdbc);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        dailyRepository = mock(MarketAnalysisDailyRepository.class,
+                delegatesTo(new MarketAnalysisDailyRepositoryImpl(jdbc)));
+    }
+
+    @Test
+    void rollsUpRawRowsInChunksAndMergesIntoExistingDailyRows() {
+        LocalDate day1 = LocalDate.of(2025, 1, 8);
+        LocalDate day2 = LocalDate.of(2025, 1, 9);
+        // 앞선 실행에서 day1 일부가 이미 합쳐져 있음
+        jdbc.update("INSERT INTO market_analysis_daily (search_keyword, stat_date, category, row_count, sum_average_price, "
+                        + "sum_lowest_price, min_lowest_price, sum_sourcing_score, max_sourcing_score, "
+                        + "sum_search_volume_ratio, sum_total_listings) VALUES (?, ?, ?, 1, 10000, 5000, 5000, 40, 40, 10, 100)",
+                "캠핑의자", Date.valueOf(day1), "생활/건강");
+        insertRaw("캠핑의자", day1.atTime(9, 0), 20_000, 3_000, 60);
+        insertRaw("캠핑의자", day1.atTime(9, 0), 30_000, 4_000, 80);
+        insertRaw("캠핑의자", day2.atTime(12, 0), 50_000, 7_000, 70);
+        insertRaw("텀블러", day2.atTime(23, 59), 15_000, 9_000, 50);
+        insertRaw("텀블러", day2.atTime(23, 59), 25_000, 8_000, 30);
+        // 기준 시각 이후 행은 그대로 남음
+        insertRaw("텀블러", CUTOFF.plusHours(1), 99_000, 1_000, 99);
+
+        long rolled = job(2).rollUpBefore(CUTOFF);
+
+        assertThat(rolled).isEqualTo(5);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM market_analysis", Long.class)).isEqualTo(1);
+
+        Map<String, Object> chair1 = daily("캠핑의자", day1);
+        assertThat(((Number) chair1.get("row_count")).longValue()).isEqualTo(3);
+        assertThat(((Number) chair1.get("sum_average_price")).longValue()).isEqualTo(60_000);
+        assertThat(((Number) chair1.get("min_lowest_price")).intValue()).isEqualTo(3_000);
+        assertThat(((Number) chair1.get("max_sourcing_score")).intValue()).isEqualTo(80);
+        assertThat(chair1.get("category")).isEqualTo("생활/건강");
+
+        Map<String, Object> tumbler2 = daily("텀블러", day2);
+        assertThat(((Number) tumbler2.get("row_count")).longValue()).isEqualTo(2);
+        assertThat(((Number) tumbler2.get("sum_sourcing_score")).longValue()).isEqualTo(80);
+        assertThat(((Number) tumbler2.get("min_lowest_price")).intValue()).isEqualTo(8_000);
+
+        // 다시 실행해도 이중 집계 없음
+        assertThat(job(2).rollUpBefore(CUTOFF)).isZero();
+        assertThat(((Number) daily("캠핑의자", day1).get("row_count")).longValue()).isEqualTo(3);
+    }
+
+    @Test
+    void deletesOldDailyRowsInChunks() {
+        for (int day = 1; day <= 5; day++) {
+            jdbc.update("INSERT INTO market_analysis_daily (search_keyword, stat_date, row_count, sum_average_price, "
+                            + "sum_lowest_price, min_lowest_price, sum_sourcing_score, max_sourcing_score, "
+                            + "sum_search_volume_ratio, sum_total_listings) VALUES ('키워드', ?, 1, 0, 0, 0, 0, 0, 0, 0)",
+                    Date.valueOf(LocalDate.of(2023, 1, day)));
+        }
+
+        long deleted = job(2).deleteDailyBefore(LocalDate.of(2023, 1, 5));
+
+        assertThat(deleted).isEqualTo(4);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM market_analysis_daily", Long.class)).isEqualTo(1);
+    }
+
+    @Test
+    void onlyOneNodeHoldsTheLease() {
+        long now = 1_000_000;
+        assertThat(jobLockRepository.tryAcquire(AnalysisRetentionJob.LOCK_NAME, "node-a", now, 60_000)).isTrue();
+        assertThat(jobLockRepository.tryAcquire(AnalysisRetentionJob.LOCK_NAME, "node-b", now + 1, 60_000)).isFalse();
+
+        // 임대가 끝나면 다른 노드가 가져가고, 원래 노드는 연장하지 못함
+        assertThat(jobLockRepository.tryAcquire(AnalysisRetentionJob.LOCK_NAME, "node-b", now + 60_001, 60_000)).isTrue();
+        assertThat(jobLockRepository.renew(AnalysisRetentionJob.LOCK_NAME, "node-a", now + 60_002, 60_000)).isFalse();
+
+        jobLockRepository.release(AnalysisRetentionJob.LOCK_NAME, "node-b");
+        assertThat(jobLockRepository.tryAcquire(AnalysisRetentionJob.LOCK_NAME, "node-a", now + 60_003, 60_000)).isTrue();
+    }
+
+    @Test
+    void disabledJobDoesNotTouchRows() {
+        insertRaw("캠핑의자", LocalDateTime.now().minusDays(400), 20_000, 3_000, 60);
+        AnalysisRetentionJob job = new AnalysisRetentionJob(dailyRepository, jobLockRepository, transactionManager,
+                new SimpleMeterRegistry(), 30, 730, 2, 0, 10, false);
+
+        job.run();
+
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM market_analysis", Long.class)).isEqualTo(1);
+        assertThat(jdbc.queryForObject("SELECT locked_until FROM job_lock", Long.class)).isZero();
+    }
+
+    // 잠금을 잡은 상태로 청크 처리만 실행 (run() 의 날짜 계산은 건너뜀)
+    private AnalysisRetentionJob job(int chunkSize) {
+        AnalysisRetentionJob job = new AnalysisRetentionJob(dailyRepository, jobLockRepository, transactionManager,
+                new SimpleMeterRegistry(), 30, 730, chunkSize, 0, 10, true);
+        jdbc.update("UPDATE job_lock SET locked_by = ?, locked_until = ? WHERE name = ?",
+                job.lockOwner(), Long.MAX_VALUE, AnalysisRetentionJob.LOCK_NAME);
+        return job;
+    }
+
+    private void insertRaw(String keyword, LocalDateTime at, int averagePrice, int lowestPrice, int score) {
+        jdbc.update("INSERT INTO market_analysis (search_keyword, category, average_price, lowest_price, sample_count, "
+                        + "total_listings, search_volume_ratio, sourcing_score, analysis_date) "
+                        + "VALUES (?, '생활/건강', ?, ?, 10, 100, 10, ?, ?)",
+                keyword, averagePrice, lowestPrice, score, Timestamp.valueOf(at));
+    }
+
+    private Map<String, Object> daily(String keyword, LocalDate date) {
+        return jdbc.queryForMap("SELECT * FROM market_analysis_daily WHERE search_keyword = ? AND stat_date = ?",
+                keyword, Date.valueOf(date));
+    }
+}
@@ -0,0 +1,51 @@
+package com.smart.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smart.backend.dto.MarketAnalysisResponse;
+import com.smart.backend.event.AnalysisSavedEvent;
+import com.smart.backend.event.RemoteAnalysisSavedEvent;
+import com.smart.backend.support.InProcessClusterBus;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class AnalysisSavedRelayTest {
+
+    private final InProcessClusterBus.Hub hub = new InProcessClusterBus.Hub();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void savedResultsReachOtherNodesInBatches() {
+        ApplicationEventPublisher publisherA = mock(ApplicationEventPublisher.class);
+        ApplicationEventPublisher publisherB = mock(ApplicationEventPublisher.class);
+        AnalysisSavedRelay nodeA = new AnalysisSavedRelay(hub.join(), objectMapper, publisherA, 2);
+        new AnalysisSavedRelay(hub.join(), objectMapper, publisherB, 2);
+
+        LocalDateTime analyzedAt = LocalDateTime.of(2025, 3, 1, 12, 30);
+        for (long id = 1; id <= 3; id++) {
+            nodeA.onAnalysisSaved(new AnalysisSavedEvent(MarketAnalysisResponse.builder()
+                    .id(id).searchKeyword("캠핑의자" + id).sourcingScore(70).analysisDate(analyzedAt).build()));
+        }
+        nodeA.flush();
+
+        ArgumentCaptor<RemoteAnalysisSavedEvent> events = ArgumentCaptor.forClass(RemoteAnalysisSavedEvent.class);
+        verify(publisherB, times(2)).publishEvent(events.capture());
+        List<MarketAnalysisResponse> received = events.getAllValues().stream()
+                .flatMap(event -> event.getResults().stream())
+                .toList();
+        assertThat(received).extracting(MarketAnalysisResponse::getId).containsExactly(1L, 2L, 3L);
+        assertThat(received.get(0).getAnalysisDate()).isEqualTo(analyzedAt);
+        // 자기 노드의 저장분은 다시 받지 않음
+        verify(publisherA, never()).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,58 @@
+package com.smart.backend.service;
+
+import com.smart.backend.dto.KeywordHistoryResponse;
+import com.smart.backend.repository.MarketAnalysisDailyRepository;
+import com.smart.backend.repository.MarketAnalysisDailyRepositoryCustom.DailyAggregate;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MarketHistoryServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 1, 31);
+
+    private final MarketAnalysisDailyRepository repository = mock(MarketAnalysisDailyRepository.class);
+    private final MarketHistoryService service = new MarketHistoryService(repository, 366);
+
+    @Test
+    void mergesRollupAndRawRowsOfTheSameDay() {
+        LocalDate rolledDay = LocalDate.of(2025, 1, 2);
+        LocalDate splitDay = LocalDate.of(2025, 1, 3);
+        when(repository.findDaily("캠핑의자", FROM, TO)).thenReturn(List.of(
+                aggregate(rolledDay, 2, 20_000, 70),
+                aggregate(splitDay, 1, 10_000, 50)));
+        when(repository.aggregateRaw("캠핑의자", FROM, TO)).thenReturn(List.of(
+                aggregate(splitDay, 3, 90_000, 90)));
+
+        KeywordHistoryResponse history = service.history(" 캠핑의자 ", FROM, TO);
+
+        assertThat(history.getKeyword()).isEqualTo("캠핑의자");
+        assertThat(history.getPoints()).extracting(KeywordHistoryResponse.Point::getDate)
+                .containsExactly(rolledDay, splitDay);
+        KeywordHistoryResponse.Point split = history.getPoints().get(1);
+        assertThat(split.getSamples()).isEqualTo(4);
+        // (10,000 + 90,000) / 4
+        assertThat(split.getAveragePrice()).isEqualTo(25_000);
+        assertThat(split.getMaxSourcingScore()).isEqualTo(90);
+    }
+
+    @Test
+    void rejectsInvalidRanges() {
+        assertThatThrownBy(() -> service.history("키워드", TO, FROM)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.history("키워드", FROM, FROM.plusDays(366)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.history(" ", FROM, TO)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static DailyAggregate aggregate(LocalDate date, long rows, long sumAveragePrice, int maxScore) {
+        return new DailyAggregate(date, "생활/건강", rows, sumAveragePrice, sumAveragePrice, 1_000,
+                (long) maxScore * rows, maxScore, 10 * rows, 100 * rows);
+    }
+}
@@ -0,0 +1,116 @@
+package com.smart.backend.service;
+
+import com.smart.backend.dto.AnalysisPage;
+import com.smart.backend.dto.MarketAnalysisResponse;
+import com.smart.backend.repository.MarketAnalysisLatestRepository;
+import com.smart.backend.repository.MarketAnalysisRepository;
+import com.smart.backend.repository.NaverRankingRepository;
+import com.smart.backend.repository.RankingPointerRepository;
+import com.smart.backend.repository.RankingSnapshotRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 키셋 페이지/스트리밍 청크 경계. 저장소는 findPageAfter 와 같은 (analysisDate, id) 조건으로 메모리에서 흉내냅니다.
+ */
+class MarketServicePagingTest {
+
+    private static final LocalDateTime T1 = LocalDateTime.of(2025, 3, 1, 12, 0);
+    private static final LocalDateTime T2 = T1.plusMinutes(1);
+
+    private final MarketAnalysisRepository analysisRepository = mock(MarketAnalysisRepository.class);
+    private final MarketService marketService = new MarketService(analysisRepository,
+            mock(MarketAnalysisLatestRepository.class), mock(NaverRankingRepository.class),
+            mock(RankingSnapshotRepository.class), mock(RankingPointerRepository.class),
+            mock(ApplicationEventPublisher.class));
+
+    @Test
+    void pagesDoNotSkipOrRepeatRowsWithEqualAnalysisDate() {
+        // 같은 시각에 저장된 7건이 페이지 경계(3건)를 두 번 넘김
+        List<MarketAnalysisResponse> table = new ArrayList<>();
+        for (long id = 1; id <= 7; id++) {
+            table.add(row(id, T1));
+        }
+        table.add(row(8, T2));
+        table.add(row(9, T1.minusDays(1)));
+        stub(table);
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            AnalysisPage page = marketService.findAnalysisPage(cursor, 3);
+            page.getItems().forEach(item -> seen.add(item.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(seen).containsExactly(8L, 7L, 6L, 5L, 4L, 3L, 2L, 1L, 9L);
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    void streamsEveryRowOnceAcrossChunkBoundaries() {
+        // 청크(500건) 경계가 같은 analysisDate 묶음 한가운데에 걸리도록 구성
+        List<MarketAnalysisResponse> table = new ArrayList<>();
+        for (long id = 1; id <= 1_200; id++) {
+            table.add(row(id, id <= 900 ? T1 : T2));
+        }
+        stub(table);
+
+        List<Long> streamed = new ArrayList<>();
+        marketService.streamAllAnalysis(row -> streamed.add(row.getId()));
+
+        assertThat(streamed).hasSize(1_200).doesNotHaveDuplicates();
+        assertThat(streamed).isEqualTo(ordered(table.stream()).map(MarketAnalysisResponse::getId).toList());
+    }
+
+    @Test
+    void streamsNothingForAnEmptyTable() {
+        stub(List.of());
+
+        List<Long> streamed = new ArrayList<>();
+        marketService.streamAllAnalysis(row -> streamed.add(row.getId()));
+
+        assertThat(streamed).isEmpty();
+    }
+
+    private void stub(List<MarketAnalysisResponse> table) {
+        when(analysisRepository.findFirstPage(any())).thenAnswer(invocation ->
+                limit(ordered(table.stream()), invocation.getArgument(0)));
+        when(analysisRepository.findPageAfter(any(), any(), any())).thenAnswer(invocation -> {
+            LocalDateTime date = invocation.getArgument(0);
+            Long id = invocation.getArgument(1);
+            // where a.analysisDate < :analysisDate or (a.analysisDate = :analysisDate and a.id < :id)
+            Stream<MarketAnalysisResponse> after = table.stream().filter(row -> row.getAnalysisDate().isBefore(date)
+                    || (row.getAnalysisDate().isEqual(date) && row.getId() < id));
+            return limit(ordered(after), invocation.getArgument(2));
+        });
+    }
+
+    // order by a.analysisDate desc, a.id desc
+    private static Stream<MarketAnalysisResponse> ordered(Stream<MarketAnalysisResponse> rows) {
+        return rows.sorted(Comparator.comparing(MarketAnalysisResponse::getAnalysisDate)
+                .thenComparing(MarketAnalysisResponse::getId).reversed());
+    }
+
+    private static List<MarketAnalysisResponse> limit(Stream<MarketAnalysisResponse> rows, Pageable pageable) {
+        return rows.limit(pageable.getPageSize()).toList();
+    }
+
+    private static MarketAnalysisResponse row(long id, LocalDateTime analyzedAt) {
+        return MarketAnalysisResponse.builder().id(id).searchKeyword("키워드" + id).analysisDate(analyzedAt).build();
+    }
+}
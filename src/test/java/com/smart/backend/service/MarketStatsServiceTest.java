@@ -0,0 +1,85 @@
+package com.smart.backend.service;
+
+import com.smart.backend.dto.MarketAnalysisResponse;
+import com.smart.backend.event.AnalysisSavedEvent;
+import com.smart.backend.event.RemoteAnalysisSavedEvent;
+import com.smart.backend.repository.MarketAnalysisRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 기동 시 재구성(watermark 이하는 스캔)과 실시간 이벤트(watermark 초과)가 중복/누락 없이 합쳐지는지 확인합니다.
+ */
+class MarketStatsServiceTest {
+
+    private MarketAnalysisRepository analysisRepository;
+    private MarketStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        analysisRepository = mock(MarketAnalysisRepository.class);
+        // 청크 2건씩
+        statsService = new MarketStatsService(analysisRepository, 500, 2);
+    }
+
+    @Test
+    void eventsBeforeRebuildAreReplayedOnlyAboveTheWatermark() {
+        // 재구성 시작 시점의 최대 id 는 3, 스캔 도중 id 4 가 커밋됨
+        when(analysisRepository.findMaxId()).thenReturn(3L);
+        when(analysisRepository.findChunkAfter(eq(0L), any()))
+                .thenReturn(List.of(result(1L, "패션"), result(2L, "패션")));
+        when(analysisRepository.findChunkAfter(eq(2L), any()))
+                .thenReturn(List.of(result(3L, "패션"), result(4L, "식품")));
+
+        // 재구성 전에 도착한 이벤트는 보류: id 3 은 스캔이 담당, id 4 는 이벤트로 반영
+        statsService.onAnalysisSaved(new AnalysisSavedEvent(result(3L, "패션")));
+        statsService.onRemoteAnalysisSaved(new RemoteAnalysisSavedEvent(List.of(result(4L, "식품"))));
+        assertThat(statsService.overall().getCount()).isZero();
+
+        statsService.rebuild();
+
+        assertThat(statsService.overall().getCount()).isEqualTo(4);
+        assertThat(statsService.category("패션").getCount()).isEqualTo(3);
+        assertThat(statsService.category("식품").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void eventsAfterRebuildAtOrBelowTheWatermarkAreIgnored() {
+        when(analysisRepository.findMaxId()).thenReturn(2L);
+        when(analysisRepository.findChunkAfter(eq(0L), any()))
+                .thenReturn(List.of(result(1L, "패션"), result(2L, "패션")));
+        statsService.rebuild();
+
+        // 다른 노드가 늦게 전달한 이미 스캔된 행, 그리고 새 행
+        statsService.onRemoteAnalysisSaved(new RemoteAnalysisSavedEvent(List.of(result(2L, "패션"))));
+        statsService.onAnalysisSaved(new AnalysisSavedEvent(result(5L, "식품")));
+
+        assertThat(statsService.overall().getCount()).isEqualTo(3);
+        assertThat(statsService.category("패션").getCount()).isEqualTo(2);
+        assertThat(statsService.category("식품").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void emptyTableStartsFromEventsOnly() {
+        statsService.onAnalysisSaved(new AnalysisSavedEvent(result(1L, "패션")));
+
+        statsService.rebuild();
+        statsService.onAnalysisSaved(new AnalysisSavedEvent(result(2L, "패션")));
+
+        assertThat(statsService.overall().getCount()).isEqualTo(2);
+    }
+
+    private static MarketAnalysisResponse result(Long id, String category) {
+        return new MarketAnalysisResponse(id, "키워드" + id, category, 20_000, 10_000, "상품", 40,
+                1_000, "보통", 50, "보통", 60, LocalDateTime.of(2025, 3, 1, 9, 0));
+    }
+}
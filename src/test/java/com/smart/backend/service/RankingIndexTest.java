@@ -0,0 +1,110 @@
+package com.smart.backend.service;
+
+import com.smart.backend.dto.CurrentRanking;
+import com.smart.backend.dto.RankingItem;
+import com.smart.backend.event.RankingUpdatedEvent;
+import com.smart.backend.support.InProcessClusterBus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 두 노드(RankingIndex)를 InProcessClusterBus 로 연결하고, primary 의 현재 랭킹은 공유 참조로 흉내냅니다.
+ */
+class RankingIndexTest {
+
+    private final InProcessClusterBus.Hub hub = new InProcessClusterBus.Hub();
+    // primary 의 ranking_current 포인터 + 항목
+    private final AtomicReference<CurrentRanking> primary = new AtomicReference<>(ranking(1, "[패션] 원피스"));
+
+    @Test
+    void otherNodeRebuildsFromPrimaryWithoutTouchingTheCache() {
+        MarketService serviceA = service();
+        MarketService serviceB = service();
+        RankingIndex nodeA = new RankingIndex(serviceA, hub.join(), 10, 3600);
+        RankingIndex nodeB = new RankingIndex(serviceB, hub.join(), 10, 3600);
+        assertThat(nodeA.current().getSnapshotId()).isEqualTo(1);
+        assertThat(nodeB.current().getSnapshotId()).isEqualTo(1);
+
+        // 노드 A 에서 랭킹 저장 커밋
+        primary.set(ranking(2, "[식품] 사과"));
+        nodeA.onRankingUpdated(new RankingUpdatedEvent(2L, primary.get().getItems()));
+
+        assertThat(nodeA.current().getSnapshotId()).isEqualTo(2);
+        assertThat(nodeB.current().getSnapshotId()).isEqualTo(2);
+        assertThat(nodeB.current().category("식품")).extracting(RankingItem::getKeyword).containsExactly("[식품] 사과");
+        // 아직 비워지지 않았을 수 있는 L1/L2 캐시는 읽지 않음
+        verify(serviceB, never()).getNaverShoppingRanking();
+    }
+
+    @Test
+    void lateOrDuplicateUpdatesDoNotRollBack() {
+        MarketService serviceB = service();
+        RankingIndex nodeA = new RankingIndex(service(), hub.join(), 10, 3600);
+        RankingIndex nodeB = new RankingIndex(serviceB, hub.join(), 10, 3600);
+        primary.set(ranking(3, "[식품] 배"));
+        assertThat(nodeB.current().getSnapshotId()).isEqualTo(3);
+
+        // 늦게 도착한 이전 스냅샷 알림/이벤트
+        nodeA.onRankingUpdated(new RankingUpdatedEvent(2L, List.of(new RankingItem(1, "[식품] 사과", 1))));
+        nodeB.publish(2, List.of(new RankingItem(1, "[식품] 사과", 1)));
+
+        assertThat(nodeB.current().getSnapshotId()).isEqualTo(3);
+        verify(serviceB, times(1)).loadCurrentRanking();
+    }
+
+    @Test
+    void snapshotBuiltDuringInvalidationIsNotInstalled() {
+        MarketService serviceB = mock(MarketService.class);
+        RankingIndex nodeA = new RankingIndex(service(), hub.join(), 10, 3600);
+        RankingIndex nodeB = new RankingIndex(serviceB, hub.join(), 10, 3600);
+        AtomicInteger calls = new AtomicInteger();
+        when(serviceB.loadCurrentRanking()).thenAnswer(invocation -> {
+            CurrentRanking read = primary.get();
+            if (calls.incrementAndGet() == 1) {
+                // 노드 B 가 스냅샷 #1 을 읽은 직후 노드 A 가 #2 로 전환하고 알림 (B 의 재구성 도중 무효화)
+                primary.set(ranking(2, "[식품] 사과"));
+                nodeA.onRankingUpdated(new RankingUpdatedEvent(2L, primary.get().getItems()));
+            }
+            return read;
+        });
+
+        // 이번 요청은 읽은 스냅샷으로 응답하지만 설치되지 않아, 다음 조회는 새로 만듭니다.
+        assertThat(nodeB.current().getSnapshotId()).isEqualTo(1);
+        assertThat(nodeB.current().getSnapshotId()).isEqualTo(2);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void rebuildsAfterMaxAgeEvenWithoutNotification() throws Exception {
+        MarketService serviceB = service();
+        RankingIndex nodeB = new RankingIndex(serviceB, hub.join(), 10, 1);
+        assertThat(nodeB.current().getSnapshotId()).isEqualTo(1);
+
+        // 알림이 유실된 갱신
+        primary.set(ranking(2, "[식품] 사과"));
+        assertThat(nodeB.current().getSnapshotId()).isEqualTo(1);
+
+        Thread.sleep(1_100);
+        assertThat(nodeB.current().getSnapshotId()).isEqualTo(2);
+    }
+
+    private MarketService service() {
+        MarketService service = mock(MarketService.class);
+        when(service.loadCurrentRanking()).thenAnswer(invocation -> primary.get());
+        return service;
+    }
+
+    private static CurrentRanking ranking(long snapshotId, String keyword) {
+        return new CurrentRanking(snapshotId, List.of(new RankingItem(1, keyword, 100)));
+    }
+}
@@ -0,0 +1,136 @@
+package com.smart.backend.service;
+
+import com.smart.backend.dto.RankingItem;
+import com.smart.backend.entity.RankingPointer;
+import com.smart.backend.entity.RankingSnapshot;
+import com.smart.backend.event.RankingUpdatedEvent;
+import com.smart.backend.repository.MarketAnalysisLatestRepository;
+import com.smart.backend.repository.MarketAnalysisRepository;
+import com.smart.backend.repository.NaverRankingRepository;
+import com.smart.backend.repository.RankingPointerRepository;
+import com.smart.backend.repository.RankingSnapshotRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 랭킹 스냅샷 저장(포인터 전환)과 이전 스냅샷 정리.
+ */
+class RankingSnapshotTest {
+
+    private static final List<RankingItem> RANKING = List.of(new RankingItem(1, "[식품] 사과", 100));
+
+    private final NaverRankingRepository rankingRepository = mock(NaverRankingRepository.class);
+    private final RankingSnapshotRepository snapshotRepository = mock(RankingSnapshotRepository.class);
+    private final RankingPointerRepository pointerRepository = mock(RankingPointerRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final MarketService marketService = new MarketService(mock(MarketAnalysisRepository.class),
+            mock(MarketAnalysisLatestRepository.class), rankingRepository, snapshotRepository, pointerRepository,
+            eventPublisher);
+
+    @Test
+    void savesItemsUnderNewSnapshotAndSwitchesPointer() {
+        when(snapshotRepository.save(any())).thenReturn(new RankingSnapshot(7L, LocalDateTime.now(), 1));
+        when(pointerRepository.switchTo(eq(7L), any())).thenReturn(1);
+
+        marketService.saveNaverRanking(RANKING);
+
+        verify(rankingRepository).insertSnapshotItems(eq(7L), eq(RANKING), any());
+        ArgumentCaptor<RankingUpdatedEvent> event = ArgumentCaptor.forClass(RankingUpdatedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getSnapshotId()).isEqualTo(7L);
+        // 포인터 행은 UPDATE 만 (첫 저장 때도 INSERT 경쟁 없음)
+        verify(pointerRepository, never()).save(any());
+    }
+
+    @Test
+    void olderSnapshotCommittedLateDoesNotBecomeCurrent() {
+        when(snapshotRepository.save(any())).thenReturn(new RankingSnapshot(7L, LocalDateTime.now(), 1));
+        // 포인터가 이미 더 새로운 스냅샷(#8)을 가리킴
+        when(pointerRepository.switchTo(eq(7L), any())).thenReturn(0);
+        when(pointerRepository.existsById(RankingPointer.CURRENT_ID)).thenReturn(true);
+
+        marketService.saveNaverRanking(RANKING);
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void failsWhenPointerRowIsMissing() {
+        when(snapshotRepository.save(any())).thenReturn(new RankingSnapshot(7L, LocalDateTime.now(), 1));
+        when(pointerRepository.switchTo(eq(7L), any())).thenReturn(0);
+        when(pointerRepository.existsById(RankingPointer.CURRENT_ID)).thenReturn(false);
+
+        assertThatThrownBy(() -> marketService.saveNaverRanking(RANKING)).isInstanceOf(IllegalStateException.class);
+        verify(pointerRepository, never()).save(any());
+    }
+
+    @Test
+    void readsLegacyRankingUntilPointerIsSet() {
+        List<RankingItem> legacy = List.of(new RankingItem(1, "[패션] 원피스", 50));
+        when(pointerRepository.findById(RankingPointer.CURRENT_ID))
+                .thenReturn(Optional.of(new RankingPointer(RankingPointer.CURRENT_ID, null, null)));
+        when(rankingRepository.findLegacyRanking()).thenReturn(legacy);
+        assertThat(marketService.loadCurrentRanking().getItems()).isEqualTo(legacy);
+
+        when(pointerRepository.findById(RankingPointer.CURRENT_ID))
+                .thenReturn(Optional.of(new RankingPointer(RankingPointer.CURRENT_ID, 7L, LocalDateTime.now())));
+        when(rankingRepository.findSnapshotRanking(7L)).thenReturn(RANKING);
+        assertThat(marketService.loadCurrentRanking().getSnapshotId()).isEqualTo(7L);
+        assertThat(marketService.getNaverShoppingRanking()).isEqualTo(RANKING);
+    }
+
+    @Test
+    void cleanerKeepsCurrentAndRetainedSnapshots() {
+        RankingSnapshotCleaner cleaner = new RankingSnapshotCleaner(rankingRepository, snapshotRepository,
+                pointerRepository, mock(PlatformTransactionManager.class), 2, 100);
+        when(pointerRepository.findById(RankingPointer.CURRENT_ID))
+                .thenReturn(Optional.of(new RankingPointer(RankingPointer.CURRENT_ID, 10L, LocalDateTime.now())));
+        when(snapshotRepository.findIdsOlderThan(10L)).thenReturn(List.of(9L, 8L, 7L, 6L));
+        // #7 은 청크 두 번에 걸쳐 삭제
+        when(rankingRepository.deleteSnapshotChunk(7L, 100)).thenReturn(100, 20);
+        when(rankingRepository.deleteSnapshotChunk(6L, 100)).thenReturn(30);
+
+        cleaner.cleanup();
+
+        verify(rankingRepository).deleteSnapshotChunk(isNull(), eq(100));
+        verify(rankingRepository, times(2)).deleteSnapshotChunk(7L, 100);
+        verify(snapshotRepository).deleteById(7L);
+        verify(snapshotRepository).deleteById(6L);
+        verify(rankingRepository, never()).deleteSnapshotChunk(eq(9L), anyInt());
+        verify(rankingRepository, never()).deleteSnapshotChunk(eq(8L), anyInt());
+        verify(snapshotRepository, never()).deleteById(10L);
+    }
+
+    @Test
+    void cleanerDoesNothingBeforeFirstSnapshot() {
+        RankingSnapshotCleaner cleaner = new RankingSnapshotCleaner(rankingRepository, snapshotRepository,
+                pointerRepository, mock(PlatformTransactionManager.class), 2, 100);
+        when(pointerRepository.findById(RankingPointer.CURRENT_ID))
+                .thenReturn(Optional.of(new RankingPointer(RankingPointer.CURRENT_ID, null, null)));
+
+        cleaner.cleanup();
+
+        // 이전 방식 랭킹은 아직 현재 랭킹이므로 지우지 않음
+        verify(rankingRepository, never()).deleteSnapshotChunk(any(), anyInt());
+        verify(snapshotRepository, never()).findIdsOlderThan(anyLong());
+    }
+}
@@ -0,0 +1,116 @@
+package com.smart.backend.service;
+
+import com.smart.backend.support.InMemorySqsAsyncClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqsBatchProducerTest {
+
+    private final InMemorySqsAsyncClient sqs = new InMemorySqsAsyncClient();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SqsBatchProducer producer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        sqs.resume();
+        if (producer != null) {
+            producer.stop();
+        }
+    }
+
+    @Test
+    void flushesInBatchesOfAtMostTen() throws Exception {
+        producer = new SqsBatchProducer(sqs, meterRegistry, "http://localhost/queue/test", 10, 50, 100, 4);
+        producer.start();
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            futures.add(producer.enqueue("{\"keyword\":\"k" + i + "\"}"));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        assertThat(sqs.sentBodies()).hasSize(25);
+        assertThat(sqs.batchSizes()).allSatisfy(size -> assertThat(size).isBetween(1, 10));
+        assertThat(sqs.batchSizes().stream().mapToInt(Integer::intValue).sum()).isEqualTo(25);
+        assertThat(meterRegistry.get("sqs.producer.flush.size").summary().count())
+                .isEqualTo(sqs.batchSizes().size());
+    }
+
+    @Test
+    void rejectsWhenBufferIsFull() throws Exception {
+        producer = new SqsBatchProducer(sqs, meterRegistry, "http://localhost/queue/test", 10, 5, 5, 1);
+        producer.start();
+        sqs.pause();
+
+        List<CompletableFuture<String>> accepted = new ArrayList<>();
+        boolean rejected = false;
+        for (int i = 0; i < 100 && !rejected; i++) {
+            try {
+                accepted.add(producer.enqueue("{\"keyword\":\"k" + i + "\"}"));
+            } catch (SqsBackpressureException e) {
+                rejected = true;
+            }
+            Thread.sleep(1);
+        }
+
+        assertThat(rejected).isTrue();
+        assertThat(meterRegistry.get("sqs.producer.rejected").counter().count()).isEqualTo(1.0);
+
+        // 응답이 재개되면 수락된 메시지는 모두 전송 완료되어야 합니다.
+        sqs.resume();
+        CompletableFuture.allOf(accepted.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        assertThat(sqs.sentBodies()).hasSize(accepted.size());
+    }
+
+    @Test
+    void messagesAcceptedDuringShutdownAreNeverLeftPending() throws Exception {
+        producer = new SqsBatchProducer(sqs, meterRegistry, "http://localhost/queue/test", 10, 1, 10_000, 32);
+        producer.start();
+
+        List<CompletableFuture<String>> accepted = Collections.synchronizedList(new ArrayList<>());
+        AtomicBoolean stopping = new AtomicBoolean();
+        CountDownLatch started = new CountDownLatch(4);
+        List<Thread> senders = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread sender = new Thread(() -> {
+                started.countDown();
+                for (int i = 0; ; i++) {
+                    try {
+                        accepted.add(producer.enqueue("{\"keyword\":\"k" + i + "\"}"));
+                    } catch (SqsBackpressureException e) {
+                        // 버퍼 포화로 인한 거절은 계속 시도, 종료 이후 거절이면 끝
+                        if (stopping.get()) {
+                            return;
+                        }
+                    }
+                }
+            });
+            sender.start();
+            senders.add(sender);
+        }
+        started.await();
+        Thread.sleep(20);
+
+        stopping.set(true);
+        producer.stop();
+        for (Thread sender : senders) {
+            sender.join(5_000);
+        }
+
+        // 거절되지 않은 메시지는 모두 전송(완료)되어야 합니다.
+        CompletableFuture.allOf(accepted.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        assertThat(sqs.sentBodies()).hasSize(accepted.size());
+        assertThat(producer.bufferDepth()).isZero();
+    }
+}
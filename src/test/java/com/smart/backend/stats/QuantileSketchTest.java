@@ -0,0 +1,65 @@
+package com.smart.backend.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuantileSketchTest {
+
+    private static final double[] QUANTILES = {0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99, 0.999};
+
+    @Test
+    void quantilesStayWithinOnePercentOfExactValues() {
+        // 가격 분포와 비슷한 로그정규 분포 (중앙값 약 3만원)
+        Random random = new Random(42);
+        long[] values = new long[200_000];
+        QuantileSketch sketch = new QuantileSketch(40);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.round(Math.exp(10.3 + 1.2 * random.nextGaussian()));
+            sketch.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        assertThat(sketch.count()).isEqualTo(values.length);
+        for (double q : QUANTILES) {
+            long exact = values[(int) Math.ceil(q * values.length) - 1];
+            long estimate = sketch.quantile(q);
+            assertThat((double) Math.abs(estimate - exact))
+                    .as("q=%s exact=%d estimate=%d", q, exact, estimate)
+                    .isLessThanOrEqualTo(Math.max(1.0, exact * 0.01));
+        }
+    }
+
+    @Test
+    void mergedSketchMatchesSingleSketch() {
+        Random random = new Random(7);
+        QuantileSketch single = new QuantileSketch(40);
+        QuantileSketch left = new QuantileSketch(40);
+        QuantileSketch right = new QuantileSketch(40);
+        for (int i = 0; i < 50_000; i++) {
+            long value = random.nextInt(1_000_000);
+            single.record(value);
+            (i % 2 == 0 ? left : right).record(value);
+        }
+
+        left.mergeFrom(right);
+
+        assertThat(left.count()).isEqualTo(single.count());
+        for (double q : QUANTILES) {
+            assertThat(left.quantile(q)).isEqualTo(single.quantile(q));
+        }
+    }
+
+    @Test
+    void smallValuesAreExact() {
+        QuantileSketch sketch = new QuantileSketch(40);
+        for (int score = 0; score <= 100; score++) {
+            sketch.record(score);
+        }
+        assertThat(sketch.quantile(0.5)).isEqualTo(50);
+        assertThat(sketch.quantile(1.0)).isEqualTo(100);
+    }
+}
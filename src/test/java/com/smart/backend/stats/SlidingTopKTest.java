@@ -0,0 +1,91 @@
+package com.smart.backend.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingTopKTest {
+
+    private static final long MINUTE = 60_000;
+
+    @Test
+    void findsHeavyHittersAmongManyRareKeys() {
+        SlidingTopK topK = new SlidingTopK(10, MINUTE, 4, 16);
+        Random random = new Random(7);
+        Map<String, Long> exact = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            // 인기 키워드 5개가 절반, 나머지는 5만 종류의 드문 키워드
+            String key = random.nextBoolean() ? "hot-" + random.nextInt(5) : "rare-" + random.nextInt(50_000);
+            topK.record(key, 1_000);
+            exact.merge(key, 1L, Long::sum);
+        }
+
+        List<SlidingTopK.HeavyHitter> top = topK.top(5, 1, 1_000);
+
+        assertThat(top).extracting(SlidingTopK.HeavyHitter::key)
+                .containsExactlyInAnyOrder("hot-0", "hot-1", "hot-2", "hot-3", "hot-4");
+        for (SlidingTopK.HeavyHitter hitter : top) {
+            long actual = exact.get(hitter.key());
+            assertThat(hitter.count()).isGreaterThanOrEqualTo(actual);
+            assertThat(hitter.count() - hitter.error()).isLessThanOrEqualTo(actual);
+        }
+    }
+
+    @Test
+    void windowOnlyCoversRecentSlots() {
+        SlidingTopK topK = new SlidingTopK(5, MINUTE, 2, 8);
+        topK.record("old", 0);
+        topK.record("old", 0);
+        topK.record("recent", 3 * MINUTE);
+
+        assertThat(topK.top(10, 1, 3 * MINUTE)).extracting(SlidingTopK.HeavyHitter::key).containsExactly("recent");
+        assertThat(topK.top(10, 5, 3 * MINUTE)).extracting(SlidingTopK.HeavyHitter::key).containsExactly("old", "recent");
+        // 한 바퀴(5구간) 지난 뒤에는 같은 자리를 새 구간이 재사용
+        topK.record("new", 5 * MINUTE);
+        assertThat(topK.top(10, 5, 5 * MINUTE)).extracting(SlidingTopK.HeavyHitter::key).containsExactlyInAnyOrder("recent", "new");
+    }
+
+    @Test
+    void keyEvictedInOneSlotKeepsUpperBoundAcrossWindow() {
+        SlidingTopK topK = new SlidingTopK(5, MINUTE, 1, 2);
+        for (int i = 0; i < 5; i++) {
+            topK.record("a", 0);
+        }
+        // 다음 구간에서는 "a" 가 한 번 기록된 뒤 밀려남
+        topK.record("a", MINUTE);
+        topK.record("b", MINUTE);
+        topK.record("c", MINUTE);
+
+        SlidingTopK.HeavyHitter a = topK.top(10, 2, MINUTE).stream()
+                .filter(hitter -> hitter.key().equals("a"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(a.count()).isGreaterThanOrEqualTo(6);
+        assertThat(a.count() - a.error()).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    void boundsHoldAcrossSlotsWithEvictions() {
+        SlidingTopK topK = new SlidingTopK(4, MINUTE, 2, 4);
+        Random random = new Random(11);
+        Map<String, Long> exact = new HashMap<>();
+        for (int slot = 0; slot < 4; slot++) {
+            for (int i = 0; i < 2_000; i++) {
+                String key = "k-" + (int) Math.abs(random.nextGaussian() * 6);
+                topK.record(key, slot * MINUTE);
+                exact.merge(key, 1L, Long::sum);
+            }
+        }
+
+        for (SlidingTopK.HeavyHitter hitter : topK.top(100, 4, 3 * MINUTE)) {
+            long actual = exact.get(hitter.key());
+            assertThat(hitter.count()).as(hitter.key()).isGreaterThanOrEqualTo(actual);
+            assertThat(hitter.count() - hitter.error()).as(hitter.key()).isLessThanOrEqualTo(actual);
+        }
+    }
+}
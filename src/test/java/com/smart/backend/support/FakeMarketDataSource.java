@@ -0,0 +1,78 @@
+package com.smart.backend.support;
+
+import com.smart.backend.analysis.MarketDataSource;
+import com.smart.backend.analysis.MarketDataUnavailableException;
+import com.smart.backend.analysis.ShoppingSearchResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 MarketDataSource. 키워드별로 미리 넣어 둔 결과를 돌려주고 동시 호출 수의 최대값을 기록합니다.
+ */
+public class FakeMarketDataSource implements MarketDataSource {
+
+    private final Map<String, ShoppingSearchResult> searches = new ConcurrentHashMap<>();
+    private final Map<String, Integer> ratios = new ConcurrentHashMap<>();
+    private final Set<String> unavailable = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger activeSearches = new AtomicInteger();
+    private final AtomicInteger maxActiveSearches = new AtomicInteger();
+    private final long delayMillis;
+
+    public FakeMarketDataSource(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    public FakeMarketDataSource register(String keyword, int ratio, int... prices) {
+        List<ShoppingSearchResult.Item> items = new ArrayList<>();
+        for (int i = 0; i < prices.length; i++) {
+            items.add(new ShoppingSearchResult.Item("<b>" + keyword + "</b> 상품 " + i, String.valueOf(prices[i]), "생활/건강"));
+        }
+        searches.put(keyword, new ShoppingSearchResult(prices.length * 10L, items));
+        ratios.put(keyword, ratio);
+        return this;
+    }
+
+    // 쇼핑 검색 호출이 실패하는 키워드 (429/5xx 흉내)
+    public FakeMarketDataSource unavailable(String keyword) {
+        unavailable.add(keyword);
+        return this;
+    }
+
+    public int maxActiveSearches() {
+        return maxActiveSearches.get();
+    }
+
+    @Override
+    public ShoppingSearchResult searchShopping(String keyword) {
+        int active = activeSearches.incrementAndGet();
+        maxActiveSearches.accumulateAndGet(active, Math::max);
+        try {
+            sleep();
+            if (unavailable.contains(keyword)) {
+                throw new MarketDataUnavailableException("네이버 쇼핑 API 오류 (429)", null);
+            }
+            return searches.getOrDefault(keyword, ShoppingSearchResult.empty());
+        } finally {
+            activeSearches.decrementAndGet();
+        }
+    }
+
+    @Override
+    public int recentSearchRatio(String keyword) {
+        sleep();
+        return ratios.getOrDefault(keyword, 0);
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.smart.backend.support;
+
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlResponse;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 테스트용 인메모리 SqsAsyncClient.
+ * 전송된 메시지를 큐에 보관하고, pause() 상태에서는 응답을 resume() 시점까지 보류합니다.
+ */
+public class InMemorySqsAsyncClient implements SqsAsyncClient {
+
+    private final Queue<Message> queue = new ConcurrentLinkedQueue<>();
+    private final List<String> sentBodies = new CopyOnWriteArrayList<>();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private final List<Runnable> pending = new ArrayList<>();
+    private boolean paused;
+
+    public synchronized void pause() {
+        paused = true;
+    }
+
+    public void resume() {
+        List<Runnable> toRun;
+        synchronized (this) {
+            paused = false;
+            toRun = new ArrayList<>(pending);
+            pending.clear();
+        }
+        toRun.forEach(Runnable::run);
+    }
+
+    public List<String> sentBodies() {
+        return sentBodies;
+    }
+
+    public List<Integer> batchSizes() {
+        return batchSizes;
+    }
+
+    @Override
+    public CompletableFuture<SendMessageResponse> sendMessage(SendMessageRequest request) {
+        String messageId = store(request.messageBody());
+        return respond(SendMessageResponse.builder().messageId(messageId).build());
+    }
+
+    @Override
+    public CompletableFuture<SendMessageBatchResponse> sendMessageBatch(SendMessageBatchRequest request) {
+        batchSizes.add(request.entries().size());
+        List<SendMessageBatchResultEntry> successful = new ArrayList<>();
+        request.entries().forEach(entry -> successful.add(SendMessageBatchResultEntry.builder()
+                .id(entry.id())
+                .messageId(store(entry.messageBody()))
+                .build()));
+        return respond(SendMessageBatchResponse.builder().successful(successful).failed(List.of()).build());
+    }
+
+    @Override
+    public CompletableFuture<ReceiveMessageResponse> receiveMessage(ReceiveMessageRequest request) {
+        int max = request.maxNumberOfMessages() != null ? request.maxNumberOfMessages() : 1;
+        List<Message> messages = new ArrayList<>();
+        Message message;
+        while (messages.size() < max && (message = queue.poll()) != null) {
+            messages.add(message);
+        }
+        return CompletableFuture.completedFuture(ReceiveMessageResponse.builder().messages(messages).build());
+    }
+
+    @Override
+    public CompletableFuture<DeleteMessageResponse> deleteMessage(DeleteMessageRequest request) {
+        return CompletableFuture.completedFuture(DeleteMessageResponse.builder().build());
+    }
+
+    @Override
+    public CompletableFuture<DeleteMessageBatchResponse> deleteMessageBatch(DeleteMessageBatchRequest request) {
+        List<DeleteMessageBatchResultEntry> successful = request.entries().stream()
+                .map(entry -> DeleteMessageBatchResultEntry.builder().id(entry.id()).build())
+                .toList();
+        return CompletableFuture.completedFuture(DeleteMessageBatchResponse.builder().successful(successful).build());
+    }
+
+    @Override
+    public CompletableFuture<GetQueueUrlResponse> getQueueUrl(GetQueueUrlRequest request) {
+        return CompletableFuture.completedFuture(GetQueueUrlResponse.builder()
+                .queueUrl("http://localhost/queue/" + request.queueName())
+                .build());
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private String store(String body) {
+        String messageId = UUID.randomUUID().toString();
+        sentBodies.add(body);
+        queue.add(Message.builder().messageId(messageId).receiptHandle(messageId).body(body).build());
+        return messageId;
+    }
+
+    private <T> CompletableFuture<T> respond(T response) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        synchronized (this) {
+            if (paused) {
+                pending.add(() -> future.complete(response));
+                return future;
+            }
+        }
+        future.complete(response);
+        return future;
+    }
+}
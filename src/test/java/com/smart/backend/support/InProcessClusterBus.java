@@ -0,0 +1,53 @@
+package com.smart.backend.support;
+
+import com.smart.backend.cache.ClusterBus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 테스트용 Redis pub/sub 대체: 같은 Hub 에 연결된 노드끼리 메시지를 동기적으로 주고받습니다.
+ */
+public class InProcessClusterBus implements ClusterBus {
+
+    public static class Hub {
+        private final List<InProcessClusterBus> nodes = new CopyOnWriteArrayList<>();
+
+        public InProcessClusterBus join() {
+            InProcessClusterBus node = new InProcessClusterBus(this);
+            nodes.add(node);
+            return node;
+        }
+    }
+
+    private final Hub hub;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    private InProcessClusterBus(Hub hub) {
+        this.hub = hub;
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void publish(String topic, String payload) {
+        for (InProcessClusterBus node : hub.nodes) {
+            if (node != this) {
+                node.listeners.getOrDefault(topic, List.of()).forEach(listener -> listener.accept(payload));
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(String topic, Consumer<String> listener) {
+        listeners.computeIfAbsent(topic, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+}